@@ -0,0 +1,139 @@
+package io.github.luccaflower.codec;
+
+import io.github.luccaflower.result.*;
+
+import java.nio.*;
+import java.nio.charset.*;
+
+/**
+ * The stateless codecs shared by the factory methods of {@link ValueCodec}.
+ */
+final class Codecs {
+    private Codecs() {}
+
+    static final ValueCodec<String> UTF8 = new ValueCodec<>() {
+        @Override
+        public void write(String value, ByteBuffer buffer) {
+            buffer.put(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String read(ByteBuffer buffer) {
+            if (buffer.hasArray()) {
+                String value = new String(
+                    buffer.array(),
+                    buffer.arrayOffset() + buffer.position(),
+                    buffer.remaining(),
+                    StandardCharsets.UTF_8
+                );
+                buffer.position(buffer.limit());
+                return value;
+            }
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    static final ValueCodec<Integer> INTEGERS = new ValueCodec<>() {
+        @Override
+        public void write(Integer value, ByteBuffer buffer) {
+            buffer.putInt(value);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+    };
+
+    static final ValueCodec<Long> LONGS = new ValueCodec<>() {
+        @Override
+        public void write(Long value, ByteBuffer buffer) {
+            buffer.putLong(value);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+    };
+
+    static final ValueCodec<Double> DOUBLES = new ValueCodec<>() {
+        @Override
+        public void write(Double value, ByteBuffer buffer) {
+            buffer.putDouble(value);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer) {
+            return buffer.getDouble();
+        }
+    };
+
+    static final ValueCodec<byte[]> BYTES = new ValueCodec<>() {
+        @Override
+        public void write(byte[] value, ByteBuffer buffer) {
+            buffer.put(value);
+        }
+
+        @Override
+        public byte[] read(ByteBuffer buffer) {
+            byte[] value = new byte[buffer.remaining()];
+            buffer.get(value);
+            return value;
+        }
+    };
+
+    static final ValueCodec<ByteBuffer> SLICES = new ValueCodec<>() {
+        @Override
+        public void write(ByteBuffer value, ByteBuffer buffer) {
+            buffer.put(value.duplicate());
+        }
+
+        @Override
+        public ByteBuffer read(ByteBuffer buffer) {
+            ByteBuffer slice = buffer.slice().asReadOnlyBuffer();
+            buffer.position(buffer.limit());
+            return slice;
+        }
+    };
+
+    static final ValueCodec<Unit> UNITS = new ValueCodec<>() {
+        @Override
+        public void write(Unit value, ByteBuffer buffer) {}
+
+        @Override
+        public Unit read(ByteBuffer buffer) {
+            return Unit.unit();
+        }
+    };
+
+    static final ValueCodec<Exception> EXCEPTIONS = new ValueCodec<>() {
+        private static final byte NO_MESSAGE = 0;
+        private static final byte MESSAGE = 1;
+
+        @Override
+        public void write(Exception value, ByteBuffer buffer) {
+            String className = value instanceof DecodedException
+                ? ((DecodedException) value).className()
+                : value.getClass().getName();
+            byte[] name = className.getBytes(StandardCharsets.UTF_8);
+            buffer.putInt(name.length).put(name);
+            if (value.getMessage() == null) {
+                buffer.put(NO_MESSAGE);
+            } else {
+                buffer.put(MESSAGE);
+                UTF8.write(value.getMessage(), buffer);
+            }
+        }
+
+        @Override
+        public Exception read(ByteBuffer buffer) {
+            byte[] name = new byte[buffer.getInt()];
+            buffer.get(name);
+            String message = buffer.get() == MESSAGE ? UTF8.read(buffer) : null;
+            return new DecodedException(new String(name, StandardCharsets.UTF_8), message);
+        }
+    };
+}
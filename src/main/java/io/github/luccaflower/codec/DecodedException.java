@@ -0,0 +1,45 @@
+package io.github.luccaflower.codec;
+
+import java.util.*;
+
+/**
+ * An Exception read back by {@link ValueCodec#exceptions()}. It keeps the
+ * message and the class name of the Exception that was written, but none of
+ * its stack trace.
+ */
+@SuppressWarnings("unused")
+public class DecodedException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    private final String className;
+
+    public DecodedException(String className, String message) {
+        super(message, null, false, false);
+        this.className = className;
+    }
+
+    /**
+     * Returns the fully qualified class name of the Exception that was written.
+     */
+    public String className() {
+        return className;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof DecodedException
+            && ((DecodedException) other).className.equals(className)
+            && Objects.equals(((DecodedException) other).getMessage(), getMessage());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * className.hashCode() + Objects.hashCode(getMessage());
+    }
+
+    @Override
+    public String toString() {
+        String message = getLocalizedMessage();
+        return message != null ? className + ": " + message : className;
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.luccaflower.codec;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+
+/**
+ * The framing shared by {@link ResultCodec}, {@link OptionCodec} and
+ * {@link io.github.luccaflower.store.OutcomeStore}: a one-byte tag, and for
+ * tags that carry a payload, a four-byte length followed by the payload as
+ * written by a {@link ValueCodec}.
+ */
+@SuppressWarnings("unused")
+public final class Frames {
+    /**
+     * The size of the tag and length that precede a payload.
+     */
+    public static final int HEADER = Byte.BYTES + Integer.BYTES;
+
+    private static final int INITIAL_SCRATCH = 128;
+    private static final int READ_CHUNK = 8 * 1024;
+
+    private Frames() {}
+
+    /**
+     * Writes a frame at the position of the buffer. If the codec fails, or the
+     * frame does not fit, the position of the buffer is left unchanged.
+     * @throws BufferOverflowException if the frame does not fit
+     */
+    public static <V> void write(byte tag, V value, ValueCodec<? super V> codec, ByteBuffer buffer) {
+        int start = buffer.position();
+        try {
+            buffer.put(tag).putInt(0);
+            codec.write(value, buffer);
+        } catch (RuntimeException | Error e) {
+            buffer.position(start);
+            throw e;
+        }
+        buffer.putInt(start + Byte.BYTES, buffer.position() - start - HEADER);
+    }
+
+    static byte tag(ByteBuffer buffer) {
+        if (!buffer.hasRemaining()) {
+            throw new IllegalArgumentException("Missing tag");
+        }
+        return buffer.get();
+    }
+
+    /**
+     * Hands the codec a view of the payload that shares the memory of the
+     * buffer, and moves the buffer past the payload.
+     */
+    static <V> V read(ByteBuffer buffer, ValueCodec<V> codec) {
+        if (buffer.remaining() < Integer.BYTES) {
+            throw new IllegalArgumentException("Truncated payload length");
+        }
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid payload length " + length);
+        }
+        int end = buffer.position() + length;
+        ByteBuffer payload = buffer.duplicate().order(buffer.order());
+        payload.limit(end);
+        buffer.position(end);
+        try {
+            return codec.read(payload);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated payload", e);
+        }
+    }
+
+    static <V> void write(byte tag, V value, ValueCodec<V> codec, DataOutput out) throws IOException {
+        ByteBuffer payload = encode(value, codec);
+        out.writeByte(tag);
+        out.writeInt(payload.remaining());
+        out.write(payload.array(), 0, payload.remaining());
+    }
+
+    static <V> V read(DataInput in, ValueCodec<V> codec) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IllegalArgumentException("Invalid payload length " + length);
+        }
+        byte[] payload = readPayload(in, length);
+        try {
+            return codec.read(ByteBuffer.wrap(payload));
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated payload", e);
+        }
+    }
+
+    /**
+     * Reads the payload in growing chunks rather than allocating the length up
+     * front, so a corrupt length fails with an EOFException once the input runs
+     * out instead of reserving up to 2 GiB.
+     */
+    private static byte[] readPayload(DataInput in, int length) throws IOException {
+        byte[] payload = new byte[Math.min(length, READ_CHUNK)];
+        in.readFully(payload);
+        while (payload.length < length) {
+            int filled = payload.length;
+            payload = Arrays.copyOf(payload, (int) Math.min(length, filled * 2L));
+            in.readFully(payload, filled, payload.length - filled);
+        }
+        return payload;
+    }
+
+    /**
+     * Encodes the value into a heap buffer, doubling it until the value fits.
+     * The returned buffer is flipped and starts at offset zero of its array.
+     */
+    static <V> ByteBuffer encode(V value, ValueCodec<V> codec) {
+        ByteBuffer buffer = ByteBuffer.allocate(INITIAL_SCRATCH);
+        while (true) {
+            try {
+                codec.write(value, buffer);
+                return buffer.flip();
+            } catch (BufferOverflowException e) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+            }
+        }
+    }
+
+    static IllegalArgumentException unknownTag(byte tag) {
+        return new IllegalArgumentException("Unknown tag " + tag);
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.luccaflower.codec;
+
+import io.github.luccaflower.option.*;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+
+/**
+ * <p>
+ *     A compact binary format for Options. A None is written as the single
+ *     byte {@code 0}. A Some is written as the tag {@code 1}, followed by a
+ *     four-byte length and the payload encoded by the value codec.
+ * </p>
+ * <pre>{@code
+ * OptionCodec<String> codec = OptionCodec.of(ValueCodec.utf8());
+ * byte[] bytes = codec.encode(Option.some("cached"));
+ * Option<String> cached = codec.decode(bytes);
+ * }</pre>
+ * <p>
+ *     As with {@link ResultCodec}, reads from a {@link ByteBuffer} hand the
+ *     value codec a view of the buffer rather than a copy. Decoding a None
+ *     returns the shared instance.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public final class OptionCodec<T> {
+    private static final byte NONE = 0;
+    private static final byte SOME = 1;
+
+    private final ValueCodec<T> valueCodec;
+
+    private OptionCodec(ValueCodec<T> valueCodec) {
+        this.valueCodec = Objects.requireNonNull(valueCodec);
+    }
+
+    public static <T> OptionCodec<T> of(ValueCodec<T> valueCodec) {
+        return new OptionCodec<>(valueCodec);
+    }
+
+    /**
+     * Writes the Option at the position of the buffer.
+     * @throws BufferOverflowException if it does not fit, leaving the position unchanged
+     */
+    public void write(Option<T> option, ByteBuffer buffer) {
+        if (option.isSome()) {
+            Frames.write(SOME, option.unwrap(), valueCodec, buffer);
+        } else {
+            buffer.put(NONE);
+        }
+    }
+
+    /**
+     * Reads an Option at the position of the buffer and moves past it.
+     * @throws IllegalArgumentException if the buffer does not hold an Option at its position
+     */
+    public Option<T> read(ByteBuffer buffer) {
+        byte tag = Frames.tag(buffer);
+        switch (tag) {
+            case NONE:
+                return Option.none();
+            case SOME:
+                return Option.some(Frames.read(buffer, valueCodec));
+            default:
+                throw Frames.unknownTag(tag);
+        }
+    }
+
+    public void write(Option<T> option, DataOutput out) throws IOException {
+        if (option.isSome()) {
+            Frames.write(SOME, option.unwrap(), valueCodec, out);
+        } else {
+            out.writeByte(NONE);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the input does not hold an Option
+     */
+    public Option<T> read(DataInput in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case NONE:
+                return Option.none();
+            case SOME:
+                return Option.some(Frames.read(in, valueCodec));
+            default:
+                throw Frames.unknownTag(tag);
+        }
+    }
+
+    public byte[] encode(Option<T> option) {
+        if (option.isNone()) {
+            return new byte[] {NONE};
+        }
+        ByteBuffer payload = Frames.encode(option.unwrap(), valueCodec);
+        return ByteBuffer.allocate(Frames.HEADER + payload.remaining())
+            .put(SOME)
+            .putInt(payload.remaining())
+            .put(payload)
+            .array();
+    }
+
+    public Option<T> decode(byte[] bytes) {
+        return read(ByteBuffer.wrap(bytes));
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.luccaflower.codec;
+
+import io.github.luccaflower.result.*;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+
+/**
+ * <p>
+ *     A compact binary format for Results. An Ok is written as the tag
+ *     {@code 0}, an Error as the tag {@code 1}, each followed by a four-byte
+ *     length and the payload encoded by the value or error codec. This is the
+ *     same record layout that {@link io.github.luccaflower.store.OutcomeStore}
+ *     uses on disk.
+ * </p>
+ * <pre>{@code
+ * ResultCodec<String> codec = ResultCodec.of(ValueCodec.utf8());
+ * byte[] bytes = codec.encode(Result.ok("cached"));
+ * Result<String> cached = codec.decode(bytes);
+ * }</pre>
+ * <p>
+ *     Reads from a {@link ByteBuffer}, heap or direct, hand the value codec a
+ *     view of the buffer rather than a copy, so with {@link ValueCodec#slices()}
+ *     a payload is never copied at all. A codec is immutable and thread-safe
+ *     if its value and error codecs are.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public final class ResultCodec<T> {
+    private static final byte OK = 0;
+    private static final byte ERR = 1;
+
+    private final ValueCodec<T> valueCodec;
+    private final ValueCodec<Exception> errorCodec;
+
+    private ResultCodec(ValueCodec<T> valueCodec, ValueCodec<Exception> errorCodec) {
+        this.valueCodec = Objects.requireNonNull(valueCodec);
+        this.errorCodec = Objects.requireNonNull(errorCodec);
+    }
+
+    /**
+     * Encodes Errors with {@link ValueCodec#exceptions()}.
+     */
+    public static <T> ResultCodec<T> of(ValueCodec<T> valueCodec) {
+        return new ResultCodec<>(valueCodec, ValueCodec.exceptions());
+    }
+
+    public static <T> ResultCodec<T> of(ValueCodec<T> valueCodec, ValueCodec<Exception> errorCodec) {
+        return new ResultCodec<>(valueCodec, errorCodec);
+    }
+
+    /**
+     * Writes the Result at the position of the buffer.
+     * @throws BufferOverflowException if it does not fit, leaving the position unchanged
+     */
+    public void write(Result<T> result, ByteBuffer buffer) {
+        if (result.isOk()) {
+            Frames.write(OK, result.unwrap(), valueCodec, buffer);
+        } else {
+            Frames.write(ERR, result.unwrapErr(), errorCodec, buffer);
+        }
+    }
+
+    /**
+     * Reads a Result at the position of the buffer and moves past it.
+     * @throws IllegalArgumentException if the buffer does not hold a Result at its position
+     */
+    public Result<T> read(ByteBuffer buffer) {
+        byte tag = Frames.tag(buffer);
+        switch (tag) {
+            case OK:
+                return Result.ok(Frames.read(buffer, valueCodec));
+            case ERR:
+                return Result.err(Frames.read(buffer, errorCodec));
+            default:
+                throw Frames.unknownTag(tag);
+        }
+    }
+
+    public void write(Result<T> result, DataOutput out) throws IOException {
+        if (result.isOk()) {
+            Frames.write(OK, result.unwrap(), valueCodec, out);
+        } else {
+            Frames.write(ERR, result.unwrapErr(), errorCodec, out);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the input does not hold a Result
+     */
+    public Result<T> read(DataInput in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case OK:
+                return Result.ok(Frames.read(in, valueCodec));
+            case ERR:
+                return Result.err(Frames.read(in, errorCodec));
+            default:
+                throw Frames.unknownTag(tag);
+        }
+    }
+
+    public byte[] encode(Result<T> result) {
+        ByteBuffer payload = result.isOk()
+            ? Frames.encode(result.unwrap(), valueCodec)
+            : Frames.encode(result.unwrapErr(), errorCodec);
+        return ByteBuffer.allocate(Frames.HEADER + payload.remaining())
+            .put(result.isOk() ? OK : ERR)
+            .putInt(payload.remaining())
+            .put(payload)
+            .array();
+    }
+
+    public Result<T> decode(byte[] bytes) {
+        return read(ByteBuffer.wrap(bytes));
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.luccaflower.codec;
+
+import io.github.luccaflower.result.*;
+
+import java.nio.*;
+import java.util.function.*;
+
+/**
+ * <p>
+ *     Writes values of one type to a {@link ByteBuffer} and reads them back.
+ *     Callers frame each value themselves, so a codec neither writes a length
+ *     nor needs to know where the next value starts:
+ * </p>
+ * <ul>
+ *     <li>
+ *         {@link #write(Object, ByteBuffer)} starts at the position of the
+ *         buffer and throws {@link BufferOverflowException} if the value does
+ *         not fit, in which case the caller retries with a larger buffer.
+ *     </li>
+ *     <li>
+ *         {@link #read(ByteBuffer)} is given a buffer whose position and limit
+ *         enclose exactly one value.
+ *     </li>
+ * </ul>
+ * <p>
+ *     Codecs for other types are usually derived from a built-in one with
+ *     {@link #map(Function, Function)}:
+ * </p>
+ * <pre>{@code
+ * ValueCodec<UUID> uuids = ValueCodec.utf8().map(UUID::toString, UUID::fromString);
+ * }</pre>
+ */
+@SuppressWarnings("unused")
+public interface ValueCodec<T> {
+
+    void write(T value, ByteBuffer buffer);
+
+    T read(ByteBuffer buffer);
+
+    /**
+     * Derives a codec for another type that is converted to and from this one.
+     */
+    default <R> ValueCodec<R> map(Function<? super R, ? extends T> encode, Function<? super T, ? extends R> decode) {
+        ValueCodec<T> self = this;
+        return new ValueCodec<>() {
+            @Override
+            public void write(R value, ByteBuffer buffer) {
+                self.write(encode.apply(value), buffer);
+            }
+
+            @Override
+            public R read(ByteBuffer buffer) {
+                return decode.apply(self.read(buffer));
+            }
+        };
+    }
+
+    /**
+     * Encodes strings as UTF-8.
+     */
+    static ValueCodec<String> utf8() {
+        return Codecs.UTF8;
+    }
+
+    static ValueCodec<Integer> integers() {
+        return Codecs.INTEGERS;
+    }
+
+    static ValueCodec<Long> longs() {
+        return Codecs.LONGS;
+    }
+
+    static ValueCodec<Double> doubles() {
+        return Codecs.DOUBLES;
+    }
+
+    /**
+     * Copies byte arrays as they are.
+     */
+    static ValueCodec<byte[]> bytes() {
+        return Codecs.BYTES;
+    }
+
+    /**
+     * Reads values as read-only slices of the source buffer rather than copies.
+     * A slice shares the memory of its source, so it is only valid as long as
+     * the source is.
+     */
+    static ValueCodec<ByteBuffer> slices() {
+        return Codecs.SLICES;
+    }
+
+    /**
+     * Encodes {@link Unit} as zero bytes.
+     */
+    static ValueCodec<Unit> units() {
+        return Codecs.UNITS;
+    }
+
+    /**
+     * Encodes the class name and message of an Exception. Stack traces, causes
+     * and suppressed exceptions are not kept, so Exceptions are read back as a
+     * {@link DecodedException} rather than as their original type.
+     */
+    static ValueCodec<Exception> exceptions() {
+        return Codecs.EXCEPTIONS;
+    }
+}
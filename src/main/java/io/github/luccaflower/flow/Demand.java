@@ -0,0 +1,47 @@
+package io.github.luccaflower.flow;
+
+import java.util.concurrent.*;
+
+/**
+ * Requests elements from upstream in batches. A new batch is requested once
+ * half of the outstanding demand has been handed on, so call
+ * {@link #received()} only after an element has been submitted downstream.
+ * Not thread-safe, which is fine since a Subscriber is never signalled
+ * concurrently.
+ */
+final class Demand {
+    private final int batchSize;
+    private final int threshold;
+    private Flow.Subscription subscription;
+    private int received;
+
+    Demand(int batchSize) {
+        this.batchSize = batchSize;
+        this.threshold = Math.max(1, batchSize / 2);
+    }
+
+    /**
+     * Starts requesting from the subscription, or cancels it if there already
+     * is one, as a Subscriber may only be subscribed once.
+     */
+    void start(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(batchSize);
+    }
+
+    void received() {
+        if (++received >= threshold) {
+            int replenish = received;
+            received = 0;
+            subscription.request(replenish);
+        }
+    }
+
+    void cancel() {
+        subscription.cancel();
+    }
+}
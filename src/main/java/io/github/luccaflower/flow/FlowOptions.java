@@ -0,0 +1,99 @@
+package io.github.luccaflower.flow;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * <p>
+ *     Settings shared by the processors in this package. FlowOptions are
+ *     immutable, and every setter returns a modified copy:
+ * </p>
+ * <pre>{@code
+ * FlowOptions options = FlowOptions.defaults().batchSize(256).failFast(true);
+ * }</pre>
+ */
+@SuppressWarnings("unused")
+public final class FlowOptions {
+    private static final FlowOptions DEFAULTS = new FlowOptions(
+        ForkJoinPool.commonPool(),
+        Flow.defaultBufferSize(),
+        64,
+        false
+    );
+
+    private final Executor executor;
+    private final int bufferSize;
+    private final int batchSize;
+    private final boolean failFast;
+
+    private FlowOptions(Executor executor, int bufferSize, int batchSize, boolean failFast) {
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.batchSize = batchSize;
+        this.failFast = failFast;
+    }
+
+    /**
+     * Delivers on the common pool with the default Flow buffer size, requests
+     * 64 elements at a time from upstream, and does not fail fast.
+     */
+    public static FlowOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * The executor that delivers elements to downstream subscribers.
+     */
+    public FlowOptions executor(Executor executor) {
+        return new FlowOptions(Objects.requireNonNull(executor), bufferSize, batchSize, failFast);
+    }
+
+    /**
+     * The maximum number of elements buffered for each downstream subscriber.
+     * Once a buffer is full, the processor stops requesting from upstream until
+     * the subscriber catches up.
+     */
+    public FlowOptions bufferSize(int bufferSize) {
+        return new FlowOptions(executor, positive(bufferSize), batchSize, failFast);
+    }
+
+    /**
+     * The number of elements requested from upstream at a time. A new batch is
+     * requested once half of the previous one has arrived, which keeps upstream
+     * busy without signalling demand for every single element.
+     */
+    public FlowOptions batchSize(int batchSize) {
+        return new FlowOptions(executor, bufferSize, positive(batchSize), failFast);
+    }
+
+    /**
+     * Whether to cancel upstream and complete downstream right after the first
+     * Error. Only applies to streams of Results.
+     */
+    public FlowOptions failFast(boolean failFast) {
+        return new FlowOptions(executor, bufferSize, batchSize, failFast);
+    }
+
+    public Executor executor() {
+        return executor;
+    }
+
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    public boolean failFast() {
+        return failFast;
+    }
+
+    private static int positive(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Size must be positive: " + size);
+        }
+        return size;
+    }
+}
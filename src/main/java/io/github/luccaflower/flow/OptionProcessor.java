@@ -0,0 +1,107 @@
+package io.github.luccaflower.flow;
+
+import io.github.luccaflower.option.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * <p>
+ *     A {@link Flow.Processor} that transforms a stream of Options the way
+ *     {@link Option#map(Function)}, {@link Option#flatMap(Function)} and
+ *     {@link Option#filter(Predicate)} would. Backpressure and batching work
+ *     as for {@link ResultProcessor}. A function that throws fails the stream.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public final class OptionProcessor<T, R> extends SubmissionPublisher<Option<R>>
+    implements Flow.Processor<Option<T>, Option<R>> {
+    private final Function<? super Option<T>, ? extends Option<R>> step;
+    private final Demand demand;
+    private boolean done;
+
+    private OptionProcessor(
+        Function<? super Option<T>, ? extends Option<R>> step,
+        FlowOptions options
+    ) {
+        super(options.executor(), options.bufferSize());
+        this.step = step;
+        this.demand = new Demand(options.batchSize());
+    }
+
+    public static <T, R> OptionProcessor<T, R> map(Function<? super T, ? extends R> func) {
+        return map(func, FlowOptions.defaults());
+    }
+
+    public static <T, R> OptionProcessor<T, R> map(
+        Function<? super T, ? extends R> func,
+        FlowOptions options
+    ) {
+        Objects.requireNonNull(func);
+        return new OptionProcessor<>(option -> option.map(func), options);
+    }
+
+    public static <T, R> OptionProcessor<T, R> flatMap(Function<? super T, ? extends Option<R>> func) {
+        return flatMap(func, FlowOptions.defaults());
+    }
+
+    public static <T, R> OptionProcessor<T, R> flatMap(
+        Function<? super T, ? extends Option<R>> func,
+        FlowOptions options
+    ) {
+        Objects.requireNonNull(func);
+        return new OptionProcessor<>(option -> option.flatMap(func), options);
+    }
+
+    /**
+     * Turns the Some elements that do not match the predicate into None.
+     */
+    public static <T> OptionProcessor<T, T> filter(Predicate<T> p) {
+        return filter(p, FlowOptions.defaults());
+    }
+
+    public static <T> OptionProcessor<T, T> filter(Predicate<T> p, FlowOptions options) {
+        Objects.requireNonNull(p);
+        return new OptionProcessor<>(option -> option.filter(p), options);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        demand.start(subscription);
+    }
+
+    @Override
+    public void onNext(Option<T> item) {
+        if (done) {
+            return;
+        }
+        Option<R> option;
+        try {
+            option = step.apply(item);
+        } catch (RuntimeException e) {
+            done = true;
+            demand.cancel();
+            closeExceptionally(e);
+            return;
+        }
+        submit(option);
+        demand.received();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (!done) {
+            done = true;
+            closeExceptionally(throwable);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!done) {
+            done = true;
+            close();
+        }
+    }
+}
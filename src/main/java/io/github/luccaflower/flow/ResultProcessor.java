@@ -0,0 +1,134 @@
+package io.github.luccaflower.flow;
+
+import io.github.luccaflower.result.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * <p>
+ *     A {@link Flow.Processor} that transforms a stream of Results the way
+ *     {@link Result#map(Function)}, {@link Result#flatMap(Function)} and a
+ *     filter would, passing Errors through untouched. A function that throws
+ *     produces an Error containing the exception rather than failing the stream.
+ * </p>
+ * <p>
+ *     Downstream buffers are bounded by {@link FlowOptions#bufferSize(int)}:
+ *     when a subscriber falls behind, the processor stops requesting from
+ *     upstream until it catches up. With {@link FlowOptions#failFast(boolean)},
+ *     the first Error is delivered, upstream is cancelled and downstream completes.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public final class ResultProcessor<T, R> extends SubmissionPublisher<Result<R>>
+    implements Flow.Processor<Result<T>, Result<R>> {
+    private final Function<? super Result<T>, ? extends Result<R>> step;
+    private final boolean failFast;
+    private final Demand demand;
+    private boolean done;
+
+    private ResultProcessor(
+        Function<? super Result<T>, ? extends Result<R>> step,
+        FlowOptions options
+    ) {
+        super(options.executor(), options.bufferSize());
+        this.step = step;
+        this.failFast = options.failFast();
+        this.demand = new Demand(options.batchSize());
+    }
+
+    public static <T, R> ResultProcessor<T, R> map(Function<? super T, ? extends R> func) {
+        return map(func, FlowOptions.defaults());
+    }
+
+    public static <T, R> ResultProcessor<T, R> map(
+        Function<? super T, ? extends R> func,
+        FlowOptions options
+    ) {
+        Objects.requireNonNull(func);
+        return new ResultProcessor<>(result -> result.map(func), options);
+    }
+
+    public static <T, R> ResultProcessor<T, R> flatMap(Function<? super T, ? extends Result<R>> func) {
+        return flatMap(func, FlowOptions.defaults());
+    }
+
+    public static <T, R> ResultProcessor<T, R> flatMap(
+        Function<? super T, ? extends Result<R>> func,
+        FlowOptions options
+    ) {
+        Objects.requireNonNull(func);
+        return new ResultProcessor<>(result -> result.flatMap(func), options);
+    }
+
+    /**
+     * Drops the Ok elements that do not match the predicate. Errors are kept.
+     */
+    public static <T> ResultProcessor<T, T> filter(Predicate<? super T> p) {
+        return filter(p, FlowOptions.defaults());
+    }
+
+    public static <T> ResultProcessor<T, T> filter(Predicate<? super T> p, FlowOptions options) {
+        Objects.requireNonNull(p);
+        return new ResultProcessor<>(
+            result -> result.isErr() || result.isOkAnd(p) ? result : null,
+            options
+        );
+    }
+
+    /**
+     * Passes every element through unchanged, which is useful for adding
+     * fail-fast behaviour or batching to an existing stream.
+     */
+    public static <T> ResultProcessor<T, T> identity(FlowOptions options) {
+        return new ResultProcessor<>(Function.identity(), options);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        demand.start(subscription);
+    }
+
+    @Override
+    public void onNext(Result<T> item) {
+        if (done) {
+            return;
+        }
+        Result<R> result = apply(item);
+        if (result != null) {
+            submit(result);
+            if (failFast && result.isErr()) {
+                done = true;
+                demand.cancel();
+                close();
+                return;
+            }
+        }
+        demand.received();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (!done) {
+            done = true;
+            closeExceptionally(throwable);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!done) {
+            done = true;
+            close();
+        }
+    }
+
+    private Result<R> apply(Result<T> item) {
+        try {
+            return step.apply(item);
+        } catch (RuntimeException e) {
+            return Result.err(e);
+        }
+    }
+}
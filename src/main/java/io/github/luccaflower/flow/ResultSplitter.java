@@ -0,0 +1,102 @@
+package io.github.luccaflower.flow;
+
+import io.github.luccaflower.result.*;
+
+import java.util.concurrent.*;
+
+/**
+ * <p>
+ *     Subscribes to a stream of Results and routes the values of the Oks to
+ *     {@link #oks()} and the exceptions of the Errors to {@link #errs()}. Both
+ *     publishers are bounded by {@link FlowOptions#bufferSize(int)}, so a slow
+ *     subscriber on either side slows down upstream instead of growing a queue.
+ * </p>
+ * <p>
+ *     Subscribe to the two publishers before subscribing the splitter to
+ *     upstream. Elements routed to a publisher without subscribers are dropped
+ *     rather than buffered, so subscribing to only {@link #oks()} discards
+ *     the Errors without holding up the Oks.
+ *     With {@link FlowOptions#failFast(boolean)}, the first Error is delivered,
+ *     upstream is cancelled and both publishers complete.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public final class ResultSplitter<T> implements Flow.Subscriber<Result<T>> {
+    private final SubmissionPublisher<T> oks;
+    private final SubmissionPublisher<Exception> errs;
+    private final boolean failFast;
+    private final Demand demand;
+    private boolean done;
+
+    private ResultSplitter(FlowOptions options) {
+        this.oks = new SubmissionPublisher<>(options.executor(), options.bufferSize());
+        this.errs = new SubmissionPublisher<>(options.executor(), options.bufferSize());
+        this.failFast = options.failFast();
+        this.demand = new Demand(options.batchSize());
+    }
+
+    public static <T> ResultSplitter<T> create() {
+        return create(FlowOptions.defaults());
+    }
+
+    public static <T> ResultSplitter<T> create(FlowOptions options) {
+        return new ResultSplitter<>(options);
+    }
+
+    /**
+     * The values of the Ok elements.
+     */
+    public Flow.Publisher<T> oks() {
+        return oks;
+    }
+
+    /**
+     * The exceptions of the Error elements.
+     */
+    public Flow.Publisher<Exception> errs() {
+        return errs;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        demand.start(subscription);
+    }
+
+    @Override
+    public void onNext(Result<T> item) {
+        if (done) {
+            return;
+        }
+        if (item.isOk()) {
+            oks.submit(item.unwrap());
+        } else {
+            errs.submit(item.unwrapErr());
+            if (failFast) {
+                done = true;
+                demand.cancel();
+                oks.close();
+                errs.close();
+                return;
+            }
+        }
+        demand.received();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (!done) {
+            done = true;
+            oks.closeExceptionally(throwable);
+            errs.closeExceptionally(throwable);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!done) {
+            done = true;
+            oks.close();
+            errs.close();
+        }
+    }
+}
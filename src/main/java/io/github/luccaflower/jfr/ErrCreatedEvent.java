@@ -0,0 +1,21 @@
+package io.github.luccaflower.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Emitted when an Error-variant is created. The stack trace is off by default,
+ * and can be turned on with the {@code stackTrace} setting of the event.
+ */
+@Name("io.github.luccaflower.ErrCreated")
+@Label("Err Created")
+@Category("Union")
+@Description("An Error-variant of a Result was created")
+@Enabled(false)
+@StackTrace(false)
+public final class ErrCreatedEvent extends Event {
+    @Label("Error Type")
+    public Class<?> errorType;
+
+    @Label("Message")
+    public String message;
+}
@@ -0,0 +1,22 @@
+package io.github.luccaflower.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Emitted when a function passed to a combinator runs for longer than the
+ * threshold of the event, which is 10 ms unless configured otherwise.
+ */
+@Name("io.github.luccaflower.SlowCallback")
+@Label("Slow Callback")
+@Category("Union")
+@Description("A function passed to map, flatMap or matches ran longer than the threshold")
+@Enabled(false)
+@StackTrace(true)
+@Threshold("10 ms")
+public final class SlowCallbackEvent extends Event {
+    @Label("Operation")
+    public String operation;
+
+    @Label("Callback Type")
+    public Class<?> callbackType;
+}
@@ -0,0 +1,129 @@
+package io.github.luccaflower.jfr;
+
+import jdk.jfr.*;
+
+import java.util.function.*;
+
+/**
+ * <p>
+ *     Emits the Java Flight Recorder events of this library:
+ *     {@link ErrCreatedEvent}, {@link UnwrapPanicEvent} and {@link SlowCallbackEvent}.
+ *     The events are compiled in only when the JVM is started with
+ *     {@code -Dunion.jfr=true}, and even then each one must be enabled in the
+ *     recording, e.g. with {@code jfr configure} or a custom {@code .jfc} file:
+ * </p>
+ * <pre>{@code
+ * java -Dunion.jfr=true -XX:StartFlightRecording:settings=union.jfc ...
+ * }</pre>
+ * <p>
+ *     Every instrumented site checks {@link #ENABLED} first. As it is a static
+ *     final field, the JIT folds the check away when the property is not set.
+ *     With the property set, nothing is allocated while no recording is running.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public final class UnionEvents {
+    /**
+     * True if events are emitted. Instrumented sites should check this before
+     * calling any of the other methods.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("union.jfr");
+
+    private static volatile boolean recording;
+
+    static {
+        if (ENABLED && FlightRecorder.isAvailable()) {
+            FlightRecorder.addListener(new FlightRecorderListener() {
+                @Override
+                public void recorderInitialized(FlightRecorder recorder) {
+                    update(recorder);
+                }
+
+                @Override
+                public void recordingStateChanged(Recording changed) {
+                    update(FlightRecorder.getFlightRecorder());
+                }
+            });
+        }
+    }
+
+    private UnionEvents() {}
+
+    private static void update(FlightRecorder recorder) {
+        recording = recorder.getRecordings().stream()
+            .anyMatch(r -> r.getState() == RecordingState.RUNNING);
+    }
+
+    public static void errCreated(Object error) {
+        if (!recording) {
+            return;
+        }
+        ErrCreatedEvent event = new ErrCreatedEvent();
+        if (event.isEnabled()) {
+            event.errorType = error.getClass();
+            event.message = error instanceof Throwable ? ((Throwable) error).getMessage() : String.valueOf(error);
+            event.commit();
+        }
+    }
+
+    public static void panic(Class<? extends RuntimeException> type, String message) {
+        if (!recording) {
+            return;
+        }
+        UnwrapPanicEvent event = new UnwrapPanicEvent();
+        if (event.isEnabled()) {
+            event.panicType = type;
+            event.message = message;
+            event.commit();
+        }
+    }
+
+    /**
+     * Applies the function, and emits a {@link SlowCallbackEvent} if it runs
+     * for longer than the threshold of the event.
+     */
+    public static <A, R> R apply(String operation, Function<? super A, ? extends R> func, A argument) {
+        if (!recording) {
+            return func.apply(argument);
+        }
+        SlowCallbackEvent event = new SlowCallbackEvent();
+        if (!event.isEnabled()) {
+            return func.apply(argument);
+        }
+        event.begin();
+        try {
+            return func.apply(argument);
+        } finally {
+            commitIfSlow(event, operation, func);
+        }
+    }
+
+    /**
+     * Calls the supplier, and emits a {@link SlowCallbackEvent} if it runs for
+     * longer than the threshold of the event.
+     */
+    public static <R> R get(String operation, Supplier<? extends R> func) {
+        if (!recording) {
+            return func.get();
+        }
+        SlowCallbackEvent event = new SlowCallbackEvent();
+        if (!event.isEnabled()) {
+            return func.get();
+        }
+        event.begin();
+        try {
+            return func.get();
+        } finally {
+            commitIfSlow(event, operation, func);
+        }
+    }
+
+    private static void commitIfSlow(SlowCallbackEvent event, String operation, Object func) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.callbackType = func.getClass();
+            event.commit();
+        }
+    }
+}
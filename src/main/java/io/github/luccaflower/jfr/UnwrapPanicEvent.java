@@ -0,0 +1,20 @@
+package io.github.luccaflower.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Emitted when unwrapping a Result or an Option panics.
+ */
+@Name("io.github.luccaflower.UnwrapPanic")
+@Label("Unwrap Panic")
+@Category("Union")
+@Description("An unwrap or expect was called on the wrong variant")
+@Enabled(false)
+@StackTrace(true)
+public final class UnwrapPanicEvent extends Event {
+    @Label("Panic Type")
+    public Class<?> panicType;
+
+    @Label("Message")
+    public String message;
+}
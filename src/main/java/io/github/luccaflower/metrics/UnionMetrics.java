@@ -0,0 +1,220 @@
+package io.github.luccaflower.metrics;
+
+import io.github.luccaflower.result.*;
+
+import javax.management.*;
+import java.lang.management.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * <p>
+ *     Opt-in counters for how often this library produces Errors and Nones,
+ *     panics on unwrap, and falls back to a default or an alternative. Metrics
+ *     are enabled with the {@code union.metrics} system property, which is read
+ *     once when this class is loaded:
+ * </p>
+ * <pre>{@code
+ * java -Dunion.metrics=true ...
+ * }</pre>
+ * <p>
+ *     Every recording site checks {@link #ENABLED} first. As it is a static
+ *     final field, the JIT folds the check away when metrics are disabled, and
+ *     the instrumented methods cost the same as before. When enabled, every
+ *     counter is a {@link LongAdder}, so recording from many threads does not
+ *     contend on a single cache line.
+ * </p>
+ * <p>
+ *     Counters can be read with {@link #snapshot()}, or over JMX after calling
+ *     {@link #registerMBean()}.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public final class UnionMetrics {
+    /**
+     * True if metrics are recorded. Recording sites should check this before
+     * calling any of the recording methods.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("union.metrics");
+
+    /**
+     * The name under which {@link #registerMBean()} registers the counters.
+     */
+    public static final String OBJECT_NAME = "io.github.luccaflower:type=UnionMetrics";
+
+    private static final LongAdder errs = new LongAdder();
+    private static final LongAdder nones = new LongAdder();
+    private static final LongAdder panics = new LongAdder();
+    private static final ConcurrentMap<Class<?>, LongAdder> errsByType = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, LongAdder> panicsByType = new ConcurrentHashMap<>();
+    private static final LongAdder[] fallbacks = new LongAdder[Fallback.values().length];
+
+    static {
+        for (int i = 0; i < fallbacks.length; i++) {
+            fallbacks[i] = new LongAdder();
+        }
+    }
+
+    private UnionMetrics() {}
+
+    /**
+     * The operations that can fall back to a default or an alternative.
+     */
+    public enum Fallback {
+        UNWRAP_OR("unwrapOr"),
+        UNWRAP_OR_ELSE("unwrapOrElse"),
+        OR("or"),
+        OR_ELSE("orElse");
+
+        private final String method;
+
+        Fallback(String method) {
+            this.method = method;
+        }
+    }
+
+    /**
+     * Records the creation of an Error containing the given error.
+     */
+    public static void errCreated(Object error) {
+        errs.increment();
+        errsByType.computeIfAbsent(error.getClass(), type -> new LongAdder()).increment();
+    }
+
+    /**
+     * Records that a None was returned from a factory.
+     */
+    public static void noneCreated() {
+        nones.increment();
+    }
+
+    /**
+     * Records an unwrap that panicked with the given exception type.
+     */
+    public static void panic(Class<? extends RuntimeException> type) {
+        panics.increment();
+        panicsByType.computeIfAbsent(type, t -> new LongAdder()).increment();
+    }
+
+    /**
+     * Records that an Error or a None fell back to a default or an alternative.
+     */
+    public static void fallback(Fallback operation) {
+        fallbacks[operation.ordinal()].increment();
+    }
+
+    public static long errCount() {
+        return errs.sum();
+    }
+
+    public static long errCount(Class<?> type) {
+        LongAdder counter = errsByType.get(type);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    public static long noneCount() {
+        return nones.sum();
+    }
+
+    public static long panicCount() {
+        return panics.sum();
+    }
+
+    public static long panicCount(Class<? extends RuntimeException> type) {
+        LongAdder counter = panicsByType.get(type);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    public static long fallbackCount(Fallback operation) {
+        return fallbacks[operation.ordinal()].sum();
+    }
+
+    /**
+     * <p>
+     *     Returns the current value of every counter, keyed by name:
+     * </p>
+     * <ul>
+     *     <li>{@code err.created} and {@code err.created.<error class>}</li>
+     *     <li>{@code none.created}</li>
+     *     <li>{@code panic} and {@code panic.<exception class>}</li>
+     *     <li>{@code fallback.<method>}</li>
+     * </ul>
+     * <p>
+     *     The counters are read one at a time while they may be updated, so the
+     *     snapshot is not atomic.
+     * </p>
+     */
+    public static Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        snapshot.put("err.created", errs.sum());
+        errsByType.forEach((type, counter) -> snapshot.put("err.created." + type.getName(), counter.sum()));
+        snapshot.put("none.created", nones.sum());
+        snapshot.put("panic", panics.sum());
+        panicsByType.forEach((type, counter) -> snapshot.put("panic." + type.getName(), counter.sum()));
+        for (Fallback operation : Fallback.values()) {
+            snapshot.put("fallback." + operation.method, fallbacks[operation.ordinal()].sum());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Sets every counter back to zero.
+     */
+    public static void reset() {
+        errs.reset();
+        nones.reset();
+        panics.reset();
+        errsByType.clear();
+        panicsByType.clear();
+        for (LongAdder counter : fallbacks) {
+            counter.reset();
+        }
+    }
+
+    /**
+     * Registers the counters with the platform MBean server under {@link #OBJECT_NAME}.
+     * Registering more than once returns an Error.
+     */
+    public static Result<Unit> registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer()
+                .registerMBean(new MXBean(), new ObjectName(OBJECT_NAME));
+            return Result.ok();
+        } catch (JMException e) {
+            return Result.err(e);
+        }
+    }
+
+    private static final class MXBean implements UnionMetricsMXBean {
+        @Override
+        public boolean isEnabled() {
+            return ENABLED;
+        }
+
+        @Override
+        public long getErrCount() {
+            return errCount();
+        }
+
+        @Override
+        public long getNoneCount() {
+            return noneCount();
+        }
+
+        @Override
+        public long getPanicCount() {
+            return panicCount();
+        }
+
+        @Override
+        public Map<String, Long> getCounters() {
+            return snapshot();
+        }
+
+        @Override
+        public void reset() {
+            UnionMetrics.reset();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.luccaflower.metrics;
+
+import java.util.*;
+
+/**
+ * The JMX view of {@link UnionMetrics}.
+ */
+public interface UnionMetricsMXBean {
+    boolean isEnabled();
+
+    long getErrCount();
+
+    long getNoneCount();
+
+    long getPanicCount();
+
+    /**
+     * @see UnionMetrics#snapshot()
+     */
+    Map<String, Long> getCounters();
+
+    void reset();
+}
@@ -1,6 +1,9 @@
 package io.github.luccaflower.option;
 
+import io.github.luccaflower.result.*;
+
 import java.util.function.*;
+import java.util.stream.*;
 
 /**
  * ForwardingOption is a utility interface that functions as a wrapper around any given {@link Option}
@@ -24,4 +27,94 @@ public interface ForwardingOption<T> extends Option<T> {
         return inner().orElse(other);
     }
 
+    @Override
+    default Stream<T> stream() {
+        return inner().stream();
+    }
+
+    @Override
+    default T unwrapOr(T defaultValue) {
+        return inner().unwrapOr(defaultValue);
+    }
+
+    @Override
+    default T unwrapOrElse(Supplier<? extends T> defaultFunc) {
+        return inner().unwrapOrElse(defaultFunc);
+    }
+
+    @Override
+    default T expect(String reason) {
+        return inner().expect(reason);
+    }
+
+    @Override
+    default Result<T> okOr(Exception error) {
+        return inner().okOr(error);
+    }
+
+    @Override
+    default Result<T> okOrElse(Supplier<? extends Exception> error) {
+        return inner().okOrElse(error);
+    }
+
+    @Override
+    default <R> Option<R> map(Function<? super T, ? extends R> func) {
+        return inner().map(func);
+    }
+
+    @Override
+    default <R> R mapOr(R defaultValue, Function<? super T, ? extends R> func) {
+        return inner().mapOr(defaultValue, func);
+    }
+
+    @Override
+    default <R> R mapOrElse(
+        Supplier<? extends R> defaultFunc,
+        Function<? super T, ? extends R> presentFunc
+    ) {
+        return inner().mapOrElse(defaultFunc, presentFunc);
+    }
+
+    @Override
+    default boolean isSome() {
+        return inner().isSome();
+    }
+
+    @Override
+    default boolean isSomeAnd(Predicate<? super T> p) {
+        return inner().isSomeAnd(p);
+    }
+
+    @Override
+    default boolean isNone() {
+        return inner().isNone();
+    }
+
+    @Override
+    default Option<T> or(Option<T> other) {
+        return inner().or(other);
+    }
+
+    @Override
+    default boolean contains(T candidate) {
+        return inner().contains(candidate);
+    }
+
+    @Override
+    default <R> Option<R> and(Option<R> other) {
+        return inner().and(other);
+    }
+
+    @Override
+    default Option<T> filter(Predicate<T> p) {
+        return inner().filter(p);
+    }
+
+    @Override
+    default <R> R matches(
+        Function<? super T, ? extends R> some,
+        Supplier<? extends R> none
+    ) {
+        return inner().matches(some, none);
+    }
 }
@@ -0,0 +1,233 @@
+package io.github.luccaflower.option;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * <p>
+ *     A mutable map from int to int with open addressing and linear probing.
+ *     Keys and values are stored in flat arrays, so neither lookups nor
+ *     insertions box, and lookups return an {@link OptionInt} rather than a
+ *     sentinel value:
+ * </p>
+ * <pre>{@code
+ * IntIntMap counts = new IntIntMap();
+ * counts.put(7, 1);
+ * int count = counts.get(7).unwrapOr(0);
+ * }</pre>
+ * <p>
+ *     Zero marks an empty slot, so the key zero is kept aside in a field of its
+ *     own. Removal shifts the following entries back rather than leaving
+ *     tombstones. The map is not thread-safe.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public final class IntIntMap {
+    private static final int EMPTY = 0;
+    private static final int MIN_CAPACITY = 8;
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    public IntIntMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize number of entries the map should hold without resizing
+     */
+    public IntIntMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative");
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Returns the value mapped to the key, or None if there is none.
+     */
+    public OptionInt get(int key) {
+        if (key == EMPTY) {
+            return hasZeroKey ? OptionInt.some(zeroValue) : OptionInt.none();
+        }
+        int slot = find(key);
+        return slot >= 0 ? OptionInt.some(values[slot]) : OptionInt.none();
+    }
+
+    /**
+     * Returns the value mapped to the key, or the default value if there is none.
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == EMPTY) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int slot = find(key);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    public boolean containsKey(int key) {
+        return key == EMPTY ? hasZeroKey : find(key) >= 0;
+    }
+
+    /**
+     * Maps the key to the value and returns the previous value, if any.
+     */
+    public OptionInt put(int key, int value) {
+        if (key == EMPTY) {
+            OptionInt previous = hasZeroKey ? OptionInt.some(zeroValue) : OptionInt.none();
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return previous;
+        }
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                int previous = values[slot];
+                values[slot] = value;
+                return OptionInt.some(previous);
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > keys.length >> 1) {
+            rehash(keys.length << 1);
+        }
+        return OptionInt.none();
+    }
+
+    /**
+     * Adds the delta to the value mapped to the key, treating a missing key
+     * as zero, and returns the new value.
+     */
+    public int addTo(int key, int delta) {
+        int value = getOrDefault(key, 0) + delta;
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Removes the key and returns the value it was mapped to, if any.
+     */
+    public OptionInt remove(int key) {
+        if (key == EMPTY) {
+            if (!hasZeroKey) {
+                return OptionInt.none();
+            }
+            hasZeroKey = false;
+            size--;
+            return OptionInt.some(zeroValue);
+        }
+        int slot = find(key);
+        if (slot < 0) {
+            return OptionInt.none();
+        }
+        int previous = values[slot];
+        shiftBack(slot);
+        size--;
+        return OptionInt.some(previous);
+    }
+
+    public void forEach(BiIntConsumer action) {
+        if (hasZeroKey) {
+            action.accept(EMPTY, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    /**
+     * Consumer of a key and its value.
+     */
+    @FunctionalInterface
+    public interface BiIntConsumer {
+        void accept(int key, int value);
+    }
+
+    private int find(int key) {
+        int slot = hash(key) & mask;
+        int current;
+        while ((current = keys[slot]) != EMPTY) {
+            if (current == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void shiftBack(int slot) {
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != EMPTY) {
+                int slot = hash(key) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long needed = Math.max(MIN_CAPACITY, (long) expectedSize * 2);
+        if (needed > 1 << 30) {
+            throw new IllegalArgumentException("expectedSize is too large: " + expectedSize);
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
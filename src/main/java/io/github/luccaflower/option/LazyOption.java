@@ -0,0 +1,156 @@
+package io.github.luccaflower.option;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * <p>
+ *     An Option that is computed from a supplier the first time it is observed,
+ *     for instance by {@link #unwrap()}, {@link #isSome()} or {@link #matches(Function, Supplier)}.
+ *     The supplier is called at most once, even when the Option is observed from
+ *     several threads at the same time, and is released afterwards.
+ * </p>
+ * <p>
+ *     The steps of a chain are fused: each combinator on an unevaluated
+ *     LazyOption appends its step to a single function over the Option the chain
+ *     started from, rather than wrapping the previous LazyOption. Intermediate
+ *     links are never evaluated or memoized. A LazyOption equals the Option it
+ *     evaluates to.
+ * </p>
+ * <p>
+ *     Combinators that return an Option, such as {@code map}, {@code flatMap} and
+ *     {@code or}, return a new LazyOption without evaluating anything, so a chain
+ *     of them only runs when its end is observed, and an unused fallback branch
+ *     costs nothing.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public final class LazyOption<T> implements ForwardingOption<T> {
+    private Supplier<? extends Option<T>> supplier;
+    private LazyOption<?> source;
+    private Function<Option<?>, ? extends Option<T>> steps;
+    private volatile Option<T> value;
+
+    private LazyOption(
+        Supplier<? extends Option<T>> supplier,
+        LazyOption<?> source,
+        Function<Option<?>, ? extends Option<T>> steps
+    ) {
+        this.supplier = supplier;
+        this.source = source;
+        this.steps = steps;
+    }
+
+    /**
+     * Defers the supplier until the Option is first observed.
+     */
+    public static <T> LazyOption<T> of(Supplier<? extends Option<T>> supplier) {
+        return new LazyOption<>(Objects.requireNonNull(supplier), null, null);
+    }
+
+    /**
+     * Returns true if the Option has already been evaluated.
+     */
+    public boolean isEvaluated() {
+        return value != null;
+    }
+
+    @Override
+    public Option<T> inner() {
+        Option<T> option = value;
+        if (option == null) {
+            synchronized (this) {
+                option = value;
+                if (option == null) {
+                    option = Objects.requireNonNull(
+                        supplier != null ? supplier.get() : steps.apply(source.inner())
+                    );
+                    value = option;
+                    supplier = null;
+                    source = null;
+                    steps = null;
+                }
+            }
+        }
+        return option;
+    }
+
+    /**
+     * Appends a step to the pending ones instead of wrapping this LazyOption, so
+     * that a chain of combinators runs as one function over the Option it
+     * started from, with no intermediate LazyOption being evaluated or memoized.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <R> LazyOption<R> then(Function<Option<T>, ? extends Option<R>> step) {
+        synchronized (this) {
+            if (value == null && source != null) {
+                return new LazyOption<>(null, source, steps.andThen(step));
+            }
+        }
+        return new LazyOption<>(null, this, (Function) step);
+    }
+
+    @Override
+    public <R> Option<R> flatMap(Function<? super T, ? extends Option<R>> func) {
+        return then(r -> r.flatMap(func));
+    }
+
+    @Override
+    public Option<T> orElse(Supplier<? extends Option<T>> other) {
+        return then(r -> r.orElse(other));
+    }
+
+    @Override
+    public <R> Option<R> map(Function<? super T, ? extends R> func) {
+        return then(r -> r.map(func));
+    }
+
+    @Override
+    public Option<T> or(Option<T> other) {
+        return then(r -> r.or(other));
+    }
+
+    @Override
+    public <R> Option<R> and(Option<R> other) {
+        return then(r -> r.and(other));
+    }
+
+    @Override
+    public Option<T> filter(Predicate<T> p) {
+        return then(r -> r.filter(p));
+    }
+
+    @Override
+    public Option<T> xor(Option<T> other) {
+        return then(r -> r.xor(other));
+    }
+
+    @Override
+    public Option<T> ifSome(Consumer<? super T> onSome) {
+        return then(r -> r.ifSome(onSome));
+    }
+
+    @Override
+    public Option<T> ifNone(Action onNone) {
+        return then(r -> r.ifNone(onNone));
+    }
+
+    @Override
+    public <R> Option<R> flatten() {
+        return then(r -> r.flatten());
+    }
+
+    /**
+     * Evaluates both sides, so that a LazyOption equals the Option it evaluates to.
+     * Some and None evaluate a LazyOption they are compared to in the same way.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return inner().equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return inner().hashCode();
+    }
+}
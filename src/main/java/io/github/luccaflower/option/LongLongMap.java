@@ -0,0 +1,233 @@
+package io.github.luccaflower.option;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * <p>
+ *     A mutable map from long to long with open addressing and linear probing.
+ *     Keys and values are stored in flat arrays, so neither lookups nor
+ *     insertions box, and lookups return an {@link OptionLong} rather than a
+ *     sentinel value:
+ * </p>
+ * <pre>{@code
+ * LongLongMap counts = new LongLongMap();
+ * counts.put(7L, 1L);
+ * long count = counts.get(7L).unwrapOr(0);
+ * }</pre>
+ * <p>
+ *     Zero marks an empty slot, so the key zero is kept aside in a field of its
+ *     own. Removal shifts the following entries back rather than leaving
+ *     tombstones. The map is not thread-safe.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public final class LongLongMap {
+    private static final long EMPTY = 0;
+    private static final int MIN_CAPACITY = 8;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+    private boolean hasZeroKey;
+    private long zeroValue;
+
+    public LongLongMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize number of entries the map should hold without resizing
+     */
+    public LongLongMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative");
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Returns the value mapped to the key, or None if there is none.
+     */
+    public OptionLong get(long key) {
+        if (key == EMPTY) {
+            return hasZeroKey ? OptionLong.some(zeroValue) : OptionLong.none();
+        }
+        int slot = find(key);
+        return slot >= 0 ? OptionLong.some(values[slot]) : OptionLong.none();
+    }
+
+    /**
+     * Returns the value mapped to the key, or the default value if there is none.
+     */
+    public long getOrDefault(long key, long defaultValue) {
+        if (key == EMPTY) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int slot = find(key);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    public boolean containsKey(long key) {
+        return key == EMPTY ? hasZeroKey : find(key) >= 0;
+    }
+
+    /**
+     * Maps the key to the value and returns the previous value, if any.
+     */
+    public OptionLong put(long key, long value) {
+        if (key == EMPTY) {
+            OptionLong previous = hasZeroKey ? OptionLong.some(zeroValue) : OptionLong.none();
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return previous;
+        }
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                long previous = values[slot];
+                values[slot] = value;
+                return OptionLong.some(previous);
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > keys.length >> 1) {
+            rehash(keys.length << 1);
+        }
+        return OptionLong.none();
+    }
+
+    /**
+     * Adds the delta to the value mapped to the key, treating a missing key
+     * as zero, and returns the new value.
+     */
+    public long addTo(long key, long delta) {
+        long value = getOrDefault(key, 0) + delta;
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Removes the key and returns the value it was mapped to, if any.
+     */
+    public OptionLong remove(long key) {
+        if (key == EMPTY) {
+            if (!hasZeroKey) {
+                return OptionLong.none();
+            }
+            hasZeroKey = false;
+            size--;
+            return OptionLong.some(zeroValue);
+        }
+        int slot = find(key);
+        if (slot < 0) {
+            return OptionLong.none();
+        }
+        long previous = values[slot];
+        shiftBack(slot);
+        size--;
+        return OptionLong.some(previous);
+    }
+
+    public void forEach(BiLongConsumer action) {
+        if (hasZeroKey) {
+            action.accept(EMPTY, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    /**
+     * Consumer of a key and its value.
+     */
+    @FunctionalInterface
+    public interface BiLongConsumer {
+        void accept(long key, long value);
+    }
+
+    private int find(long key) {
+        int slot = hash(key) & mask;
+        long current;
+        while ((current = keys[slot]) != EMPTY) {
+            if (current == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void shiftBack(int slot) {
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != EMPTY) {
+                int slot = hash(key) & mask;
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long needed = Math.max(MIN_CAPACITY, (long) expectedSize * 2);
+        if (needed > 1 << 30) {
+            throw new IllegalArgumentException("expectedSize is too large: " + expectedSize);
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
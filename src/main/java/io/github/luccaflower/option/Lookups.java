@@ -0,0 +1,97 @@
+package io.github.luccaflower.option;
+
+import java.util.*;
+
+/**
+ * <p>
+ *     Option-returning lookups on plain Maps, Lists and arrays. A key mapped to
+ *     null can be told apart from a missing key with {@link #entry(Map, Object)},
+ *     which asks {@link Map#getOrDefault(Object, Object)} for a private sentinel.
+ *     On maps that override getOrDefault, such as HashMap, that hashes the key
+ *     once; the default implementation looks it up again whenever get returns
+ *     null.
+ * </p>
+ * <pre>{@code
+ * Option<String> name = Lookups.get(names, id);
+ * Option<User> user = Lookups.get(users, index);   // None when out of bounds
+ * }</pre>
+ * <p>
+ *     Index lookups never throw on out-of-bounds access, and every miss
+ *     returns the shared None.
+ * </p>
+ * @see OptionMap
+ * @see OptionList
+ */
+@SuppressWarnings("unused")
+public final class Lookups {
+    private static final Object MISSING = new Object();
+
+    private Lookups() {}
+
+    /**
+     * Returns the value mapped to the key, or None if the key is missing or
+     * mapped to null.
+     */
+    public static <V> Option<V> get(Map<?, ? extends V> map, Object key) {
+        return Option.maybe(map.get(key));
+    }
+
+    /**
+     * Distinguishes the three states of a Map lookup: None if the key is
+     * missing, Some(None) if it is mapped to null, and Some(Some(value))
+     * otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> Option<Option<V>> entry(Map<?, ? extends V> map, Object key) {
+        Object value = ((Map<Object, Object>) map).getOrDefault(key, MISSING);
+        if (value == MISSING) {
+            return Option.none();
+        }
+        return Option.some(Option.maybe((V) value));
+    }
+
+    /**
+     * Returns the element at the index, or None if the index is out of bounds
+     * or the element is null.
+     */
+    public static <T> Option<T> get(List<? extends T> list, int index) {
+        return index >= 0 && index < list.size() ? Option.maybe(list.get(index)) : Option.none();
+    }
+
+    /**
+     * Returns the element at the index, or None if the index is out of bounds
+     * or the element is null.
+     */
+    public static <T> Option<T> get(T[] array, int index) {
+        return index >= 0 && index < array.length ? Option.maybe(array[index]) : Option.none();
+    }
+
+    public static OptionInt get(int[] array, int index) {
+        return index >= 0 && index < array.length ? OptionInt.some(array[index]) : OptionInt.none();
+    }
+
+    public static OptionLong get(long[] array, int index) {
+        return index >= 0 && index < array.length ? OptionLong.some(array[index]) : OptionLong.none();
+    }
+
+    public static OptionDouble get(double[] array, int index) {
+        return index >= 0 && index < array.length ? OptionDouble.some(array[index]) : OptionDouble.none();
+    }
+
+    public static <T> Option<T> first(List<? extends T> list) {
+        return get(list, 0);
+    }
+
+    public static <T> Option<T> last(List<? extends T> list) {
+        return get(list, list.size() - 1);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the element, or None if the
+     * list does not contain it.
+     */
+    public static OptionInt indexOf(List<?> list, Object element) {
+        int index = list.indexOf(element);
+        return index >= 0 ? OptionInt.some(index) : OptionInt.none();
+    }
+}
@@ -1,28 +1,176 @@
 package io.github.luccaflower.option;
 
 
+import io.github.luccaflower.jfr.*;
+import io.github.luccaflower.metrics.*;
+import io.github.luccaflower.result.*;
+
+import java.io.*;
 import java.util.function.*;
+import java.util.stream.*;
 
 @SuppressWarnings("unused")
-public class None<T> implements Option<T> {
+public class None<T> implements Option<T>, Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final None<?> NONE = new None<>();
+
     protected None() {}
+
+    @SuppressWarnings("unchecked")
+    static <T> None<T> instance() {
+        return (None<T>) NONE;
+    }
+
     @Override
     public T unwrap() {
-        throw new UnwrappedNone();
+        throw UnwrappedNone.create();
     }
 
     @Override
     public <R> Option<R> flatMap(Function<? super T, ? extends Option<R>> func) {
-        return Option.none();
+        return instance();
     }
 
     @Override
     public Option<T> orElse(Supplier<? extends Option<T>> other) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.OR_ELSE);
+        }
         return other.get();
     }
+
+    @Override
+    public Stream<T> stream() {
+        return Stream.empty();
+    }
+
+    @Override
+    public T unwrapOr(T defaultValue) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.UNWRAP_OR);
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public T unwrapOrElse(Supplier<? extends T> defaultFunc) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.UNWRAP_OR_ELSE);
+        }
+        return defaultFunc.get();
+    }
+
+    @Override
+    public T expect(String reason) {
+        throw new UnwrappedNone(reason);
+    }
+
+    @Override
+    public Option<T> ifSome(Consumer<? super T> onSome) {
+        return this;
+    }
+
+    @Override
+    public Option<T> ifNone(Action onNone) {
+        onNone.run();
+        return this;
+    }
+
+    @Override
+    public Result<T> okOr(Exception error) {
+        return Result.err(error);
+    }
+
+    @Override
+    public Result<T> okOrElse(Supplier<? extends Exception> error) {
+        return Result.err(error.get());
+    }
+
+    @Override
+    public <R> Option<R> map(Function<? super T, ? extends R> func) {
+        return instance();
+    }
+
+    @Override
+    public <R> R mapOr(R defaultValue, Function<? super T, ? extends R> func) {
+        return defaultValue;
+    }
+
+    @Override
+    public <R> R mapOrElse(
+        Supplier<? extends R> defaultFunc,
+        Function<? super T, ? extends R> presentFunc
+    ) {
+        return defaultFunc.get();
+    }
+
+    @Override
+    public boolean isSome() {
+        return false;
+    }
+
+    @Override
+    public boolean isSomeAnd(Predicate<? super T> p) {
+        return false;
+    }
+
+    @Override
+    public boolean isNone() {
+        return true;
+    }
+
+    @Override
+    public Option<T> or(Option<T> other) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.OR);
+        }
+        return other;
+    }
+
+    @Override
+    public boolean contains(T candidate) {
+        return false;
+    }
+
+    @Override
+    public <R> Option<R> and(Option<R> other) {
+        return instance();
+    }
+
+    @Override
+    public Option<T> filter(Predicate<T> p) {
+        return this;
+    }
+
+    @Override
+    public Option<T> xor(Option<T> other) {
+        return other;
+    }
+
+    @Override
+    public <R> Option<R> flatten() {
+        return instance();
+    }
+
+    @Override
+    public <R> R matches(
+        Function<? super T, ? extends R> some,
+        Supplier<? extends R> none
+    ) {
+        return UnionEvents.ENABLED ? UnionEvents.get("matches", none) : none.get();
+    }
+
+    /**
+     * Keeps None a singleton across deserialization.
+     */
+    private Object readResolve() {
+        return NONE;
+    }
+
     @Override
     public boolean equals(Object other) {
-        return other instanceof None<?>;
+        return other instanceof None<?>
+            || other instanceof LazyOption<?> && ((LazyOption<?>) other).inner() instanceof None<?>;
     }
 
     @Override public int hashCode() {
@@ -0,0 +1,172 @@
+package io.github.luccaflower.option;
+
+import io.github.luccaflower.metrics.*;
+import io.github.luccaflower.result.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+@SuppressWarnings("unused")
+public class NoneDouble implements OptionDouble {
+    private static final NoneDouble NONE = new NoneDouble();
+
+    protected NoneDouble() {}
+
+    static NoneDouble instance() {
+        return NONE;
+    }
+
+    @Override
+    public double unwrap() {
+        throw UnwrappedNone.create();
+    }
+
+    @Override
+    public double unwrapOr(double defaultValue) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.UNWRAP_OR);
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public double unwrapOrElse(DoubleSupplier defaultFunc) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.UNWRAP_OR_ELSE);
+        }
+        return defaultFunc.getAsDouble();
+    }
+
+    @Override
+    public double expect(String reason) {
+        throw new UnwrappedNone(reason);
+    }
+
+    @Override
+    public boolean isSome() {
+        return false;
+    }
+
+    @Override
+    public boolean isNone() {
+        return true;
+    }
+
+    @Override
+    public boolean isSomeAnd(DoublePredicate p) {
+        return false;
+    }
+
+    @Override
+    public boolean contains(double candidate) {
+        return false;
+    }
+
+    @Override
+    public OptionDouble map(DoubleUnaryOperator func) {
+        return this;
+    }
+
+    @Override
+    public <R> Option<R> mapToObj(DoubleFunction<? extends R> func) {
+        return None.instance();
+    }
+
+    @Override
+    public OptionInt mapToInt(DoubleToIntFunction func) {
+        return NoneInt.instance();
+    }
+
+    @Override
+    public OptionLong mapToLong(DoubleToLongFunction func) {
+        return NoneLong.instance();
+    }
+
+    @Override
+    public OptionDouble flatMap(DoubleFunction<? extends OptionDouble> func) {
+        return this;
+    }
+
+    @Override
+    public OptionDouble filter(DoublePredicate p) {
+        return this;
+    }
+
+    @Override
+    public double mapOr(double defaultValue, DoubleUnaryOperator func) {
+        return defaultValue;
+    }
+
+    @Override
+    public <R> R matches(DoubleFunction<? extends R> some, Supplier<? extends R> none) {
+        return none.get();
+    }
+
+    @Override
+    public OptionDouble or(OptionDouble other) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.OR);
+        }
+        return other;
+    }
+
+    @Override
+    public OptionDouble orElse(Supplier<? extends OptionDouble> other) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.OR_ELSE);
+        }
+        return other.get();
+    }
+
+    @Override
+    public OptionDouble and(OptionDouble other) {
+        return this;
+    }
+
+    @Override
+    public OptionDouble ifSome(DoubleConsumer onSome) {
+        return this;
+    }
+
+    @Override
+    public OptionDouble ifNone(Option.Action onNone) {
+        onNone.run();
+        return this;
+    }
+
+    @Override
+    public ResultDouble okOr(Exception error) {
+        return ResultDouble.err(error);
+    }
+
+    @Override
+    public ResultDouble okOrElse(Supplier<? extends Exception> error) {
+        return ResultDouble.err(error.get());
+    }
+
+    @Override
+    public Option<Double> boxed() {
+        return None.instance();
+    }
+
+    @Override
+    public OptionalDouble toOptional() {
+        return OptionalDouble.empty();
+    }
+
+    @Override
+    public DoubleStream stream() {
+        return DoubleStream.empty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof NoneDouble;
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+}
@@ -0,0 +1,172 @@
+package io.github.luccaflower.option;
+
+import io.github.luccaflower.metrics.*;
+import io.github.luccaflower.result.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+@SuppressWarnings("unused")
+public class NoneInt implements OptionInt {
+    private static final NoneInt NONE = new NoneInt();
+
+    protected NoneInt() {}
+
+    static NoneInt instance() {
+        return NONE;
+    }
+
+    @Override
+    public int unwrap() {
+        throw UnwrappedNone.create();
+    }
+
+    @Override
+    public int unwrapOr(int defaultValue) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.UNWRAP_OR);
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public int unwrapOrElse(IntSupplier defaultFunc) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.UNWRAP_OR_ELSE);
+        }
+        return defaultFunc.getAsInt();
+    }
+
+    @Override
+    public int expect(String reason) {
+        throw new UnwrappedNone(reason);
+    }
+
+    @Override
+    public boolean isSome() {
+        return false;
+    }
+
+    @Override
+    public boolean isNone() {
+        return true;
+    }
+
+    @Override
+    public boolean isSomeAnd(IntPredicate p) {
+        return false;
+    }
+
+    @Override
+    public boolean contains(int candidate) {
+        return false;
+    }
+
+    @Override
+    public OptionInt map(IntUnaryOperator func) {
+        return this;
+    }
+
+    @Override
+    public <R> Option<R> mapToObj(IntFunction<? extends R> func) {
+        return None.instance();
+    }
+
+    @Override
+    public OptionLong mapToLong(IntToLongFunction func) {
+        return NoneLong.instance();
+    }
+
+    @Override
+    public OptionDouble mapToDouble(IntToDoubleFunction func) {
+        return NoneDouble.instance();
+    }
+
+    @Override
+    public OptionInt flatMap(IntFunction<? extends OptionInt> func) {
+        return this;
+    }
+
+    @Override
+    public OptionInt filter(IntPredicate p) {
+        return this;
+    }
+
+    @Override
+    public int mapOr(int defaultValue, IntUnaryOperator func) {
+        return defaultValue;
+    }
+
+    @Override
+    public <R> R matches(IntFunction<? extends R> some, Supplier<? extends R> none) {
+        return none.get();
+    }
+
+    @Override
+    public OptionInt or(OptionInt other) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.OR);
+        }
+        return other;
+    }
+
+    @Override
+    public OptionInt orElse(Supplier<? extends OptionInt> other) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.OR_ELSE);
+        }
+        return other.get();
+    }
+
+    @Override
+    public OptionInt and(OptionInt other) {
+        return this;
+    }
+
+    @Override
+    public OptionInt ifSome(IntConsumer onSome) {
+        return this;
+    }
+
+    @Override
+    public OptionInt ifNone(Option.Action onNone) {
+        onNone.run();
+        return this;
+    }
+
+    @Override
+    public ResultInt okOr(Exception error) {
+        return ResultInt.err(error);
+    }
+
+    @Override
+    public ResultInt okOrElse(Supplier<? extends Exception> error) {
+        return ResultInt.err(error.get());
+    }
+
+    @Override
+    public Option<Integer> boxed() {
+        return None.instance();
+    }
+
+    @Override
+    public OptionalInt toOptional() {
+        return OptionalInt.empty();
+    }
+
+    @Override
+    public IntStream stream() {
+        return IntStream.empty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof NoneInt;
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+}
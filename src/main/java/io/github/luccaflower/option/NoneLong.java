@@ -0,0 +1,172 @@
+package io.github.luccaflower.option;
+
+import io.github.luccaflower.metrics.*;
+import io.github.luccaflower.result.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+@SuppressWarnings("unused")
+public class NoneLong implements OptionLong {
+    private static final NoneLong NONE = new NoneLong();
+
+    protected NoneLong() {}
+
+    static NoneLong instance() {
+        return NONE;
+    }
+
+    @Override
+    public long unwrap() {
+        throw UnwrappedNone.create();
+    }
+
+    @Override
+    public long unwrapOr(long defaultValue) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.UNWRAP_OR);
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public long unwrapOrElse(LongSupplier defaultFunc) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.UNWRAP_OR_ELSE);
+        }
+        return defaultFunc.getAsLong();
+    }
+
+    @Override
+    public long expect(String reason) {
+        throw new UnwrappedNone(reason);
+    }
+
+    @Override
+    public boolean isSome() {
+        return false;
+    }
+
+    @Override
+    public boolean isNone() {
+        return true;
+    }
+
+    @Override
+    public boolean isSomeAnd(LongPredicate p) {
+        return false;
+    }
+
+    @Override
+    public boolean contains(long candidate) {
+        return false;
+    }
+
+    @Override
+    public OptionLong map(LongUnaryOperator func) {
+        return this;
+    }
+
+    @Override
+    public <R> Option<R> mapToObj(LongFunction<? extends R> func) {
+        return None.instance();
+    }
+
+    @Override
+    public OptionInt mapToInt(LongToIntFunction func) {
+        return NoneInt.instance();
+    }
+
+    @Override
+    public OptionDouble mapToDouble(LongToDoubleFunction func) {
+        return NoneDouble.instance();
+    }
+
+    @Override
+    public OptionLong flatMap(LongFunction<? extends OptionLong> func) {
+        return this;
+    }
+
+    @Override
+    public OptionLong filter(LongPredicate p) {
+        return this;
+    }
+
+    @Override
+    public long mapOr(long defaultValue, LongUnaryOperator func) {
+        return defaultValue;
+    }
+
+    @Override
+    public <R> R matches(LongFunction<? extends R> some, Supplier<? extends R> none) {
+        return none.get();
+    }
+
+    @Override
+    public OptionLong or(OptionLong other) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.OR);
+        }
+        return other;
+    }
+
+    @Override
+    public OptionLong orElse(Supplier<? extends OptionLong> other) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.OR_ELSE);
+        }
+        return other.get();
+    }
+
+    @Override
+    public OptionLong and(OptionLong other) {
+        return this;
+    }
+
+    @Override
+    public OptionLong ifSome(LongConsumer onSome) {
+        return this;
+    }
+
+    @Override
+    public OptionLong ifNone(Option.Action onNone) {
+        onNone.run();
+        return this;
+    }
+
+    @Override
+    public ResultLong okOr(Exception error) {
+        return ResultLong.err(error);
+    }
+
+    @Override
+    public ResultLong okOrElse(Supplier<? extends Exception> error) {
+        return ResultLong.err(error.get());
+    }
+
+    @Override
+    public Option<Long> boxed() {
+        return None.instance();
+    }
+
+    @Override
+    public OptionalLong toOptional() {
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public LongStream stream() {
+        return LongStream.empty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof NoneLong;
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.luccaflower.option;
 
+import io.github.luccaflower.metrics.*;
 import io.github.luccaflower.result.*;
 
 import java.util.*;
@@ -22,6 +23,11 @@ import static io.github.luccaflower.result.Result.err;
  *     Further more, the {@link ForwardingOption} interface is provided for easy
  *     implementation of wrapper classes.
  * </p>
+ * <p>
+ *     On Java 17 and later the multi-release jar seals this interface to {@link Some},
+ *     {@link None} and {@link ForwardingOption}, so it can be dispatched over with
+ *     an exhaustive switch instead of {@link #matches(Function, Supplier)}.
+ * </p>
  * @param <T> The object type contained within the Some-variant
  * @author Lucca Kaasgaard Christiansen
  */
@@ -29,18 +35,23 @@ import static io.github.luccaflower.result.Result.err;
 public interface Option<T> {
 
     /**
-     * Instantiate the None-variant of the class.
+     * Instantiate the None-variant of the class. The returned instance is shared.
      */
     static <T> Option<T> none() {
-        return new None<>();
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.noneCreated();
+        }
+        return None.instance();
     }
 
     /**
      * Return the Some-variant containing the object passed to the function.
+     * Booleans and small integers are served from a cache of shared instances,
+     * see {@link ValueCache}.
      */
     static <T> Option<T> some(T thing) {
         Objects.requireNonNull(thing);
-        return new Some<>(thing);
+        return Some.of(thing);
     }
 
     /**
@@ -51,6 +62,13 @@ public interface Option<T> {
         return nullable == null ? none() : some(nullable);
     }
 
+    /**
+     * Defers the supplier until the Option is first observed, see {@link LazyOption}.
+     */
+    static <T> Option<T> lazy(Supplier<? extends Option<T>> supplier) {
+        return LazyOption.of(supplier);
+    }
+
     /**
      * A utility-function to convert a {@link Optional} to an instance of this type.
      */
@@ -87,11 +105,7 @@ public interface Option<T> {
      * Tries to extract the inner object if there is one, otherwise returns the default
      */
     default T unwrapOr(T defaultValue) {
-        try {
-            return unwrap();
-        } catch (UnwrappedNone ignored) {
-            return defaultValue;
-        }
+        return isSome() ? unwrap() : defaultValue;
     }
 
     /**
@@ -99,11 +113,7 @@ public interface Option<T> {
      * passed function and returns the result.
      */
     default T unwrapOrElse(Supplier<? extends T> defaultFunc) {
-        try {
-            return unwrap();
-        } catch (UnwrappedNone e) {
-            return defaultFunc.get();
-        }
+        return isSome() ? unwrap() : defaultFunc.get();
     }
 
     /**
@@ -112,7 +122,10 @@ public interface Option<T> {
      * @throws UnwrappedNone containing the reason.
      */
     default T expect(String reason) {
-        return unwrapOrElse(() -> { throw new UnwrappedNone(reason); });
+        if (isNone()) {
+            throw new UnwrappedNone(reason);
+        }
+        return unwrap();
     }
 
     /**
@@ -178,12 +191,13 @@ public interface Option<T> {
     /**
      * Applies the function to the inner object if present and returns it,
      * otherwise it returns the result of evaluating the default function.
+     * The default function is only evaluated on None.
      */
     default <R> R mapOrElse(
         Supplier<? extends R> defaultFunc,
         Function<? super T, ? extends R> presentFunc
     ) {
-        return mapOr(defaultFunc.get(), presentFunc);
+        return matches(presentFunc, defaultFunc);
     }
 
     /**
@@ -191,7 +205,8 @@ public interface Option<T> {
      */
     default boolean isSome() {
         return map(some -> true)
-            .unwrapOr(false);
+            .orElse(() -> some(false))
+            .unwrap();
     }
 
     /**
@@ -206,8 +221,7 @@ public interface Option<T> {
      * Returns true on None and false on Some
      */
     default boolean isNone() {
-        return map(some -> false)
-            .unwrapOr(true);
+        return !isSome();
     }
 
     /**
@@ -267,89 +281,108 @@ public interface Option<T> {
 
 
     /**
-     * This collector takes a {@code List<Option<T>>} and converts it to an {@code Option<List<T>>},
-     * If any objects are present, this returns a Some with a List containing all objects, otherwise it returns None
-     */
-    static <T> Collector<Option<T>, List<T>, Option<List<T>>> orCollector() {
-        return new Collector<>() {
-            @Override
-            public Supplier<List<T>> supplier() {
-                return ArrayList::new;
-            }
-
-            @Override
-            public BiConsumer<List<T>, Option<T>> accumulator() {
-                return (acc, e) -> {
-                    if (e.isSome()) acc.add(e.unwrap());
-                };
-            }
-
-            @Override
-            public BinaryOperator<List<T>> combiner() {
-                return (one, other) -> {
-                    one.addAll(other);
-                    return one;
-                };
-            }
-
-            @Override
-            public Function<List<T>, Option<List<T>>> finisher() {
-                return list -> list.isEmpty()
-                    ? none()
-                    : some(list);
-            }
-
-            @Override
-            public Set<Characteristics> characteristics() {
-                return Set.of(Characteristics.UNORDERED);
-            }
-        };
-    }
-
-    /**
-     * This collector converts a {@code List<Option<T>>} into an {@code Option<List<T>>}.
-     * This collector returns Some if, and only if, all Options in the List are Some, otherwise it returns None.
-     */
-    static <T> Collector<Option<T>, List<Option<T>>, Option<List<T>>> andCollector() {
-        return new Collector<>() {
-            @Override
-            public Supplier<List<Option<T>>> supplier() {
-                return ArrayList::new;
-            }
-
-            @Override
-            public BiConsumer<List<Option<T>>, Option<T>> accumulator() {
-                return List::add;
-            }
-
-            @Override
-            public BinaryOperator<List<Option<T>>> combiner() {
-                return (one, other) -> {
-                    one.addAll(other);
-                    return one;
-                };
-            }
-
-            @Override
-            public Function<List<Option<T>>, Option<List<T>>> finisher() {
-                return list -> list.stream().<Option<List<T>>>reduce(
-                    Option.some(new ArrayList<>()),
-                    (acc, e) -> e.and(acc).map(some -> {
-                        some.add(e.unwrap());
-                        return some;
-                    }),
-                    (one, other) -> one.and(other).map(some -> {
-                        some.addAll(one.unwrap());
-                        return some;
-                    })
-                );
-            }
-
-            @Override
-            public Set<Characteristics> characteristics() {
-                return Set.of(Characteristics.UNORDERED);
-            }
-        };
+     * Applies the function to every element of the source in order and returns
+     * Some containing the results, or None as soon as the function returns None.
+     * Nothing past the first None is consumed. The output list is pre-sized when
+     * the source is a {@link Collection}.
+     */
+    static <A, B> Option<List<B>> traverse(
+        Iterable<? extends A> source,
+        Function<? super A, ? extends Option<B>> func
+    ) {
+        return Traversals.traverse(source.iterator(), Traversals.sizeOf(source), func);
+    }
+
+    /**
+     * Converts an {@code Iterable<Option<T>>} to an {@code Option<List<T>>},
+     * stopping at the first None.
+     */
+    static <T> Option<List<T>> sequence(Iterable<? extends Option<T>> options) {
+        return Traversals.traverse(options.iterator(), Traversals.sizeOf(options), Function.identity());
+    }
+
+    /**
+     * Converts an {@code Iterator<Option<T>>} to an {@code Option<List<T>>},
+     * leaving the iterator positioned just after the first None.
+     */
+    static <T> Option<List<T>> sequence(Iterator<? extends Option<T>> options) {
+        return Traversals.traverse(options, -1, Function.identity());
+    }
+
+    /**
+     * Converts a {@code Spliterator<Option<T>>} to an {@code Option<List<T>>},
+     * stopping at the first None. The output list is pre-sized when the
+     * spliterator knows its exact size.
+     */
+    static <T> Option<List<T>> sequence(Spliterator<? extends Option<T>> options) {
+        return Traversals.traverse(
+            Spliterators.iterator(options),
+            options.getExactSizeIfKnown(),
+            Function.identity()
+        );
+    }
+
+    /**
+     * Folds the source into a single value, stopping at the first None returned
+     * by the step function. No intermediate list is built.
+     */
+    static <A, R> Option<R> tryFold(
+        Iterable<? extends A> source,
+        R initial,
+        BiFunction<? super R, ? super A, ? extends Option<R>> step
+    ) {
+        return Traversals.tryFold(source.iterator(), initial, step);
+    }
+
+    /**
+     * Passes every element of the source to the action together with the
+     * caller-provided accumulator, stopping at the first None. Returns Some
+     * containing the accumulator if every action returned Some.
+     */
+    static <A, C> Option<C> tryForEach(
+        Iterable<? extends A> source,
+        C accumulator,
+        BiFunction<? super C, ? super A, ? extends Option<?>> action
+    ) {
+        return Traversals.tryForEach(source.iterator(), accumulator, action);
+    }
+
+    /**
+     * This collector takes a {@code List<Option<T>>} and converts it to an
+     * {@code Option<List<T>>}. If any objects are present, this returns a Some
+     * with a List containing all objects, otherwise it returns None.
+     */
+    static <T> Collector<Option<T>, ?, Option<List<T>>> orCollector() {
+        return OptionCollectors.or();
+    }
+
+    /**
+     * This collector converts a {@code List<Option<T>>} into an
+     * {@code Option<List<T>>}. This collector returns Some if, and only if, all
+     * Options in the List are Some, otherwise it returns None. Objects are no
+     * longer buffered once a None has been seen.
+     */
+    static <T> Collector<Option<T>, ?, Option<List<T>>> andCollector() {
+        return OptionCollectors.and();
+    }
+
+    /**
+     * Collects the present values of a stream into a List in encounter order,
+     * and counts the Nones, in a single pass.
+     */
+    static <T> Collector<Option<T>, ?, Partition<List<T>, Long>> partitioningCollector() {
+        return OptionCollectors.partitioning(Collectors.toList());
+    }
+
+    /**
+     * Hands the present values of a stream to a downstream collector and
+     * counts the Nones, in a single pass. The count is kept in a primitive
+     * field and is only boxed once, by the finisher.
+     */
+    static <T, S> Collector<Option<T>, ?, Partition<S, Long>> partitioningCollector(
+        Collector<? super T, ?, S> somes
+    ) {
+        return OptionCollectors.partitioning(somes);
     }
 
     @FunctionalInterface
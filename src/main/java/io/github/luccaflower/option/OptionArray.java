@@ -0,0 +1,196 @@
+package io.github.luccaflower.option;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * <p>
+ *     An immutable batch of Options stored as a plain array rather than as one
+ *     {@link Some} object per element. A present element takes one slot
+ *     holding its value, and a None is a null slot:
+ * </p>
+ * <pre>{@code
+ * OptionArray<User> users = ids.stream()
+ *     .map(repository::find)
+ *     .collect(OptionArray.collector());
+ * List<User> found = users.somes();
+ * }</pre>
+ * <p>
+ *     Bulk operations run over the array directly. {@link #get(int)} creates
+ *     an Option for a single element on demand.
+ * </p>
+ * @see OptionIntArray
+ */
+@SuppressWarnings("unused")
+public final class OptionArray<T> {
+    private final Object[] slots;
+
+    private OptionArray(Object[] slots) {
+        this.slots = slots;
+    }
+
+    public static <T> OptionArray<T> of(Collection<? extends Option<T>> options) {
+        Object[] slots = new Object[options.size()];
+        int i = 0;
+        for (Option<T> option : options) {
+            slots[i++] = Options.fromOption(option);
+        }
+        return new OptionArray<>(slots);
+    }
+
+    public static <T> OptionArray<T> from(Stream<? extends Option<T>> options) {
+        return options.collect(collector());
+    }
+
+    /**
+     * Creates a batch from nullable references, where null stands in for None.
+     */
+    @SafeVarargs
+    public static <T> OptionArray<T> ofNullable(T... values) {
+        Object[] slots = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            slots[i] = values[i];
+        }
+        return new OptionArray<>(slots);
+    }
+
+    /**
+     * Collects the Options of a stream, keeping encounter order for parallel
+     * streams.
+     */
+    public static <T> Collector<Option<T>, ?, OptionArray<T>> collector() {
+        return Collector.of(
+            ArrayList<Object>::new,
+            (slots, option) -> slots.add(Options.fromOption(option)),
+            (left, right) -> {
+                left.addAll(right);
+                return left;
+            },
+            slots -> new OptionArray<>(slots.toArray())
+        );
+    }
+
+    public int size() {
+        return slots.length;
+    }
+
+    public boolean isSome(int index) {
+        return slots[Objects.checkIndex(index, slots.length)] != null;
+    }
+
+    public boolean isNone(int index) {
+        return slots[Objects.checkIndex(index, slots.length)] == null;
+    }
+
+    /**
+     * Returns the element at the index as an Option.
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @SuppressWarnings("unchecked")
+    public Option<T> get(int index) {
+        return Option.maybe((T) slots[Objects.checkIndex(index, slots.length)]);
+    }
+
+    public int someCount() {
+        int count = 0;
+        for (Object slot : slots) {
+            if (slot != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int noneCount() {
+        return slots.length - someCount();
+    }
+
+    /**
+     * Applies the function to every present value. Nones keep their position.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> OptionArray<R> map(Function<? super T, ? extends R> func) {
+        Object[] mapped = new Object[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            mapped[i] = Options.map((T) slots[i], func);
+        }
+        return new OptionArray<>(mapped);
+    }
+
+    /**
+     * Applies the function to every present value, turning the element into a
+     * None where the function returns one.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> OptionArray<R> flatMap(Function<? super T, ? extends Option<R>> func) {
+        Object[] mapped = new Object[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            mapped[i] = Options.flatMapOption((T) slots[i], func);
+        }
+        return new OptionArray<>(mapped);
+    }
+
+    /**
+     * Turns every present value that does not match the predicate into a None.
+     */
+    @SuppressWarnings("unchecked")
+    public OptionArray<T> filter(Predicate<? super T> p) {
+        Object[] filtered = new Object[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            filtered[i] = Options.filter((T) slots[i], p);
+        }
+        return new OptionArray<>(filtered);
+    }
+
+    /**
+     * Returns the present values in order, skipping the Nones.
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> somes() {
+        List<T> values = new ArrayList<>(slots.length);
+        for (Object slot : slots) {
+            if (slot != null) {
+                values.add((T) slot);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns every value if none of them is missing, and None otherwise.
+     */
+    public Option<List<T>> toOption() {
+        return noneCount() == 0 ? Option.some(values()) : Option.none();
+    }
+
+    /**
+     * Returns every value.
+     * @throws UnwrappedNone if any element is None
+     */
+    public List<T> unwrapAll() {
+        if (noneCount() > 0) {
+            throw UnwrappedNone.create();
+        }
+        return values();
+    }
+
+    public Stream<Option<T>> stream() {
+        return IntStream.range(0, slots.length).mapToObj(this::get);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> values() {
+        return (List<T>) Collections.unmodifiableList(Arrays.asList(slots.clone()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof OptionArray<?> && Arrays.equals(((OptionArray<?>) other).slots, slots);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(slots);
+    }
+}
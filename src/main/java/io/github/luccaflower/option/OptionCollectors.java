@@ -0,0 +1,109 @@
+package io.github.luccaflower.option;
+
+import io.github.luccaflower.result.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * The collectors behind {@link Option#andCollector()}, {@link Option#orCollector()}
+ * and {@link Option#partitioningCollector(Collector)}. Each makes a single
+ * pass and keeps encounter order when combining parallel partial results.
+ * The and and or collectors gather the values of the Somes into one list. The
+ * partitioning collector hands the values to its downstream collector and
+ * only counts the Nones.
+ */
+final class OptionCollectors {
+    private OptionCollectors() {}
+
+    static <T> Collector<Option<T>, ?, Option<List<T>>> and() {
+        return Collector.of(
+            AndState<T>::new,
+            AndState::add,
+            AndState::combine,
+            AndState::finish
+        );
+    }
+
+    static <T, SA, S> Collector<Option<T>, ?, Partition<S, Long>> partitioning(
+        Collector<? super T, SA, S> somes
+    ) {
+        BiConsumer<SA, ? super T> addSome = somes.accumulator();
+        BinaryOperator<SA> combineSomes = somes.combiner();
+        return Collector.of(
+            () -> new PartitionState<>(somes.supplier().get()),
+            (state, option) -> {
+                if (option.isSome()) {
+                    addSome.accept(state.somes, option.unwrap());
+                } else {
+                    state.nones++;
+                }
+            },
+            (left, right) -> {
+                PartitionState<SA> merged = new PartitionState<>(combineSomes.apply(left.somes, right.somes));
+                merged.nones = left.nones + right.nones;
+                return merged;
+            },
+            state -> Partition.of(somes.finisher().apply(state.somes), state.nones),
+            somes.characteristics().contains(Collector.Characteristics.UNORDERED)
+                ? new Collector.Characteristics[] {Collector.Characteristics.UNORDERED}
+                : new Collector.Characteristics[0]
+        );
+    }
+
+    private static final class PartitionState<SA> {
+        private final SA somes;
+        private long nones;
+
+        PartitionState(SA somes) {
+            this.somes = somes;
+        }
+    }
+
+    static <T> Collector<Option<T>, ?, Option<List<T>>> or() {
+        return Collector.of(
+            ArrayList<T>::new,
+            (values, option) -> {
+                if (option.isSome()) {
+                    values.add(option.unwrap());
+                }
+            },
+            (left, right) -> {
+                left.addAll(right);
+                return left;
+            },
+            values -> values.isEmpty() ? Option.none() : Option.some(values)
+        );
+    }
+
+    private static final class AndState<T> {
+        private List<T> values = new ArrayList<>();
+
+        void add(Option<T> option) {
+            if (values == null) {
+                return;
+            }
+            if (option.isSome()) {
+                values.add(option.unwrap());
+            } else {
+                values = null;
+            }
+        }
+
+        AndState<T> combine(AndState<T> right) {
+            if (values == null) {
+                return this;
+            }
+            if (right.values == null) {
+                return right;
+            }
+            values.addAll(right.values);
+            return this;
+        }
+
+        Option<List<T>> finish() {
+            return Option.maybe(values);
+        }
+    }
+}
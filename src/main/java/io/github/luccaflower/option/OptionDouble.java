@@ -0,0 +1,214 @@
+package io.github.luccaflower.option;
+
+import io.github.luccaflower.metrics.*;
+import io.github.luccaflower.result.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * <p>
+ *     A double-specialized {@link Option}, in the same way that {@link OptionalDouble}
+ *     specializes {@link Optional}. The combinators take primitive functional
+ *     interfaces, so numeric pipelines never box their values.
+ * </p>
+ * <p>
+ *     {@link #boxed()} and {@link #from(Option)} convert losslessly to and from
+ *     the generic {@code Option<Double>}.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public interface OptionDouble {
+
+    /**
+     * Instantiate the None-variant of the class. The returned instance is shared.
+     */
+    static OptionDouble none() {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.noneCreated();
+        }
+        return NoneDouble.instance();
+    }
+
+    /**
+     * Return the Some-variant containing the value passed to the function.
+     */
+    static OptionDouble some(double value) {
+        return new SomeDouble(value);
+    }
+
+    /**
+     * Converts a generic Option to its double-specialized counterpart.
+     */
+    static OptionDouble from(Option<Double> option) {
+        return option.matches(OptionDouble::some, OptionDouble::none);
+    }
+
+    /**
+     * A utility-function to convert a {@link OptionalDouble} to an instance of this type.
+     */
+    static OptionDouble from(OptionalDouble optional) {
+        return optional.isPresent() ? some(optional.getAsDouble()) : none();
+    }
+
+    /**
+     * Extraction method to retrieve the inner value if present.
+     * @throws UnwrappedNone on None
+     */
+    double unwrap();
+
+    /**
+     * Extracts the inner value if there is one, otherwise returns the default.
+     */
+    double unwrapOr(double defaultValue);
+
+    /**
+     * Extracts the inner value, otherwise evaluates the passed function and
+     * returns the result.
+     */
+    double unwrapOrElse(DoubleSupplier defaultFunc);
+
+    /**
+     * Extracts the inner value, otherwise throws an exception containing the reason.
+     * @throws UnwrappedNone containing the reason.
+     */
+    double expect(String reason);
+
+    /**
+     * Returns true on Some and false on None
+     */
+    boolean isSome();
+
+    /**
+     * Returns true on None and false on Some
+     */
+    boolean isNone();
+
+    /**
+     * Returns true on Some if the inner value passes the predicate.
+     */
+    boolean isSomeAnd(DoublePredicate p);
+
+    /**
+     * Returns true on Some if the inner value equals the candidate.
+     */
+    boolean contains(double candidate);
+
+    /**
+     * Applies the function to the inner value if present and returns a new
+     * Option containing the result.
+     */
+    OptionDouble map(DoubleUnaryOperator func);
+
+    /**
+     * Applies the function to the inner value if present and returns a generic
+     * Option containing the result.
+     */
+    <R> Option<R> mapToObj(DoubleFunction<? extends R> func);
+
+    /**
+     * Applies the function to the inner value if present and returns a
+     * {@link OptionInt} containing the result.
+     */
+    OptionInt mapToInt(DoubleToIntFunction func);
+
+    /**
+     * Applies the function to the inner value if present and returns a
+     * {@link OptionLong} containing the result.
+     */
+    OptionLong mapToLong(DoubleToLongFunction func);
+
+    /**
+     * Returns the result of applying the function to the inner value if present,
+     * otherwise returns None.
+     */
+    OptionDouble flatMap(DoubleFunction<? extends OptionDouble> func);
+
+    /**
+     * Returns Some if a value is present and it passes the predicate, otherwise
+     * returns None.
+     */
+    OptionDouble filter(DoublePredicate p);
+
+    /**
+     * Applies the function to the inner value if present and returns the result,
+     * otherwise returns the default value.
+     */
+    double mapOr(double defaultValue, DoubleUnaryOperator func);
+
+    /**
+     * Applies the some-function on the inner value if it is present, otherwise
+     * evaluates the none-function.
+     */
+    <R> R matches(DoubleFunction<? extends R> some, Supplier<? extends R> none);
+
+    /**
+     * Returns this Option if it is Some, otherwise the other Option.
+     */
+    OptionDouble or(OptionDouble other);
+
+    /**
+     * Returns this Option if it is Some, otherwise the result of evaluating
+     * the passed function.
+     */
+    OptionDouble orElse(Supplier<? extends OptionDouble> other);
+
+    /**
+     * Returns None if this Option is None, otherwise the other Option.
+     */
+    OptionDouble and(OptionDouble other);
+
+    /**
+     * Passes the inner value to the consumer if present.
+     */
+    OptionDouble ifSome(DoubleConsumer onSome);
+
+    /**
+     * Runs the action if the Option is None.
+     */
+    OptionDouble ifNone(Option.Action onNone);
+
+    /**
+     * Converts this instance to a {@link ResultDouble} that is Ok on Some, and
+     * an Err containing the passed Exception on None.
+     */
+    ResultDouble okOr(Exception error);
+
+    /**
+     * Converts this instance to a {@link ResultDouble} that is Ok on Some, and
+     * an Err containing the result of evaluating the passed function on None.
+     */
+    ResultDouble okOrElse(Supplier<? extends Exception> error);
+
+    /**
+     * Converts this instance to the generic {@code Option<Double>}.
+     */
+    Option<Double> boxed();
+
+    /**
+     * Converts this instance to a {@link OptionalDouble}.
+     */
+    OptionalDouble toOptional();
+
+    /**
+     * Returns a {@link DoubleStream} of the inner value, or an empty stream on None.
+     */
+    DoubleStream stream();
+
+    /**
+     * Collects a stream of OptionDouble into Some containing every value if, and
+     * only if, all Options are Some. Otherwise it returns None.
+     */
+    static Collector<OptionDouble, ?, Option<double[]>> andCollector() {
+        return PrimitiveOptionCollectors.andDouble();
+    }
+
+    /**
+     * Collects a stream of OptionDouble into Some containing the values of every
+     * Some, or None if there are none.
+     */
+    static Collector<OptionDouble, ?, Option<double[]>> orCollector() {
+        return PrimitiveOptionCollectors.orDouble();
+    }
+}
@@ -0,0 +1,214 @@
+package io.github.luccaflower.option;
+
+import io.github.luccaflower.metrics.*;
+import io.github.luccaflower.result.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * <p>
+ *     An int-specialized {@link Option}, in the same way that {@link OptionalInt}
+ *     specializes {@link Optional}. The combinators take primitive functional
+ *     interfaces, so numeric pipelines never box their values.
+ * </p>
+ * <p>
+ *     {@link #boxed()} and {@link #from(Option)} convert losslessly to and from
+ *     the generic {@code Option<Integer>}.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public interface OptionInt {
+
+    /**
+     * Instantiate the None-variant of the class. The returned instance is shared.
+     */
+    static OptionInt none() {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.noneCreated();
+        }
+        return NoneInt.instance();
+    }
+
+    /**
+     * Return the Some-variant containing the value passed to the function.
+     */
+    static OptionInt some(int value) {
+        return new SomeInt(value);
+    }
+
+    /**
+     * Converts a generic Option to its int-specialized counterpart.
+     */
+    static OptionInt from(Option<Integer> option) {
+        return option.matches(OptionInt::some, OptionInt::none);
+    }
+
+    /**
+     * A utility-function to convert a {@link OptionalInt} to an instance of this type.
+     */
+    static OptionInt from(OptionalInt optional) {
+        return optional.isPresent() ? some(optional.getAsInt()) : none();
+    }
+
+    /**
+     * Extraction method to retrieve the inner value if present.
+     * @throws UnwrappedNone on None
+     */
+    int unwrap();
+
+    /**
+     * Extracts the inner value if there is one, otherwise returns the default.
+     */
+    int unwrapOr(int defaultValue);
+
+    /**
+     * Extracts the inner value, otherwise evaluates the passed function and
+     * returns the result.
+     */
+    int unwrapOrElse(IntSupplier defaultFunc);
+
+    /**
+     * Extracts the inner value, otherwise throws an exception containing the reason.
+     * @throws UnwrappedNone containing the reason.
+     */
+    int expect(String reason);
+
+    /**
+     * Returns true on Some and false on None
+     */
+    boolean isSome();
+
+    /**
+     * Returns true on None and false on Some
+     */
+    boolean isNone();
+
+    /**
+     * Returns true on Some if the inner value passes the predicate.
+     */
+    boolean isSomeAnd(IntPredicate p);
+
+    /**
+     * Returns true on Some if the inner value equals the candidate.
+     */
+    boolean contains(int candidate);
+
+    /**
+     * Applies the function to the inner value if present and returns a new
+     * Option containing the result.
+     */
+    OptionInt map(IntUnaryOperator func);
+
+    /**
+     * Applies the function to the inner value if present and returns a generic
+     * Option containing the result.
+     */
+    <R> Option<R> mapToObj(IntFunction<? extends R> func);
+
+    /**
+     * Applies the function to the inner value if present and returns a
+     * {@link OptionLong} containing the result.
+     */
+    OptionLong mapToLong(IntToLongFunction func);
+
+    /**
+     * Applies the function to the inner value if present and returns a
+     * {@link OptionDouble} containing the result.
+     */
+    OptionDouble mapToDouble(IntToDoubleFunction func);
+
+    /**
+     * Returns the result of applying the function to the inner value if present,
+     * otherwise returns None.
+     */
+    OptionInt flatMap(IntFunction<? extends OptionInt> func);
+
+    /**
+     * Returns Some if a value is present and it passes the predicate, otherwise
+     * returns None.
+     */
+    OptionInt filter(IntPredicate p);
+
+    /**
+     * Applies the function to the inner value if present and returns the result,
+     * otherwise returns the default value.
+     */
+    int mapOr(int defaultValue, IntUnaryOperator func);
+
+    /**
+     * Applies the some-function on the inner value if it is present, otherwise
+     * evaluates the none-function.
+     */
+    <R> R matches(IntFunction<? extends R> some, Supplier<? extends R> none);
+
+    /**
+     * Returns this Option if it is Some, otherwise the other Option.
+     */
+    OptionInt or(OptionInt other);
+
+    /**
+     * Returns this Option if it is Some, otherwise the result of evaluating
+     * the passed function.
+     */
+    OptionInt orElse(Supplier<? extends OptionInt> other);
+
+    /**
+     * Returns None if this Option is None, otherwise the other Option.
+     */
+    OptionInt and(OptionInt other);
+
+    /**
+     * Passes the inner value to the consumer if present.
+     */
+    OptionInt ifSome(IntConsumer onSome);
+
+    /**
+     * Runs the action if the Option is None.
+     */
+    OptionInt ifNone(Option.Action onNone);
+
+    /**
+     * Converts this instance to a {@link ResultInt} that is Ok on Some, and
+     * an Err containing the passed Exception on None.
+     */
+    ResultInt okOr(Exception error);
+
+    /**
+     * Converts this instance to a {@link ResultInt} that is Ok on Some, and
+     * an Err containing the result of evaluating the passed function on None.
+     */
+    ResultInt okOrElse(Supplier<? extends Exception> error);
+
+    /**
+     * Converts this instance to the generic {@code Option<Integer>}.
+     */
+    Option<Integer> boxed();
+
+    /**
+     * Converts this instance to a {@link OptionalInt}.
+     */
+    OptionalInt toOptional();
+
+    /**
+     * Returns a {@link IntStream} of the inner value, or an empty stream on None.
+     */
+    IntStream stream();
+
+    /**
+     * Collects a stream of OptionInt into Some containing every value if, and
+     * only if, all Options are Some. Otherwise it returns None.
+     */
+    static Collector<OptionInt, ?, Option<int[]>> andCollector() {
+        return PrimitiveOptionCollectors.andInt();
+    }
+
+    /**
+     * Collects a stream of OptionInt into Some containing the values of every
+     * Some, or None if there are none.
+     */
+    static Collector<OptionInt, ?, Option<int[]>> orCollector() {
+        return PrimitiveOptionCollectors.orInt();
+    }
+}
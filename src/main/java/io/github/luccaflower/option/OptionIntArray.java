@@ -0,0 +1,178 @@
+package io.github.luccaflower.option;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * An int-specialized {@link OptionArray}. Values live in an {@code int[]} and
+ * a {@link BitSet} marks which elements are present.
+ */
+@SuppressWarnings("unused")
+public final class OptionIntArray {
+    private final int[] values;
+    private final BitSet present;
+
+    private OptionIntArray(int[] values, BitSet present) {
+        this.values = values;
+        this.present = present;
+    }
+
+    public static OptionIntArray of(Collection<? extends OptionInt> options) {
+        int[] values = new int[options.size()];
+        BitSet present = new BitSet(values.length);
+        int i = 0;
+        for (OptionInt option : options) {
+            if (option.isSome()) {
+                values[i] = option.unwrap();
+                present.set(i);
+            }
+            i++;
+        }
+        return new OptionIntArray(values, present);
+    }
+
+    public static OptionIntArray from(Stream<? extends OptionInt> options) {
+        return options.collect(collector());
+    }
+
+    /**
+     * Collects the Options of a stream, keeping encounter order for parallel
+     * streams.
+     */
+    public static Collector<OptionInt, ?, OptionIntArray> collector() {
+        return Collector.of(
+            ArrayList<OptionInt>::new,
+            List::add,
+            (left, right) -> {
+                left.addAll(right);
+                return left;
+            },
+            OptionIntArray::of
+        );
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isSome(int index) {
+        return present.get(Objects.checkIndex(index, values.length));
+    }
+
+    public boolean isNone(int index) {
+        return !present.get(Objects.checkIndex(index, values.length));
+    }
+
+    /**
+     * Returns the element at the index as an OptionInt.
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public OptionInt get(int index) {
+        return isSome(index) ? OptionInt.some(values[index]) : OptionInt.none();
+    }
+
+    public int someCount() {
+        return present.cardinality();
+    }
+
+    public int noneCount() {
+        return values.length - present.cardinality();
+    }
+
+    /**
+     * Applies the function to every present value. Nones keep their position.
+     */
+    public OptionIntArray map(IntUnaryOperator func) {
+        int[] mapped = new int[values.length];
+        for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+            mapped[i] = func.applyAsInt(values[i]);
+        }
+        return new OptionIntArray(mapped, present);
+    }
+
+    /**
+     * Applies the function to every present value, turning the element into a
+     * None where the function returns one.
+     */
+    public OptionIntArray flatMap(IntFunction<? extends OptionInt> func) {
+        int[] mapped = new int[values.length];
+        BitSet mappedPresent = new BitSet(values.length);
+        for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+            OptionInt option = func.apply(values[i]);
+            if (option.isSome()) {
+                mapped[i] = option.unwrap();
+                mappedPresent.set(i);
+            }
+        }
+        return new OptionIntArray(mapped, mappedPresent);
+    }
+
+    /**
+     * Turns every present value that does not match the predicate into a None.
+     */
+    public OptionIntArray filter(IntPredicate p) {
+        BitSet filtered = new BitSet(values.length);
+        for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+            if (p.test(values[i])) {
+                filtered.set(i);
+            }
+        }
+        return new OptionIntArray(values, filtered);
+    }
+
+    /**
+     * Returns the present values in order, skipping the Nones.
+     */
+    public int[] somes() {
+        return present.stream().map(i -> values[i]).toArray();
+    }
+
+    /**
+     * Returns every value if none of them is missing, and None otherwise.
+     */
+    public Option<int[]> toOption() {
+        return noneCount() == 0 ? Option.some(values.clone()) : Option.none();
+    }
+
+    /**
+     * Returns every value.
+     * @throws UnwrappedNone if any element is None
+     */
+    public int[] unwrapAll() {
+        if (noneCount() > 0) {
+            throw UnwrappedNone.create();
+        }
+        return values.clone();
+    }
+
+    public Stream<OptionInt> stream() {
+        return IntStream.range(0, values.length).mapToObj(this::get);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof OptionIntArray)) {
+            return false;
+        }
+        OptionIntArray that = (OptionIntArray) other;
+        if (!that.present.equals(present) || that.values.length != values.length) {
+            return false;
+        }
+        for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+            if (values[i] != that.values[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 31 * values.length + present.hashCode();
+        for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+            hash = 31 * hash + values[i];
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.luccaflower.option;
+
+import java.util.*;
+
+/**
+ * <p>
+ *     A read view over a List whose positional lookups return an Option
+ *     instead of throwing {@link IndexOutOfBoundsException}. The view does not
+ *     copy the List, so it reflects later changes to it.
+ * </p>
+ * <pre>{@code
+ * OptionList<String> args = OptionList.of(Arrays.asList(argv));
+ * String mode = args.get(1).unwrapOr("default");
+ * }</pre>
+ * @see Lookups
+ */
+@SuppressWarnings("unused")
+public final class OptionList<T> {
+    private final List<T> list;
+
+    private OptionList(List<T> list) {
+        this.list = Objects.requireNonNull(list);
+    }
+
+    public static <T> OptionList<T> of(List<T> list) {
+        return new OptionList<>(list);
+    }
+
+    /**
+     * Returns the element at the index, or None if the index is out of bounds
+     * or the element is null.
+     */
+    public Option<T> get(int index) {
+        return Lookups.get(list, index);
+    }
+
+    public Option<T> first() {
+        return Lookups.first(list);
+    }
+
+    public Option<T> last() {
+        return Lookups.last(list);
+    }
+
+    public OptionInt indexOf(Object element) {
+        return Lookups.indexOf(list, element);
+    }
+
+    public int size() {
+        return list.size();
+    }
+
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    /**
+     * Returns the backing List.
+     */
+    public List<T> list() {
+        return list;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof OptionList<?> && ((OptionList<?>) other).list.equals(list);
+    }
+
+    @Override
+    public int hashCode() {
+        return list.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return list.toString();
+    }
+}
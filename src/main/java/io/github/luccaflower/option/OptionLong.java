@@ -0,0 +1,214 @@
+package io.github.luccaflower.option;
+
+import io.github.luccaflower.metrics.*;
+import io.github.luccaflower.result.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * <p>
+ *     A long-specialized {@link Option}, in the same way that {@link OptionalLong}
+ *     specializes {@link Optional}. The combinators take primitive functional
+ *     interfaces, so numeric pipelines never box their values.
+ * </p>
+ * <p>
+ *     {@link #boxed()} and {@link #from(Option)} convert losslessly to and from
+ *     the generic {@code Option<Long>}.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public interface OptionLong {
+
+    /**
+     * Instantiate the None-variant of the class. The returned instance is shared.
+     */
+    static OptionLong none() {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.noneCreated();
+        }
+        return NoneLong.instance();
+    }
+
+    /**
+     * Return the Some-variant containing the value passed to the function.
+     */
+    static OptionLong some(long value) {
+        return new SomeLong(value);
+    }
+
+    /**
+     * Converts a generic Option to its long-specialized counterpart.
+     */
+    static OptionLong from(Option<Long> option) {
+        return option.matches(OptionLong::some, OptionLong::none);
+    }
+
+    /**
+     * A utility-function to convert a {@link OptionalLong} to an instance of this type.
+     */
+    static OptionLong from(OptionalLong optional) {
+        return optional.isPresent() ? some(optional.getAsLong()) : none();
+    }
+
+    /**
+     * Extraction method to retrieve the inner value if present.
+     * @throws UnwrappedNone on None
+     */
+    long unwrap();
+
+    /**
+     * Extracts the inner value if there is one, otherwise returns the default.
+     */
+    long unwrapOr(long defaultValue);
+
+    /**
+     * Extracts the inner value, otherwise evaluates the passed function and
+     * returns the result.
+     */
+    long unwrapOrElse(LongSupplier defaultFunc);
+
+    /**
+     * Extracts the inner value, otherwise throws an exception containing the reason.
+     * @throws UnwrappedNone containing the reason.
+     */
+    long expect(String reason);
+
+    /**
+     * Returns true on Some and false on None
+     */
+    boolean isSome();
+
+    /**
+     * Returns true on None and false on Some
+     */
+    boolean isNone();
+
+    /**
+     * Returns true on Some if the inner value passes the predicate.
+     */
+    boolean isSomeAnd(LongPredicate p);
+
+    /**
+     * Returns true on Some if the inner value equals the candidate.
+     */
+    boolean contains(long candidate);
+
+    /**
+     * Applies the function to the inner value if present and returns a new
+     * Option containing the result.
+     */
+    OptionLong map(LongUnaryOperator func);
+
+    /**
+     * Applies the function to the inner value if present and returns a generic
+     * Option containing the result.
+     */
+    <R> Option<R> mapToObj(LongFunction<? extends R> func);
+
+    /**
+     * Applies the function to the inner value if present and returns a
+     * {@link OptionInt} containing the result.
+     */
+    OptionInt mapToInt(LongToIntFunction func);
+
+    /**
+     * Applies the function to the inner value if present and returns a
+     * {@link OptionDouble} containing the result.
+     */
+    OptionDouble mapToDouble(LongToDoubleFunction func);
+
+    /**
+     * Returns the result of applying the function to the inner value if present,
+     * otherwise returns None.
+     */
+    OptionLong flatMap(LongFunction<? extends OptionLong> func);
+
+    /**
+     * Returns Some if a value is present and it passes the predicate, otherwise
+     * returns None.
+     */
+    OptionLong filter(LongPredicate p);
+
+    /**
+     * Applies the function to the inner value if present and returns the result,
+     * otherwise returns the default value.
+     */
+    long mapOr(long defaultValue, LongUnaryOperator func);
+
+    /**
+     * Applies the some-function on the inner value if it is present, otherwise
+     * evaluates the none-function.
+     */
+    <R> R matches(LongFunction<? extends R> some, Supplier<? extends R> none);
+
+    /**
+     * Returns this Option if it is Some, otherwise the other Option.
+     */
+    OptionLong or(OptionLong other);
+
+    /**
+     * Returns this Option if it is Some, otherwise the result of evaluating
+     * the passed function.
+     */
+    OptionLong orElse(Supplier<? extends OptionLong> other);
+
+    /**
+     * Returns None if this Option is None, otherwise the other Option.
+     */
+    OptionLong and(OptionLong other);
+
+    /**
+     * Passes the inner value to the consumer if present.
+     */
+    OptionLong ifSome(LongConsumer onSome);
+
+    /**
+     * Runs the action if the Option is None.
+     */
+    OptionLong ifNone(Option.Action onNone);
+
+    /**
+     * Converts this instance to a {@link ResultLong} that is Ok on Some, and
+     * an Err containing the passed Exception on None.
+     */
+    ResultLong okOr(Exception error);
+
+    /**
+     * Converts this instance to a {@link ResultLong} that is Ok on Some, and
+     * an Err containing the result of evaluating the passed function on None.
+     */
+    ResultLong okOrElse(Supplier<? extends Exception> error);
+
+    /**
+     * Converts this instance to the generic {@code Option<Long>}.
+     */
+    Option<Long> boxed();
+
+    /**
+     * Converts this instance to a {@link OptionalLong}.
+     */
+    OptionalLong toOptional();
+
+    /**
+     * Returns a {@link LongStream} of the inner value, or an empty stream on None.
+     */
+    LongStream stream();
+
+    /**
+     * Collects a stream of OptionLong into Some containing every value if, and
+     * only if, all Options are Some. Otherwise it returns None.
+     */
+    static Collector<OptionLong, ?, Option<long[]>> andCollector() {
+        return PrimitiveOptionCollectors.andLong();
+    }
+
+    /**
+     * Collects a stream of OptionLong into Some containing the values of every
+     * Some, or None if there are none.
+     */
+    static Collector<OptionLong, ?, Option<long[]>> orCollector() {
+        return PrimitiveOptionCollectors.orLong();
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.luccaflower.option;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * <p>
+ *     A read view over a Map whose lookups return an Option instead of a
+ *     nullable value. The view does not copy the Map, so it reflects later
+ *     changes to it, and it adds no synchronization of its own.
+ * </p>
+ * <pre>{@code
+ * OptionMap<String, Integer> ports = OptionMap.of(config);
+ * int port = ports.get("port").unwrapOr(8080);
+ * }</pre>
+ * @see Lookups
+ */
+@SuppressWarnings("unused")
+public final class OptionMap<K, V> {
+    private final Map<K, V> map;
+
+    private OptionMap(Map<K, V> map) {
+        this.map = Objects.requireNonNull(map);
+    }
+
+    public static <K, V> OptionMap<K, V> of(Map<K, V> map) {
+        return new OptionMap<>(map);
+    }
+
+    /**
+     * Returns the value mapped to the key, or None if the key is missing or
+     * mapped to null.
+     */
+    public Option<V> get(Object key) {
+        return Lookups.get(map, key);
+    }
+
+    /**
+     * @see Lookups#entry(Map, Object)
+     */
+    public Option<Option<V>> entry(Object key) {
+        return Lookups.entry(map, key);
+    }
+
+    /**
+     * Returns the value mapped to the key, or computes, stores and returns a
+     * new one if there is none. Behaves like {@link Map#computeIfAbsent(Object, Function)},
+     * where a None from the function leaves the Map unchanged.
+     */
+    public Option<V> getOrCompute(K key, Function<? super K, ? extends Option<V>> func) {
+        return Option.maybe(map.computeIfAbsent(key, k -> Options.fromOption(func.apply(k))));
+    }
+
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    /**
+     * Returns the backing Map.
+     */
+    public Map<K, V> map() {
+        return map;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof OptionMap<?, ?> && ((OptionMap<?, ?>) other).map.equals(map);
+    }
+
+    @Override
+    public int hashCode() {
+        return map.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return map.toString();
+    }
+}
@@ -0,0 +1,189 @@
+package io.github.luccaflower.option;
+
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * <p>
+ *     A reusable chain of Option combinators that runs on the raw value, with
+ *     null standing in for None, and only creates an Option for the final
+ *     outcome. The stages are composed into a single {@link MethodHandle}, as in
+ *     {@link io.github.luccaflower.result.ResultPipeline}.
+ * </p>
+ * <p>
+ *     Pipelines are immutable: adding a stage returns a new pipeline, and a
+ *     compiled pipeline can be shared between threads. The stages behave exactly
+ *     like the corresponding Option methods.
+ * </p>
+ * @param <A> The type of the input
+ * @param <T> The object-type of the Some-variant of the outcome
+ */
+@SuppressWarnings("unused")
+public final class OptionPipeline<A, T> {
+    private static final MethodHandle MAP = stage("map", Function.class);
+    private static final MethodHandle FLAT_MAP = stage("flatMap", Function.class);
+    private static final MethodHandle FILTER = stage("filter", Predicate.class);
+    private static final MethodHandle OR_ELSE = stage("orElse", Supplier.class);
+    private static final MethodHandle IF_SOME = stage("ifSome", Consumer.class);
+
+    private static final OptionPipeline<?, ?> EMPTY = new OptionPipeline<>(
+        MethodHandles.identity(Object.class),
+        0
+    );
+
+    /**
+     * Takes the current value, or null for None, and returns the next.
+     */
+    private final MethodHandle handle;
+    private final int size;
+
+    private OptionPipeline(MethodHandle handle, int size) {
+        this.handle = handle;
+        this.size = size;
+    }
+
+    /**
+     * A pipeline without any stages, which returns its input as Some.
+     */
+    @SuppressWarnings("unchecked")
+    public static <A> OptionPipeline<A, A> start() {
+        return (OptionPipeline<A, A>) EMPTY;
+    }
+
+    /**
+     * @see Option#map(Function)
+     */
+    public <R> OptionPipeline<A, R> map(Function<? super T, ? extends R> func) {
+        return then(MAP, func);
+    }
+
+    /**
+     * @see Option#flatMap(Function)
+     */
+    public <R> OptionPipeline<A, R> flatMap(Function<? super T, ? extends Option<R>> func) {
+        return then(FLAT_MAP, func);
+    }
+
+    /**
+     * @see Option#filter(Predicate)
+     */
+    public OptionPipeline<A, T> filter(Predicate<? super T> p) {
+        return then(FILTER, p);
+    }
+
+    /**
+     * @see Option#orElse(Supplier)
+     */
+    public OptionPipeline<A, T> orElse(Supplier<? extends Option<T>> other) {
+        return then(OR_ELSE, other);
+    }
+
+    /**
+     * @see Option#ifSome(Consumer)
+     */
+    public OptionPipeline<A, T> ifSome(Consumer<? super T> onSome) {
+        return then(IF_SOME, onSome);
+    }
+
+    /**
+     * Compiles the stages into a function from a nullable input to the outcome.
+     * A null input is treated as None.
+     */
+    public Function<A, Option<T>> compile() {
+        MethodHandle handle = this.handle;
+        return input -> Option.maybe(invoke(handle, input));
+    }
+
+    /**
+     * Compiles the stages into a function from an Option to the outcome.
+     */
+    public Function<Option<A>, Option<T>> compileForOption() {
+        MethodHandle handle = this.handle;
+        return input -> Option.maybe(invoke(handle, input.isSome() ? input.unwrap() : null));
+    }
+
+    /**
+     * Compiles the stages into a function that returns the value of the
+     * outcome, or the default value on None. No Option is created at all,
+     * unless a stage returns one.
+     * @see Option#unwrapOr(Object)
+     */
+    public Function<A, T> compileUnwrapOr(T defaultValue) {
+        Objects.requireNonNull(defaultValue);
+        MethodHandle handle = this.handle;
+        return input -> {
+            T value = invoke(handle, input);
+            return value != null ? value : defaultValue;
+        };
+    }
+
+    /**
+     * Runs the pipeline once on the nullable input.
+     */
+    public Option<T> apply(A input) {
+        return Option.maybe(invoke(handle, input));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private <R> OptionPipeline<A, R> then(MethodHandle stage, Object func) {
+        return new OptionPipeline<>(
+            MethodHandles.filterReturnValue(handle, stage.bindTo(Objects.requireNonNull(func))),
+            size + 1
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T invoke(MethodHandle handle, Object input) {
+        try {
+            return (T) (Object) handle.invokeExact(input);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    private static Object map(Function<Object, Object> func, Object value) {
+        return value == null ? null : Objects.requireNonNull(func.apply(value));
+    }
+
+    private static Object flatMap(Function<Object, Option<Object>> func, Object value) {
+        return value == null ? null : unwrapOrNull(func.apply(value));
+    }
+
+    private static Object filter(Predicate<Object> p, Object value) {
+        return value != null && p.test(value) ? value : null;
+    }
+
+    private static Object orElse(Supplier<Option<Object>> other, Object value) {
+        return value != null ? value : unwrapOrNull(other.get());
+    }
+
+    private static Object ifSome(Consumer<Object> onSome, Object value) {
+        if (value != null) {
+            onSome.accept(value);
+        }
+        return value;
+    }
+
+    private static Object unwrapOrNull(Option<Object> option) {
+        return option.isSome() ? option.unwrap() : null;
+    }
+
+    private static MethodHandle stage(String name, Class<?> funcType) {
+        try {
+            return MethodHandles.lookup().findStatic(
+                OptionPipeline.class,
+                name,
+                MethodType.methodType(Object.class, funcType, Object.class)
+            );
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package io.github.luccaflower.option;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * <p>
+ *     Option semantics applied directly to nullable references, where null
+ *     stands in for None and any other reference for Some. Nothing is wrapped,
+ *     so these methods allocate nothing of their own, even where the JIT
+ *     cannot remove an Option with escape analysis:
+ * </p>
+ * <pre>{@code
+ * int length = Options.unwrapOr(Options.map(map.get(key), String::length), 0);
+ * }</pre>
+ * <p>
+ *     Each method behaves like the Option method of the same name would on
+ *     {@code Option.maybe(nullable)}. Use {@link #toOption(Object)} and
+ *     {@link #fromOption(Option)} to convert at the boundaries.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public final class Options {
+    private Options() {}
+
+    /**
+     * Same as {@link Option#maybe(Object)}.
+     */
+    public static <T> Option<T> toOption(T nullable) {
+        return Option.maybe(nullable);
+    }
+
+    /**
+     * Returns the contained object on Some and null on None.
+     */
+    public static <T> T fromOption(Option<T> option) {
+        return option.isSome() ? option.unwrap() : null;
+    }
+
+    public static boolean isSome(Object nullable) {
+        return nullable != null;
+    }
+
+    public static boolean isNone(Object nullable) {
+        return nullable == null;
+    }
+
+    public static <T> boolean isSomeAnd(T nullable, Predicate<? super T> p) {
+        return nullable != null && p.test(nullable);
+    }
+
+    public static <T> boolean contains(T nullable, T candidate) {
+        return nullable != null && nullable.equals(candidate);
+    }
+
+    /**
+     * @throws UnwrappedNone if the reference is null
+     */
+    public static <T> T unwrap(T nullable) {
+        if (nullable == null) {
+            throw UnwrappedNone.create();
+        }
+        return nullable;
+    }
+
+    /**
+     * @throws UnwrappedNone containing the reason if the reference is null
+     */
+    public static <T> T expect(T nullable, String reason) {
+        if (nullable == null) {
+            throw new UnwrappedNone(reason);
+        }
+        return nullable;
+    }
+
+    public static <T> T unwrapOr(T nullable, T defaultValue) {
+        return nullable != null ? nullable : defaultValue;
+    }
+
+    public static <T> T unwrapOrElse(T nullable, Supplier<? extends T> defaultFunc) {
+        return nullable != null ? nullable : defaultFunc.get();
+    }
+
+    /**
+     * Applies the function if the reference is not null. Like {@link Option#map(Function)},
+     * the function must not return null. Use {@link #flatMap(Object, Function)}
+     * for functions that may.
+     */
+    public static <T, R> R map(T nullable, Function<? super T, ? extends R> func) {
+        return nullable != null ? Objects.requireNonNull(func.apply(nullable)) : null;
+    }
+
+    /**
+     * Applies the function if the reference is not null, where a null result
+     * from the function stands in for None.
+     */
+    public static <T, R> R flatMap(T nullable, Function<? super T, ? extends R> func) {
+        return nullable != null ? func.apply(nullable) : null;
+    }
+
+    /**
+     * Applies a function returning an Option if the reference is not null, and
+     * returns the content of that Option or null.
+     */
+    public static <T, R> R flatMapOption(T nullable, Function<? super T, ? extends Option<R>> func) {
+        return nullable != null ? fromOption(func.apply(nullable)) : null;
+    }
+
+    public static <T, R> R mapOr(T nullable, R defaultValue, Function<? super T, ? extends R> func) {
+        return nullable != null ? Objects.requireNonNull(func.apply(nullable)) : defaultValue;
+    }
+
+    public static <T, R> R matches(
+        T nullable,
+        Function<? super T, ? extends R> some,
+        Supplier<? extends R> none
+    ) {
+        return nullable != null ? Objects.requireNonNull(some.apply(nullable)) : none.get();
+    }
+
+    public static <T> T filter(T nullable, Predicate<? super T> p) {
+        return nullable != null && p.test(nullable) ? nullable : null;
+    }
+
+    public static <T> T or(T nullable, T other) {
+        return nullable != null ? nullable : other;
+    }
+
+    /**
+     * Evaluates the supplier only if the reference is null. The supplier may
+     * return null for None.
+     */
+    public static <T> T orElse(T nullable, Supplier<? extends T> other) {
+        return nullable != null ? nullable : other.get();
+    }
+
+    public static <T> T xor(T nullable, T other) {
+        if (nullable != null) {
+            return other != null ? null : nullable;
+        }
+        return other;
+    }
+
+    public static <T, R> R and(T nullable, R other) {
+        return nullable != null ? other : null;
+    }
+
+    public static <T> T ifSome(T nullable, Consumer<? super T> onSome) {
+        if (nullable != null) {
+            onSome.accept(nullable);
+        }
+        return nullable;
+    }
+
+    public static <T> T ifNone(T nullable, Option.Action onNone) {
+        if (nullable == null) {
+            onNone.run();
+        }
+        return nullable;
+    }
+}
@@ -0,0 +1,194 @@
+package io.github.luccaflower.option;
+
+import java.util.stream.*;
+
+/**
+ * Collectors for the primitive-specialized Options. Values are accumulated into
+ * primitive stream builders, so they are never boxed.
+ */
+final class PrimitiveOptionCollectors {
+    private PrimitiveOptionCollectors() {}
+
+    static Collector<OptionInt, ?, Option<int[]>> andInt() {
+        return Collector.of(
+            () -> new IntAccumulator(true),
+            IntAccumulator::add,
+            IntAccumulator::combine,
+            IntAccumulator::finish
+        );
+    }
+
+    static Collector<OptionInt, ?, Option<int[]>> orInt() {
+        return Collector.of(
+            () -> new IntAccumulator(false),
+            IntAccumulator::add,
+            IntAccumulator::combine,
+            IntAccumulator::finish
+        );
+    }
+
+    private static final class IntAccumulator {
+        private final boolean requireAll;
+        private IntStream.Builder values = IntStream.builder();
+        private boolean sawSome;
+        private boolean sawNone;
+
+        IntAccumulator(boolean requireAll) {
+            this.requireAll = requireAll;
+        }
+
+        void add(OptionInt option) {
+            if (requireAll && sawNone) {
+                return;
+            }
+            if (option.isSome()) {
+                values.add(option.unwrap());
+                sawSome = true;
+            } else {
+                sawNone = true;
+                if (requireAll) {
+                    values = null;
+                }
+            }
+        }
+
+        IntAccumulator combine(IntAccumulator other) {
+            if (requireAll && (sawNone || other.sawNone)) {
+                sawNone = true;
+                values = null;
+            } else {
+                other.values.build().forEach(values);
+                sawSome |= other.sawSome;
+                sawNone |= other.sawNone;
+            }
+            return this;
+        }
+
+        Option<int[]> finish() {
+            boolean present = requireAll ? !sawNone : sawSome;
+            return present ? Option.some(values.build().toArray()) : Option.none();
+        }
+    }
+
+    static Collector<OptionLong, ?, Option<long[]>> andLong() {
+        return Collector.of(
+            () -> new LongAccumulator(true),
+            LongAccumulator::add,
+            LongAccumulator::combine,
+            LongAccumulator::finish
+        );
+    }
+
+    static Collector<OptionLong, ?, Option<long[]>> orLong() {
+        return Collector.of(
+            () -> new LongAccumulator(false),
+            LongAccumulator::add,
+            LongAccumulator::combine,
+            LongAccumulator::finish
+        );
+    }
+
+    private static final class LongAccumulator {
+        private final boolean requireAll;
+        private LongStream.Builder values = LongStream.builder();
+        private boolean sawSome;
+        private boolean sawNone;
+
+        LongAccumulator(boolean requireAll) {
+            this.requireAll = requireAll;
+        }
+
+        void add(OptionLong option) {
+            if (requireAll && sawNone) {
+                return;
+            }
+            if (option.isSome()) {
+                values.add(option.unwrap());
+                sawSome = true;
+            } else {
+                sawNone = true;
+                if (requireAll) {
+                    values = null;
+                }
+            }
+        }
+
+        LongAccumulator combine(LongAccumulator other) {
+            if (requireAll && (sawNone || other.sawNone)) {
+                sawNone = true;
+                values = null;
+            } else {
+                other.values.build().forEach(values);
+                sawSome |= other.sawSome;
+                sawNone |= other.sawNone;
+            }
+            return this;
+        }
+
+        Option<long[]> finish() {
+            boolean present = requireAll ? !sawNone : sawSome;
+            return present ? Option.some(values.build().toArray()) : Option.none();
+        }
+    }
+
+    static Collector<OptionDouble, ?, Option<double[]>> andDouble() {
+        return Collector.of(
+            () -> new DoubleAccumulator(true),
+            DoubleAccumulator::add,
+            DoubleAccumulator::combine,
+            DoubleAccumulator::finish
+        );
+    }
+
+    static Collector<OptionDouble, ?, Option<double[]>> orDouble() {
+        return Collector.of(
+            () -> new DoubleAccumulator(false),
+            DoubleAccumulator::add,
+            DoubleAccumulator::combine,
+            DoubleAccumulator::finish
+        );
+    }
+
+    private static final class DoubleAccumulator {
+        private final boolean requireAll;
+        private DoubleStream.Builder values = DoubleStream.builder();
+        private boolean sawSome;
+        private boolean sawNone;
+
+        DoubleAccumulator(boolean requireAll) {
+            this.requireAll = requireAll;
+        }
+
+        void add(OptionDouble option) {
+            if (requireAll && sawNone) {
+                return;
+            }
+            if (option.isSome()) {
+                values.add(option.unwrap());
+                sawSome = true;
+            } else {
+                sawNone = true;
+                if (requireAll) {
+                    values = null;
+                }
+            }
+        }
+
+        DoubleAccumulator combine(DoubleAccumulator other) {
+            if (requireAll && (sawNone || other.sawNone)) {
+                sawNone = true;
+                values = null;
+            } else {
+                other.values.build().forEach(values);
+                sawSome |= other.sawSome;
+                sawNone |= other.sawNone;
+            }
+            return this;
+        }
+
+        Option<double[]> finish() {
+            boolean present = requireAll ? !sawNone : sawSome;
+            return present ? Option.some(values.build().toArray()) : Option.none();
+        }
+    }
+}
@@ -1,16 +1,44 @@
 package io.github.luccaflower.option;
 
 
+import io.github.luccaflower.jfr.*;
+import io.github.luccaflower.result.*;
+
+import java.io.*;
+import java.util.*;
 import java.util.function.*;
+import java.util.stream.*;
 
 @SuppressWarnings("unused")
-public class Some<T> implements Option<T> {
+public class Some<T> implements Option<T>, Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final T something;
 
     protected Some(T something) {
         this.something = something;
     }
 
+    /**
+     * Returns a shared instance for booleans and small integers, and a new
+     * instance for anything else.
+     * @see ValueCache
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Some<T> of(T something) {
+        Some<?> cached = Cache.lookup(something);
+        return cached != null ? (Some<T>) cached : new Some<>(something);
+    }
+
+    /**
+     * Returns the contained value. Unlike {@link #unwrap()} this is only
+     * available on the Some-variant, which makes it the accessor to use after
+     * a type pattern, e.g. {@code case Some<T> some -> some.value()}.
+     */
+    public T value() {
+        return something;
+    }
+
     @Override
     public T unwrap() {
         return something;
@@ -18,7 +46,7 @@ public class Some<T> implements Option<T> {
 
     @Override
     public <R> Option<R> flatMap(Function<? super T, ? extends Option<R>> func) {
-        return func.apply(something);
+        return UnionEvents.ENABLED ? UnionEvents.apply("flatMap", func, something) : func.apply(something);
     }
 
 
@@ -27,10 +55,126 @@ public class Some<T> implements Option<T> {
         return this;
     }
 
+    @Override
+    public Stream<T> stream() {
+        return Stream.of(something);
+    }
+
+    @Override
+    public T unwrapOr(T defaultValue) {
+        return something;
+    }
+
+    @Override
+    public T unwrapOrElse(Supplier<? extends T> defaultFunc) {
+        return something;
+    }
+
+    @Override
+    public T expect(String reason) {
+        return something;
+    }
+
+    @Override
+    public Option<T> ifSome(Consumer<? super T> onSome) {
+        onSome.accept(something);
+        return this;
+    }
+
+    @Override
+    public Option<T> ifNone(Action onNone) {
+        return this;
+    }
+
+    @Override
+    public Result<T> okOr(Exception error) {
+        return Result.ok(something);
+    }
+
+    @Override
+    public Result<T> okOrElse(Supplier<? extends Exception> error) {
+        return Result.ok(something);
+    }
+
+    @Override
+    public <R> Option<R> map(Function<? super T, ? extends R> func) {
+        return Option.some(UnionEvents.ENABLED ? UnionEvents.apply("map", func, something) : func.apply(something));
+    }
+
+    @Override
+    public <R> R mapOr(R defaultValue, Function<? super T, ? extends R> func) {
+        return Objects.requireNonNull(func.apply(something));
+    }
+
+    @Override
+    public <R> R mapOrElse(
+        Supplier<? extends R> defaultFunc,
+        Function<? super T, ? extends R> presentFunc
+    ) {
+        return Objects.requireNonNull(presentFunc.apply(something));
+    }
+
+    @Override
+    public boolean isSome() {
+        return true;
+    }
+
+    @Override
+    public boolean isSomeAnd(Predicate<? super T> p) {
+        return p.test(something);
+    }
+
+    @Override
+    public boolean isNone() {
+        return false;
+    }
+
+    @Override
+    public Option<T> or(Option<T> other) {
+        return this;
+    }
+
+    @Override
+    public boolean contains(T candidate) {
+        return something.equals(candidate);
+    }
+
+    @Override
+    public <R> Option<R> and(Option<R> other) {
+        return other;
+    }
+
+    @Override
+    public Option<T> filter(Predicate<T> p) {
+        return p.test(something) ? this : Option.none();
+    }
+
+    @Override
+    public Option<T> xor(Option<T> other) {
+        return other.isSome() ? Option.none() : this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> Option<R> flatten() {
+        return something instanceof Option<?>
+            ? ((Option<?>) something).flatten()
+            : (Option<R>) this;
+    }
+
+    @Override
+    public <R> R matches(
+        Function<? super T, ? extends R> some,
+        Supplier<? extends R> none
+    ) {
+        return Objects.requireNonNull(UnionEvents.ENABLED ? UnionEvents.apply("matches", some, something) : some.apply(something));
+    }
+
     @Override
     public boolean equals(Object other) {
-        if (other instanceof Some<?>) {
-            return ((Some<?>) other).something.equals(this.something);
+        Object option = other instanceof LazyOption<?> ? ((LazyOption<?>) other).inner() : other;
+        if (option instanceof Some<?>) {
+            return ((Some<?>) option).something.equals(this.something);
         } else {
             return false;
         }
@@ -40,4 +184,37 @@ public class Some<T> implements Option<T> {
     public int hashCode() {
         return 9 * something.hashCode();
     }
+
+    /**
+     * Restores sharing of the cached instances on deserialization, and rejects
+     * a stream without a value.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        if (something == null) {
+            throw new InvalidObjectException("Some without a value");
+        }
+        return of(something);
+    }
+
+    private static final class Cache {
+        private static final Some<Boolean> TRUE = new Some<>(true);
+        private static final Some<Boolean> FALSE = new Some<>(false);
+        private static final Some<?>[] INTEGERS = new Some<?>[ValueCache.size()];
+
+        static {
+            for (int i = 0; i < INTEGERS.length; i++) {
+                INTEGERS[i] = new Some<>(ValueCache.low() + i);
+            }
+        }
+
+        static Some<?> lookup(Object value) {
+            if (value instanceof Integer) {
+                int index = ValueCache.indexOf((Integer) value);
+                return index < 0 ? null : INTEGERS[index];
+            } else if (value instanceof Boolean) {
+                return (Boolean) value ? TRUE : FALSE;
+            }
+            return null;
+        }
+    }
 }
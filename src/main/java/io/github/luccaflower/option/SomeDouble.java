@@ -0,0 +1,158 @@
+package io.github.luccaflower.option;
+
+import io.github.luccaflower.result.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+@SuppressWarnings("unused")
+public class SomeDouble implements OptionDouble {
+    private final double value;
+
+    protected SomeDouble(double value) {
+        this.value = value;
+    }
+
+    @Override
+    public double unwrap() {
+        return value;
+    }
+
+    @Override
+    public double unwrapOr(double defaultValue) {
+        return value;
+    }
+
+    @Override
+    public double unwrapOrElse(DoubleSupplier defaultFunc) {
+        return value;
+    }
+
+    @Override
+    public double expect(String reason) {
+        return value;
+    }
+
+    @Override
+    public boolean isSome() {
+        return true;
+    }
+
+    @Override
+    public boolean isNone() {
+        return false;
+    }
+
+    @Override
+    public boolean isSomeAnd(DoublePredicate p) {
+        return p.test(value);
+    }
+
+    @Override
+    public boolean contains(double candidate) {
+        return Double.compare(value, candidate) == 0;
+    }
+
+    @Override
+    public OptionDouble map(DoubleUnaryOperator func) {
+        return new SomeDouble(func.applyAsDouble(value));
+    }
+
+    @Override
+    public <R> Option<R> mapToObj(DoubleFunction<? extends R> func) {
+        return Option.some(func.apply(value));
+    }
+
+    @Override
+    public OptionInt mapToInt(DoubleToIntFunction func) {
+        return OptionInt.some(func.applyAsInt(value));
+    }
+
+    @Override
+    public OptionLong mapToLong(DoubleToLongFunction func) {
+        return OptionLong.some(func.applyAsLong(value));
+    }
+
+    @Override
+    public OptionDouble flatMap(DoubleFunction<? extends OptionDouble> func) {
+        return func.apply(value);
+    }
+
+    @Override
+    public OptionDouble filter(DoublePredicate p) {
+        return p.test(value) ? this : OptionDouble.none();
+    }
+
+    @Override
+    public double mapOr(double defaultValue, DoubleUnaryOperator func) {
+        return func.applyAsDouble(value);
+    }
+
+    @Override
+    public <R> R matches(DoubleFunction<? extends R> some, Supplier<? extends R> none) {
+        return Objects.requireNonNull(some.apply(value));
+    }
+
+    @Override
+    public OptionDouble or(OptionDouble other) {
+        return this;
+    }
+
+    @Override
+    public OptionDouble orElse(Supplier<? extends OptionDouble> other) {
+        return this;
+    }
+
+    @Override
+    public OptionDouble and(OptionDouble other) {
+        return other;
+    }
+
+    @Override
+    public OptionDouble ifSome(DoubleConsumer onSome) {
+        onSome.accept(value);
+        return this;
+    }
+
+    @Override
+    public OptionDouble ifNone(Option.Action onNone) {
+        return this;
+    }
+
+    @Override
+    public ResultDouble okOr(Exception error) {
+        return ResultDouble.ok(value);
+    }
+
+    @Override
+    public ResultDouble okOrElse(Supplier<? extends Exception> error) {
+        return ResultDouble.ok(value);
+    }
+
+    @Override
+    public Option<Double> boxed() {
+        return Option.some(value);
+    }
+
+    @Override
+    public OptionalDouble toOptional() {
+        return OptionalDouble.of(value);
+    }
+
+    @Override
+    public DoubleStream stream() {
+        return DoubleStream.of(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof SomeDouble
+            && Double.compare(((SomeDouble) other).value, value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 9 * Double.hashCode(value);
+    }
+}
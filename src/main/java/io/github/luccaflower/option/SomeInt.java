@@ -0,0 +1,158 @@
+package io.github.luccaflower.option;
+
+import io.github.luccaflower.result.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+@SuppressWarnings("unused")
+public class SomeInt implements OptionInt {
+    private final int value;
+
+    protected SomeInt(int value) {
+        this.value = value;
+    }
+
+    @Override
+    public int unwrap() {
+        return value;
+    }
+
+    @Override
+    public int unwrapOr(int defaultValue) {
+        return value;
+    }
+
+    @Override
+    public int unwrapOrElse(IntSupplier defaultFunc) {
+        return value;
+    }
+
+    @Override
+    public int expect(String reason) {
+        return value;
+    }
+
+    @Override
+    public boolean isSome() {
+        return true;
+    }
+
+    @Override
+    public boolean isNone() {
+        return false;
+    }
+
+    @Override
+    public boolean isSomeAnd(IntPredicate p) {
+        return p.test(value);
+    }
+
+    @Override
+    public boolean contains(int candidate) {
+        return Integer.compare(value, candidate) == 0;
+    }
+
+    @Override
+    public OptionInt map(IntUnaryOperator func) {
+        return new SomeInt(func.applyAsInt(value));
+    }
+
+    @Override
+    public <R> Option<R> mapToObj(IntFunction<? extends R> func) {
+        return Option.some(func.apply(value));
+    }
+
+    @Override
+    public OptionLong mapToLong(IntToLongFunction func) {
+        return OptionLong.some(func.applyAsLong(value));
+    }
+
+    @Override
+    public OptionDouble mapToDouble(IntToDoubleFunction func) {
+        return OptionDouble.some(func.applyAsDouble(value));
+    }
+
+    @Override
+    public OptionInt flatMap(IntFunction<? extends OptionInt> func) {
+        return func.apply(value);
+    }
+
+    @Override
+    public OptionInt filter(IntPredicate p) {
+        return p.test(value) ? this : OptionInt.none();
+    }
+
+    @Override
+    public int mapOr(int defaultValue, IntUnaryOperator func) {
+        return func.applyAsInt(value);
+    }
+
+    @Override
+    public <R> R matches(IntFunction<? extends R> some, Supplier<? extends R> none) {
+        return Objects.requireNonNull(some.apply(value));
+    }
+
+    @Override
+    public OptionInt or(OptionInt other) {
+        return this;
+    }
+
+    @Override
+    public OptionInt orElse(Supplier<? extends OptionInt> other) {
+        return this;
+    }
+
+    @Override
+    public OptionInt and(OptionInt other) {
+        return other;
+    }
+
+    @Override
+    public OptionInt ifSome(IntConsumer onSome) {
+        onSome.accept(value);
+        return this;
+    }
+
+    @Override
+    public OptionInt ifNone(Option.Action onNone) {
+        return this;
+    }
+
+    @Override
+    public ResultInt okOr(Exception error) {
+        return ResultInt.ok(value);
+    }
+
+    @Override
+    public ResultInt okOrElse(Supplier<? extends Exception> error) {
+        return ResultInt.ok(value);
+    }
+
+    @Override
+    public Option<Integer> boxed() {
+        return Option.some(value);
+    }
+
+    @Override
+    public OptionalInt toOptional() {
+        return OptionalInt.of(value);
+    }
+
+    @Override
+    public IntStream stream() {
+        return IntStream.of(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof SomeInt
+            && Integer.compare(((SomeInt) other).value, value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 9 * Integer.hashCode(value);
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.luccaflower.option;
+
+import io.github.luccaflower.result.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+@SuppressWarnings("unused")
+public class SomeLong implements OptionLong {
+    private final long value;
+
+    protected SomeLong(long value) {
+        this.value = value;
+    }
+
+    @Override
+    public long unwrap() {
+        return value;
+    }
+
+    @Override
+    public long unwrapOr(long defaultValue) {
+        return value;
+    }
+
+    @Override
+    public long unwrapOrElse(LongSupplier defaultFunc) {
+        return value;
+    }
+
+    @Override
+    public long expect(String reason) {
+        return value;
+    }
+
+    @Override
+    public boolean isSome() {
+        return true;
+    }
+
+    @Override
+    public boolean isNone() {
+        return false;
+    }
+
+    @Override
+    public boolean isSomeAnd(LongPredicate p) {
+        return p.test(value);
+    }
+
+    @Override
+    public boolean contains(long candidate) {
+        return Long.compare(value, candidate) == 0;
+    }
+
+    @Override
+    public OptionLong map(LongUnaryOperator func) {
+        return new SomeLong(func.applyAsLong(value));
+    }
+
+    @Override
+    public <R> Option<R> mapToObj(LongFunction<? extends R> func) {
+        return Option.some(func.apply(value));
+    }
+
+    @Override
+    public OptionInt mapToInt(LongToIntFunction func) {
+        return OptionInt.some(func.applyAsInt(value));
+    }
+
+    @Override
+    public OptionDouble mapToDouble(LongToDoubleFunction func) {
+        return OptionDouble.some(func.applyAsDouble(value));
+    }
+
+    @Override
+    public OptionLong flatMap(LongFunction<? extends OptionLong> func) {
+        return func.apply(value);
+    }
+
+    @Override
+    public OptionLong filter(LongPredicate p) {
+        return p.test(value) ? this : OptionLong.none();
+    }
+
+    @Override
+    public long mapOr(long defaultValue, LongUnaryOperator func) {
+        return func.applyAsLong(value);
+    }
+
+    @Override
+    public <R> R matches(LongFunction<? extends R> some, Supplier<? extends R> none) {
+        return Objects.requireNonNull(some.apply(value));
+    }
+
+    @Override
+    public OptionLong or(OptionLong other) {
+        return this;
+    }
+
+    @Override
+    public OptionLong orElse(Supplier<? extends OptionLong> other) {
+        return this;
+    }
+
+    @Override
+    public OptionLong and(OptionLong other) {
+        return other;
+    }
+
+    @Override
+    public OptionLong ifSome(LongConsumer onSome) {
+        onSome.accept(value);
+        return this;
+    }
+
+    @Override
+    public OptionLong ifNone(Option.Action onNone) {
+        return this;
+    }
+
+    @Override
+    public ResultLong okOr(Exception error) {
+        return ResultLong.ok(value);
+    }
+
+    @Override
+    public ResultLong okOrElse(Supplier<? extends Exception> error) {
+        return ResultLong.ok(value);
+    }
+
+    @Override
+    public Option<Long> boxed() {
+        return Option.some(value);
+    }
+
+    @Override
+    public OptionalLong toOptional() {
+        return OptionalLong.of(value);
+    }
+
+    @Override
+    public LongStream stream() {
+        return LongStream.of(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof SomeLong
+            && Long.compare(((SomeLong) other).value, value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 9 * Long.hashCode(value);
+    }
+}
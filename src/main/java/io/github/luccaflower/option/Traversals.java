@@ -0,0 +1,66 @@
+package io.github.luccaflower.option;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * The loops behind {@link Option#traverse(Iterable, Function)} and its relatives.
+ * They pull from the source one element at a time and stop at the first None,
+ * so nothing past it is consumed.
+ */
+final class Traversals {
+    private Traversals() {}
+
+    static <A, B> Option<List<B>> traverse(
+        Iterator<? extends A> source,
+        long sizeHint,
+        Function<? super A, ? extends Option<B>> func
+    ) {
+        List<B> values = sizeHint >= 0 && sizeHint < Integer.MAX_VALUE
+            ? new ArrayList<>((int) sizeHint)
+            : new ArrayList<>();
+        while (source.hasNext()) {
+            Option<B> option = func.apply(source.next());
+            if (option.isNone()) {
+                return Option.none();
+            }
+            values.add(option.unwrap());
+        }
+        return Option.some(values);
+    }
+
+    static <A, R> Option<R> tryFold(
+        Iterator<? extends A> source,
+        R initial,
+        BiFunction<? super R, ? super A, ? extends Option<R>> step
+    ) {
+        R accumulator = initial;
+        while (source.hasNext()) {
+            Option<R> option = step.apply(accumulator, source.next());
+            if (option.isNone()) {
+                return option;
+            }
+            accumulator = option.unwrap();
+        }
+        return Option.some(accumulator);
+    }
+
+    static <A, C> Option<C> tryForEach(
+        Iterator<? extends A> source,
+        C accumulator,
+        BiFunction<? super C, ? super A, ? extends Option<?>> action
+    ) {
+        while (source.hasNext()) {
+            if (action.apply(accumulator, source.next()).isNone()) {
+                return Option.none();
+            }
+        }
+        return Option.some(accumulator);
+    }
+
+    static long sizeOf(Iterable<?> source) {
+        return source instanceof Collection<?>
+            ? ((Collection<?>) source).size()
+            : -1;
+    }
+}
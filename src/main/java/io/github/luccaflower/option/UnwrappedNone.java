@@ -1,22 +1,66 @@
 package io.github.luccaflower.option;
 
+import io.github.luccaflower.jfr.*;
+import io.github.luccaflower.metrics.*;
+import io.github.luccaflower.trace.*;
+
+import java.util.*;
+
 public class UnwrappedNone extends RuntimeException {
+    private static final UnwrappedNone SHARED = new UnwrappedNone(null, false, false);
+
     public UnwrappedNone() {
-        super();
+        this(null, true, StackTracePolicy.captureFor(UnwrappedNone.class));
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.panic(UnwrappedNone.class);
+        }
+        if (UnionEvents.ENABLED) {
+            UnionEvents.panic(UnwrappedNone.class, null);
+        }
     }
 
     public UnwrappedNone(String reason) {
-        super(reason);
+        this(reason, true, StackTracePolicy.captureFor(UnwrappedNone.class));
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.panic(UnwrappedNone.class);
+        }
+        if (UnionEvents.ENABLED) {
+            UnionEvents.panic(UnwrappedNone.class, reason);
+        }
+    }
+
+    private UnwrappedNone(
+        String reason,
+        boolean enableSuppression,
+        boolean writableStackTrace
+    ) {
+        super(reason, null, enableSuppression, writableStackTrace);
+    }
+
+    /**
+     * Returns a message-less instance, which is shared between throws when the
+     * {@link StackTracePolicy} for this type does not capture a stack trace.
+     */
+    static UnwrappedNone create() {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.panic(UnwrappedNone.class);
+        }
+        if (UnionEvents.ENABLED) {
+            UnionEvents.panic(UnwrappedNone.class, null);
+        }
+        return StackTracePolicy.captureFor(UnwrappedNone.class)
+            ? new UnwrappedNone(null, true, true)
+            : SHARED;
     }
 
     @Override
     public boolean equals(Object other) {
         return other instanceof UnwrappedNone
-            && ((UnwrappedNone) other).getMessage().equals(getMessage());
+            && Objects.equals(((UnwrappedNone) other).getMessage(), getMessage());
     }
 
     @Override
     public int hashCode() {
-        return 23 * getMessage().hashCode();
+        return 23 * Objects.hashCode(getMessage());
     }
 }
@@ -0,0 +1,315 @@
+package io.github.luccaflower.result;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * <p>
+ *     A Result that will be available in the future. It wraps a
+ *     {@link CompletableFuture} of a {@link Result} and mirrors the Result
+ *     combinators, but every combinator returns immediately and runs its
+ *     function once the outcome is known, so nothing blocks until {@link #join()}.
+ * </p>
+ * <p>
+ *     Failures are always reported as Errors. A source stage that completes
+ *     exceptionally, a function that throws, an expired timeout: all of them
+ *     resolve to an Error that contains the exception. {@link Error}s such as
+ *     {@link OutOfMemoryError} are not caught, and neither are they caught by
+ *     {@link Result}.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public final class AsyncResult<T> {
+    private final CompletableFuture<Result<T>> future;
+
+    private AsyncResult(CompletableFuture<Result<T>> future) {
+        this.future = future;
+    }
+
+    /**
+     * Wraps a stage that completes with a plain value. An exceptional
+     * completion becomes an Error containing the cause.
+     */
+    public static <T> AsyncResult<T> of(CompletionStage<? extends T> stage) {
+        return new AsyncResult<>(stage.toCompletableFuture().thenApply(Result::ok));
+    }
+
+    /**
+     * Wraps a stage that completes with a Result.
+     */
+    public static <T> AsyncResult<T> from(CompletionStage<? extends Result<T>> stage) {
+        return new AsyncResult<>(stage.toCompletableFuture().thenApply(Function.identity()));
+    }
+
+    /**
+     * An AsyncResult that is already complete.
+     */
+    public static <T> AsyncResult<T> completed(Result<T> result) {
+        return new AsyncResult<>(CompletableFuture.completedFuture(Objects.requireNonNull(result)));
+    }
+
+    /**
+     * Runs the supplier on the given executor.
+     */
+    public static <T> AsyncResult<T> supplyAsync(
+        Supplier<? extends Result<T>> supplier,
+        Executor executor
+    ) {
+        return new AsyncResult<>(CompletableFuture.supplyAsync(supplier, executor).thenApply(Function.identity()));
+    }
+
+    /**
+     * <p>
+     *     Completes with a list of every value in order once all the inputs are Ok,
+     *     or with the first Error as soon as any input fails, without waiting for
+     *     the remaining inputs.
+     * </p>
+     */
+    public static <T> AsyncResult<List<T>> allOf(Collection<? extends AsyncResult<T>> results) {
+        if (results.isEmpty()) {
+            return completed(Result.ok(new ArrayList<>()));
+        }
+        CompletableFuture<Result<List<T>>> outcome = new CompletableFuture<>();
+        Object[] values = new Object[results.size()];
+        AtomicInteger remaining = new AtomicInteger(values.length);
+        int index = 0;
+        for (AsyncResult<T> result : results) {
+            int slot = index++;
+            result.settled().whenComplete((r, failure) -> {
+                if (failure != null) {
+                    outcome.completeExceptionally(failure);
+                    return;
+                }
+                if (r.isErr()) {
+                    outcome.complete(Traversals.propagate(r));
+                    return;
+                }
+                values[slot] = r.unwrap();
+                if (remaining.decrementAndGet() == 0) {
+                    outcome.complete(Result.ok(listOf(values)));
+                }
+            });
+        }
+        return new AsyncResult<>(outcome);
+    }
+
+    /**
+     * <p>
+     *     Completes with the first Ok as soon as any input succeeds, without
+     *     waiting for the remaining inputs. If every input fails, it completes
+     *     with the last Error to arrive, and with an empty Error if there are
+     *     no inputs at all.
+     * </p>
+     */
+    public static <T> AsyncResult<T> anyOk(Collection<? extends AsyncResult<T>> results) {
+        if (results.isEmpty()) {
+            return completed(Result.err());
+        }
+        CompletableFuture<Result<T>> outcome = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(results.size());
+        for (AsyncResult<T> result : results) {
+            result.settled().whenComplete((r, failure) -> {
+                if (failure != null) {
+                    outcome.completeExceptionally(failure);
+                } else if (r.isOk() || remaining.decrementAndGet() == 0) {
+                    outcome.complete(r);
+                }
+            });
+        }
+        return new AsyncResult<>(outcome);
+    }
+
+    /**
+     * Applies the function to the value once it is Ok.
+     * @see Result#map(Function)
+     */
+    public <R> AsyncResult<R> map(Function<? super T, ? extends R> func) {
+        return new AsyncResult<>(future.thenApply(r -> r.map(func)));
+    }
+
+    /**
+     * Applies the function to the value on the given executor once it is Ok.
+     */
+    public <R> AsyncResult<R> mapAsync(Function<? super T, ? extends R> func, Executor executor) {
+        return new AsyncResult<>(future.thenApplyAsync(r -> r.map(func), executor));
+    }
+
+    /**
+     * Continues with another asynchronous computation once the value is Ok.
+     * @see Result#flatMap(Function)
+     */
+    public <R> AsyncResult<R> flatMap(Function<? super T, ? extends AsyncResult<R>> func) {
+        return new AsyncResult<>(future.thenCompose(r -> r.matches(
+            value -> futureOf(func.apply(value)),
+            error -> CompletableFuture.completedFuture(Traversals.propagate(r))
+        )));
+    }
+
+    /**
+     * Continues with another asynchronous computation on the given executor
+     * once the value is Ok.
+     */
+    public <R> AsyncResult<R> flatMapAsync(
+        Function<? super T, ? extends AsyncResult<R>> func,
+        Executor executor
+    ) {
+        return new AsyncResult<>(future.thenComposeAsync(r -> r.matches(
+            value -> futureOf(func.apply(value)),
+            error -> CompletableFuture.completedFuture(Traversals.propagate(r))
+        ), executor));
+    }
+
+    /**
+     * Continues with another asynchronous computation if this fails.
+     * @see Result#flatMapErr(Function)
+     */
+    public AsyncResult<T> flatMapErr(Function<? super Exception, ? extends AsyncResult<T>> func) {
+        return new AsyncResult<>(settled().thenCompose(r -> r.matches(
+            value -> CompletableFuture.completedFuture(r),
+            error -> futureOf(func.apply(error))
+        )));
+    }
+
+    /**
+     * Transforms the error if this fails.
+     * @see Result#mapErr(Function)
+     */
+    public AsyncResult<T> mapErr(Function<? super Exception, ? extends Exception> func) {
+        return new AsyncResult<>(settled().thenApply(r -> r.mapErr(func)));
+    }
+
+    /**
+     * Continues with the other AsyncResult if this is Ok.
+     * @see Result#and(Result)
+     */
+    public <R> AsyncResult<R> and(AsyncResult<R> other) {
+        return flatMap(value -> other);
+    }
+
+    /**
+     * Falls back to the other AsyncResult if this fails.
+     * @see Result#or(Result)
+     */
+    public AsyncResult<T> or(AsyncResult<T> other) {
+        return flatMapErr(error -> other);
+    }
+
+    /**
+     * Runs the consumer on the value once it is Ok.
+     */
+    public AsyncResult<T> ifOk(Consumer<? super T> onOk) {
+        return new AsyncResult<>(future.thenApply(r -> r.ifOk(onOk)));
+    }
+
+    /**
+     * Runs the consumer on the error if this fails.
+     */
+    public AsyncResult<T> ifErr(Consumer<? super Exception> onErr) {
+        return new AsyncResult<>(settled().thenApply(r -> r.ifErr(onErr)));
+    }
+
+    /**
+     * Resolves to an Error containing a {@link TimeoutException} if the outcome
+     * is not known within the given time.
+     */
+    public AsyncResult<T> timeout(Duration timeout) {
+        return new AsyncResult<>(future.copy().orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Resolves to an Error containing a {@link TimeoutException} if the outcome
+     * is not known by the given instant.
+     */
+    public AsyncResult<T> deadline(Instant deadline) {
+        Duration remaining = Duration.between(Instant.now(), deadline);
+        return timeout(remaining.isNegative() ? Duration.ZERO : remaining);
+    }
+
+    /**
+     * Returns true once the outcome is known.
+     */
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * <p>
+     *     Waits for the outcome. If the waiting thread is interrupted, the
+     *     interrupt flag is restored and an Error containing the
+     *     {@link InterruptedException} is returned.
+     * </p>
+     */
+    public Result<T> join() {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.err(e);
+        } catch (ExecutionException e) {
+            return settle(null, e);
+        }
+    }
+
+    /**
+     * A stage of the outcome as a Result. It never completes exceptionally,
+     * other than for an {@link Error}.
+     */
+    public CompletionStage<Result<T>> toCompletionStage() {
+        return settled().minimalCompletionStage();
+    }
+
+    /**
+     * A future of the value, which completes exceptionally with the contained
+     * error if this fails.
+     */
+    public CompletableFuture<T> toCompletableFuture() {
+        CompletableFuture<T> values = new CompletableFuture<>();
+        settled().whenComplete((r, failure) -> {
+            if (failure != null) {
+                values.completeExceptionally(failure);
+            } else if (r.isOk()) {
+                values.complete(r.unwrap());
+            } else {
+                values.completeExceptionally(r.unwrapErr());
+            }
+        });
+        return values;
+    }
+
+    private CompletableFuture<Result<T>> settled() {
+        return future.handle(AsyncResult::settle);
+    }
+
+    private static <T> CompletableFuture<Result<T>> futureOf(AsyncResult<T> result) {
+        return result.future;
+    }
+
+    private static <T> Result<T> settle(Result<T> result, Throwable failure) {
+        if (failure == null) {
+            return result;
+        }
+        Throwable cause = failure;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+            && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof Exception) {
+            return Result.err((Exception) cause);
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new CompletionException(cause);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> listOf(Object[] values) {
+        List<T> list = new ArrayList<>(values.length);
+        for (Object value : values) {
+            list.add((T) value);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.luccaflower.result;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * <p>
+ *     Runs code that throws checked Exceptions and turns the Exceptions it
+ *     expects into Errors. The thrown Exception is stored in the Error as it
+ *     is, without wrapping it or capturing another stack trace. Anything else
+ *     propagates: unexpected RuntimeExceptions are rethrown unchanged, and
+ *     unexpected checked Exceptions are wrapped in an {@link UnexpectedException}.
+ * </p>
+ * <pre>{@code
+ * private static final Catching IO = Catching.only(IOException.class);
+ *
+ * Result<String> text = IO.of(() -> Files.readString(path));
+ * Result<Integer> port = text.mapChecked(IO, Integer::parseInt); // NumberFormatException propagates
+ * }</pre>
+ * <p>
+ *     If an {@link InterruptedException} is caught, expected or not, the
+ *     interrupt flag of the current thread is set again before returning or
+ *     propagating. Instances are immutable and are best kept in constants.
+ * </p>
+ * @see Result#of(Result.CheckedSupplier)
+ */
+@SuppressWarnings("unused")
+public final class Catching {
+    private static final Catching ALL = new Catching(new Class<?>[0]);
+
+    private final Class<?>[] expected;
+
+    private Catching(Class<?>[] expected) {
+        this.expected = expected;
+    }
+
+    /**
+     * Expects every Exception.
+     */
+    public static Catching all() {
+        return ALL;
+    }
+
+    /**
+     * Expects the given Exception types and their subtypes.
+     */
+    @SafeVarargs
+    public static Catching only(Class<? extends Exception>... expected) {
+        if (expected.length == 0) {
+            throw new IllegalArgumentException("at least one expected type is required");
+        }
+        Class<?>[] types = new Class<?>[expected.length];
+        for (int i = 0; i < expected.length; i++) {
+            types[i] = Objects.requireNonNull(expected[i]);
+        }
+        return new Catching(types);
+    }
+
+    /**
+     * Returns whether the Exception is turned into an Error rather than propagated.
+     */
+    public boolean expects(Exception e) {
+        if (expected.length == 0) {
+            return true;
+        }
+        for (Class<?> type : expected) {
+            if (type.isInstance(e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns an Ok containing the value of the supplier, or an Error if it
+     * throws an expected Exception.
+     */
+    public <T> Result<T> of(Result.CheckedSupplier<? extends T> supplier) {
+        T value;
+        try {
+            value = supplier.get();
+        } catch (Exception e) {
+            return caught(e);
+        }
+        return Result.ok(value);
+    }
+
+    /**
+     * Returns an Ok containing the result of applying the function, or an
+     * Error if it throws an expected Exception.
+     */
+    public <T, R> Result<R> apply(Result.CheckedFunction<? super T, ? extends R> func, T argument) {
+        R value;
+        try {
+            value = func.apply(argument);
+        } catch (Exception e) {
+            return caught(e);
+        }
+        return Result.ok(value);
+    }
+
+    /**
+     * Returns the Result of applying the function, or an Error if it throws
+     * an expected Exception.
+     */
+    public <T, R> Result<R> flatApply(Result.CheckedFunction<? super T, ? extends Result<R>> func, T argument) {
+        Result<R> result;
+        try {
+            result = func.apply(argument);
+        } catch (Exception e) {
+            return caught(e);
+        }
+        return Objects.requireNonNull(result);
+    }
+
+    /**
+     * Turns a throwing function into one that returns a Result, e.g. for use
+     * with {@link Result#flatMap(Function)} or in a stream.
+     */
+    public <T, R> Function<T, Result<R>> lift(Result.CheckedFunction<? super T, ? extends R> func) {
+        return argument -> apply(func, argument);
+    }
+
+    private <T> Result<T> caught(Exception e) {
+        if (e instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        if (expects(e)) {
+            return Result.err(e);
+        }
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        throw new UnexpectedException(e);
+    }
+}
@@ -1,14 +1,52 @@
 package io.github.luccaflower.result;
 
 
+import io.github.luccaflower.jfr.*;
+import io.github.luccaflower.metrics.*;
+import io.github.luccaflower.option.*;
+
+import java.io.*;
+import java.util.*;
 import java.util.function.*;
+import java.util.stream.*;
+
 @SuppressWarnings("unused")
-public class Err<T> implements Result<T> {
+public class Err<T> implements Result<T>, Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final Exception error;
     protected Err(Exception error) {
+        this(error, true);
+    }
+
+    private Err(Exception error, boolean counted) {
+        if (counted && UnionMetrics.ENABLED) {
+            UnionMetrics.errCreated(error);
+        }
+        if (counted && UnionEvents.ENABLED) {
+            UnionEvents.errCreated(error);
+        }
         this.error = error;
     }
 
+    /**
+     * Wraps an error without counting it in the metrics and events, for views
+     * of errors that are already stored elsewhere, or were counted when they
+     * were first put in an Err, e.g. when reading them back from a file.
+     */
+    public static <T> Result<T> uncounted(Exception error) {
+        return new Err<>(Objects.requireNonNull(error), false);
+    }
+
+    /**
+     * Returns the contained Exception. Unlike {@link #unwrapErr()} this is only
+     * available on the Error-variant, which makes it the accessor to use after
+     * a type pattern, e.g. {@code case Err<T> err -> err.error()}.
+     */
+    public Exception error() {
+        return error;
+    }
+
     @Override
     public T unwrap() {
         throw new UnwrappedErrorExpectingOk(error);
@@ -17,7 +55,7 @@ public class Err<T> implements Result<T> {
     public <R> Result<R> flatMap(
         Function<? super T, ? extends Result<R>> func
     ) {
-        return Result.err(error);
+        return propagate();
     }
 
     @Override
@@ -32,14 +70,165 @@ public class Err<T> implements Result<T> {
         return error;
     }
 
+    @Override
+    public Stream<T> stream() {
+        return Stream.empty();
+    }
+
+    @Override
+    public T unwrapOr(T defaultValue) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.UNWRAP_OR);
+        }
+        Objects.requireNonNull(defaultValue);
+        return defaultValue;
+    }
+
+    @Override
+    public T unwrapOrElse(Supplier<? extends T> defaultFunc) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.UNWRAP_OR_ELSE);
+        }
+        return defaultFunc.get();
+    }
+
+    @Override
+    public T expect(String reason) {
+        throw new UnwrappedErrorExpectingOk(reason, error);
+    }
+
+    @Override
+    public Exception expectErr(String message) {
+        return error;
+    }
+
+    @Override
+    public Result<T> ifOk(Consumer<? super T> onOk) {
+        return this;
+    }
+
+    @Override
+    public Result<T> ifErr(Consumer<? super Exception> onErr) {
+        onErr.accept(error);
+        return this;
+    }
+
+    @Override
+    public boolean isOk() {
+        return false;
+    }
+
+    @Override
+    public boolean isOkAnd(Predicate<? super T> p) {
+        return false;
+    }
+
+    @Override
+    public boolean isErr() {
+        return true;
+    }
+
+    @Override
+    public boolean isErrAnd(Predicate<? super Exception> p) {
+        return p.test(error);
+    }
+
+    @Override
+    public Option<T> okToOption() {
+        return Option.none();
+    }
+
+    @Override
+    public Option<Exception> errToOption() {
+        return Option.some(error);
+    }
+
+    @Override
+    public <R> Result<R> map(Function<? super T, ? extends R> func) {
+        return propagate();
+    }
+
+    @Override
+    public Result<T> mapErr(
+        Function<? super Exception, ? extends Exception> func
+    ) {
+        return Result.err(func.apply(error));
+    }
+
+    @Override
+    public <R> R mapOr(R defaultValue, Function<? super T, ? extends R> func) {
+        Objects.requireNonNull(defaultValue);
+        return defaultValue;
+    }
+
+    @Override
+    public <R> R mapOrElse(
+        Function<? super Exception, ? extends R> onErr,
+        Function<? super T, ? extends R> onOk
+    ) {
+        return Objects.requireNonNull(onErr.apply(error));
+    }
+
+    @Override
+    public <R> Result<R> and(Result<R> other) {
+        return propagate();
+    }
+
+    @Override
+    public Result<T> or(Result<T> res) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.OR);
+        }
+        return res;
+    }
+
+    @Override
+    public boolean contains(T candidate) {
+        return false;
+    }
+
+    @Override
+    public boolean containsErr(Exception candidate) {
+        return error.equals(candidate);
+    }
+
+    @Override
+    public <R> Result<R> flatten() {
+        return propagate();
+    }
+
+    @Override
+    public <R> R matches(
+        Function<? super T, ? extends R> ok,
+        Function<? super Exception, ? extends R> err
+    ) {
+        return Objects.requireNonNull(UnionEvents.ENABLED ? UnionEvents.apply("matches", err, error) : err.apply(error));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> Result<R> propagate() {
+        return (Result<R>) this;
+    }
+
     @Override
     public boolean equals(Object other) {
-        return other instanceof Err
-            && ((Err<?>) other).error.equals(this.error);
+        Object result = other instanceof LazyResult<?> ? ((LazyResult<?>) other).inner() : other;
+        return result instanceof Err
+            && ((Err<?>) result).error.equals(this.error);
     }
 
     @Override
     public int hashCode() {
         return 5 * error.hashCode();
     }
+
+    /**
+     * Rejects a stream that holds an Err without an error.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        if (error == null) {
+            throw new InvalidObjectException("Err without an error");
+        }
+        return this;
+    }
 }
@@ -0,0 +1,200 @@
+package io.github.luccaflower.result;
+
+import io.github.luccaflower.jfr.*;
+import io.github.luccaflower.metrics.*;
+import io.github.luccaflower.option.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+@SuppressWarnings("unused")
+public class ErrDouble implements ResultDouble {
+    private final Exception error;
+
+    protected ErrDouble(Exception error) {
+        this(error, true);
+    }
+
+    private ErrDouble(Exception error, boolean counted) {
+        if (counted && UnionMetrics.ENABLED) {
+            UnionMetrics.errCreated(error);
+        }
+        if (counted && UnionEvents.ENABLED) {
+            UnionEvents.errCreated(error);
+        }
+        this.error = error;
+    }
+
+    /**
+     * Wraps an error without counting it in the metrics and events, for views
+     * of errors that are already stored elsewhere.
+     */
+    static ResultDouble uncounted(Exception error) {
+        return new ErrDouble(error, false);
+    }
+
+    @Override
+    public double unwrap() {
+        throw new UnwrappedErrorExpectingOk(error);
+    }
+
+    @Override
+    public Exception unwrapErr() {
+        return error;
+    }
+
+    @Override
+    public double unwrapOr(double defaultValue) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.UNWRAP_OR);
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public double unwrapOrElse(DoubleSupplier defaultFunc) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.UNWRAP_OR_ELSE);
+        }
+        return defaultFunc.getAsDouble();
+    }
+
+    @Override
+    public double expect(String reason) {
+        throw new UnwrappedErrorExpectingOk(reason, error);
+    }
+
+    @Override
+    public Exception expectErr(String message) {
+        return error;
+    }
+
+    @Override
+    public boolean isOk() {
+        return false;
+    }
+
+    @Override
+    public boolean isErr() {
+        return true;
+    }
+
+    @Override
+    public boolean isOkAnd(DoublePredicate p) {
+        return false;
+    }
+
+    @Override
+    public boolean isErrAnd(Predicate<? super Exception> p) {
+        return p.test(error);
+    }
+
+    @Override
+    public boolean contains(double candidate) {
+        return false;
+    }
+
+    @Override
+    public ResultDouble map(DoubleUnaryOperator func) {
+        return this;
+    }
+
+    @Override
+    public <R> Result<R> mapToObj(DoubleFunction<? extends R> func) {
+        return Err.uncounted(error);
+    }
+
+    @Override
+    public ResultInt mapToInt(DoubleToIntFunction func) {
+        return ErrInt.uncounted(error);
+    }
+
+    @Override
+    public ResultLong mapToLong(DoubleToLongFunction func) {
+        return ErrLong.uncounted(error);
+    }
+
+    @Override
+    public ResultDouble flatMap(DoubleFunction<? extends ResultDouble> func) {
+        return this;
+    }
+
+    @Override
+    public ResultDouble mapErr(Function<? super Exception, ? extends Exception> func) {
+        return ResultDouble.err(func.apply(error));
+    }
+
+    @Override
+    public ResultDouble flatMapErr(Function<? super Exception, ? extends ResultDouble> func) {
+        return func.apply(error);
+    }
+
+    @Override
+    public double mapOr(double defaultValue, DoubleUnaryOperator func) {
+        return defaultValue;
+    }
+
+    @Override
+    public <R> R matches(
+        DoubleFunction<? extends R> ok,
+        Function<? super Exception, ? extends R> err
+    ) {
+        return Objects.requireNonNull(err.apply(error));
+    }
+
+    @Override
+    public ResultDouble and(ResultDouble other) {
+        return this;
+    }
+
+    @Override
+    public ResultDouble or(ResultDouble other) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.OR);
+        }
+        return other;
+    }
+
+    @Override
+    public ResultDouble ifOk(DoubleConsumer onOk) {
+        return this;
+    }
+
+    @Override
+    public ResultDouble ifErr(Consumer<? super Exception> onErr) {
+        onErr.accept(error);
+        return this;
+    }
+
+    @Override
+    public OptionDouble okToOption() {
+        return OptionDouble.none();
+    }
+
+    @Override
+    public Option<Exception> errToOption() {
+        return Option.some(error);
+    }
+
+    @Override
+    public Result<Double> boxed() {
+        return Err.uncounted(error);
+    }
+
+    @Override
+    public DoubleStream stream() {
+        return DoubleStream.empty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ErrDouble
+            && ((ErrDouble) other).error.equals(error);
+    }
+
+    @Override
+    public int hashCode() {
+        return 5 * error.hashCode();
+    }
+}
@@ -0,0 +1,200 @@
+package io.github.luccaflower.result;
+
+import io.github.luccaflower.jfr.*;
+import io.github.luccaflower.metrics.*;
+import io.github.luccaflower.option.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+@SuppressWarnings("unused")
+public class ErrInt implements ResultInt {
+    private final Exception error;
+
+    protected ErrInt(Exception error) {
+        this(error, true);
+    }
+
+    private ErrInt(Exception error, boolean counted) {
+        if (counted && UnionMetrics.ENABLED) {
+            UnionMetrics.errCreated(error);
+        }
+        if (counted && UnionEvents.ENABLED) {
+            UnionEvents.errCreated(error);
+        }
+        this.error = error;
+    }
+
+    /**
+     * Wraps an error without counting it in the metrics and events, for views
+     * of errors that are already stored elsewhere.
+     */
+    static ResultInt uncounted(Exception error) {
+        return new ErrInt(error, false);
+    }
+
+    @Override
+    public int unwrap() {
+        throw new UnwrappedErrorExpectingOk(error);
+    }
+
+    @Override
+    public Exception unwrapErr() {
+        return error;
+    }
+
+    @Override
+    public int unwrapOr(int defaultValue) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.UNWRAP_OR);
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public int unwrapOrElse(IntSupplier defaultFunc) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.UNWRAP_OR_ELSE);
+        }
+        return defaultFunc.getAsInt();
+    }
+
+    @Override
+    public int expect(String reason) {
+        throw new UnwrappedErrorExpectingOk(reason, error);
+    }
+
+    @Override
+    public Exception expectErr(String message) {
+        return error;
+    }
+
+    @Override
+    public boolean isOk() {
+        return false;
+    }
+
+    @Override
+    public boolean isErr() {
+        return true;
+    }
+
+    @Override
+    public boolean isOkAnd(IntPredicate p) {
+        return false;
+    }
+
+    @Override
+    public boolean isErrAnd(Predicate<? super Exception> p) {
+        return p.test(error);
+    }
+
+    @Override
+    public boolean contains(int candidate) {
+        return false;
+    }
+
+    @Override
+    public ResultInt map(IntUnaryOperator func) {
+        return this;
+    }
+
+    @Override
+    public <R> Result<R> mapToObj(IntFunction<? extends R> func) {
+        return Err.uncounted(error);
+    }
+
+    @Override
+    public ResultLong mapToLong(IntToLongFunction func) {
+        return ErrLong.uncounted(error);
+    }
+
+    @Override
+    public ResultDouble mapToDouble(IntToDoubleFunction func) {
+        return ErrDouble.uncounted(error);
+    }
+
+    @Override
+    public ResultInt flatMap(IntFunction<? extends ResultInt> func) {
+        return this;
+    }
+
+    @Override
+    public ResultInt mapErr(Function<? super Exception, ? extends Exception> func) {
+        return ResultInt.err(func.apply(error));
+    }
+
+    @Override
+    public ResultInt flatMapErr(Function<? super Exception, ? extends ResultInt> func) {
+        return func.apply(error);
+    }
+
+    @Override
+    public int mapOr(int defaultValue, IntUnaryOperator func) {
+        return defaultValue;
+    }
+
+    @Override
+    public <R> R matches(
+        IntFunction<? extends R> ok,
+        Function<? super Exception, ? extends R> err
+    ) {
+        return Objects.requireNonNull(err.apply(error));
+    }
+
+    @Override
+    public ResultInt and(ResultInt other) {
+        return this;
+    }
+
+    @Override
+    public ResultInt or(ResultInt other) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.OR);
+        }
+        return other;
+    }
+
+    @Override
+    public ResultInt ifOk(IntConsumer onOk) {
+        return this;
+    }
+
+    @Override
+    public ResultInt ifErr(Consumer<? super Exception> onErr) {
+        onErr.accept(error);
+        return this;
+    }
+
+    @Override
+    public OptionInt okToOption() {
+        return OptionInt.none();
+    }
+
+    @Override
+    public Option<Exception> errToOption() {
+        return Option.some(error);
+    }
+
+    @Override
+    public Result<Integer> boxed() {
+        return Err.uncounted(error);
+    }
+
+    @Override
+    public IntStream stream() {
+        return IntStream.empty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ErrInt
+            && ((ErrInt) other).error.equals(error);
+    }
+
+    @Override
+    public int hashCode() {
+        return 5 * error.hashCode();
+    }
+}
@@ -0,0 +1,200 @@
+package io.github.luccaflower.result;
+
+import io.github.luccaflower.jfr.*;
+import io.github.luccaflower.metrics.*;
+import io.github.luccaflower.option.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+@SuppressWarnings("unused")
+public class ErrLong implements ResultLong {
+    private final Exception error;
+
+    protected ErrLong(Exception error) {
+        this(error, true);
+    }
+
+    private ErrLong(Exception error, boolean counted) {
+        if (counted && UnionMetrics.ENABLED) {
+            UnionMetrics.errCreated(error);
+        }
+        if (counted && UnionEvents.ENABLED) {
+            UnionEvents.errCreated(error);
+        }
+        this.error = error;
+    }
+
+    /**
+     * Wraps an error without counting it in the metrics and events, for views
+     * of errors that are already stored elsewhere.
+     */
+    static ResultLong uncounted(Exception error) {
+        return new ErrLong(error, false);
+    }
+
+    @Override
+    public long unwrap() {
+        throw new UnwrappedErrorExpectingOk(error);
+    }
+
+    @Override
+    public Exception unwrapErr() {
+        return error;
+    }
+
+    @Override
+    public long unwrapOr(long defaultValue) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.UNWRAP_OR);
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public long unwrapOrElse(LongSupplier defaultFunc) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.UNWRAP_OR_ELSE);
+        }
+        return defaultFunc.getAsLong();
+    }
+
+    @Override
+    public long expect(String reason) {
+        throw new UnwrappedErrorExpectingOk(reason, error);
+    }
+
+    @Override
+    public Exception expectErr(String message) {
+        return error;
+    }
+
+    @Override
+    public boolean isOk() {
+        return false;
+    }
+
+    @Override
+    public boolean isErr() {
+        return true;
+    }
+
+    @Override
+    public boolean isOkAnd(LongPredicate p) {
+        return false;
+    }
+
+    @Override
+    public boolean isErrAnd(Predicate<? super Exception> p) {
+        return p.test(error);
+    }
+
+    @Override
+    public boolean contains(long candidate) {
+        return false;
+    }
+
+    @Override
+    public ResultLong map(LongUnaryOperator func) {
+        return this;
+    }
+
+    @Override
+    public <R> Result<R> mapToObj(LongFunction<? extends R> func) {
+        return Err.uncounted(error);
+    }
+
+    @Override
+    public ResultInt mapToInt(LongToIntFunction func) {
+        return ErrInt.uncounted(error);
+    }
+
+    @Override
+    public ResultDouble mapToDouble(LongToDoubleFunction func) {
+        return ErrDouble.uncounted(error);
+    }
+
+    @Override
+    public ResultLong flatMap(LongFunction<? extends ResultLong> func) {
+        return this;
+    }
+
+    @Override
+    public ResultLong mapErr(Function<? super Exception, ? extends Exception> func) {
+        return ResultLong.err(func.apply(error));
+    }
+
+    @Override
+    public ResultLong flatMapErr(Function<? super Exception, ? extends ResultLong> func) {
+        return func.apply(error);
+    }
+
+    @Override
+    public long mapOr(long defaultValue, LongUnaryOperator func) {
+        return defaultValue;
+    }
+
+    @Override
+    public <R> R matches(
+        LongFunction<? extends R> ok,
+        Function<? super Exception, ? extends R> err
+    ) {
+        return Objects.requireNonNull(err.apply(error));
+    }
+
+    @Override
+    public ResultLong and(ResultLong other) {
+        return this;
+    }
+
+    @Override
+    public ResultLong or(ResultLong other) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.OR);
+        }
+        return other;
+    }
+
+    @Override
+    public ResultLong ifOk(LongConsumer onOk) {
+        return this;
+    }
+
+    @Override
+    public ResultLong ifErr(Consumer<? super Exception> onErr) {
+        onErr.accept(error);
+        return this;
+    }
+
+    @Override
+    public OptionLong okToOption() {
+        return OptionLong.none();
+    }
+
+    @Override
+    public Option<Exception> errToOption() {
+        return Option.some(error);
+    }
+
+    @Override
+    public Result<Long> boxed() {
+        return Err.uncounted(error);
+    }
+
+    @Override
+    public LongStream stream() {
+        return LongStream.empty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ErrLong
+            && ((ErrLong) other).error.equals(error);
+    }
+
+    @Override
+    public int hashCode() {
+        return 5 * error.hashCode();
+    }
+}
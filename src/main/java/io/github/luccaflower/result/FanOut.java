@@ -0,0 +1,244 @@
+package io.github.luccaflower.result;
+
+import java.lang.reflect.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * <p>
+ *     Runs a group of Result-returning tasks concurrently and combines them the
+ *     way {@link Result#andCollector()} does: Ok with every value in the order of
+ *     the tasks, or the first Error to arrive. As soon as one task fails, or the
+ *     deadline passes, the remaining tasks are interrupted and the call returns
+ *     without waiting for them, so the whole group takes about as long as its
+ *     slowest task rather than the sum of all of them.
+ * </p>
+ * <p>
+ *     Each task runs on a virtual thread when the runtime provides them (Java 21
+ *     and later), and on a platform daemon thread otherwise. Without virtual
+ *     threads, a FanOut without a {@link #limit(int)} runs at most
+ *     {@link #MAX_PLATFORM_THREADS} tasks at the same time and queues the rest.
+ *     A FanOut is immutable and can be shared:
+ * </p>
+ * <pre>{@code
+ * FanOut fanOut = FanOut.unbounded().limit(16).timeout(Duration.ofSeconds(2));
+ * Result<List<Price>> prices = fanOut.run(List.of(() -> shopA(), () -> shopB()));
+ * }</pre>
+ */
+@SuppressWarnings("unused")
+public final class FanOut {
+    /**
+     * The most platform threads an unlimited FanOut starts for one group when
+     * virtual threads are not available.
+     */
+    public static final int MAX_PLATFORM_THREADS = 256;
+
+    private static final Method VIRTUAL_EXECUTOR = lookupVirtualExecutor();
+    private static final FanOut UNBOUNDED = new FanOut(0, null, null);
+
+    private final int limit;
+    private final Duration timeout;
+    private final Instant deadline;
+
+    private FanOut(int limit, Duration timeout, Instant deadline) {
+        this.limit = limit;
+        this.timeout = timeout;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Runs every task at once, without a time limit. Without virtual threads,
+     * at most {@link #MAX_PLATFORM_THREADS} tasks run at once.
+     */
+    public static FanOut unbounded() {
+        return UNBOUNDED;
+    }
+
+    /**
+     * Returns true if tasks run on virtual threads in this runtime.
+     */
+    public static boolean usesVirtualThreads() {
+        return VIRTUAL_EXECUTOR != null;
+    }
+
+    /**
+     * Runs at most the given number of tasks at the same time.
+     */
+    public FanOut limit(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Concurrency limit must be positive: " + maxConcurrency);
+        }
+        return new FanOut(maxConcurrency, timeout, deadline);
+    }
+
+    /**
+     * Gives up with an Error containing a {@link TimeoutException} if the group
+     * has not finished within the given time of starting a run.
+     */
+    public FanOut timeout(Duration timeout) {
+        return new FanOut(limit, Objects.requireNonNull(timeout), deadline);
+    }
+
+    /**
+     * Gives up with an Error containing a {@link TimeoutException} if the group
+     * has not finished by the given instant.
+     */
+    public FanOut deadline(Instant deadline) {
+        return new FanOut(limit, timeout, Objects.requireNonNull(deadline));
+    }
+
+    /**
+     * <p>
+     *     Runs the tasks and waits for the outcome. A task that throws counts as
+     *     an Error containing the exception. If the calling thread is interrupted,
+     *     the tasks are interrupted, the interrupt flag is restored and an Error
+     *     containing the {@link InterruptedException} is returned.
+     * </p>
+     */
+    public <T> Result<List<T>> run(Collection<? extends Supplier<? extends Result<T>>> tasks) {
+        if (tasks.isEmpty()) {
+            return Result.ok(new ArrayList<>());
+        }
+        long start = System.nanoTime();
+        long budget = budgetNanos();
+        ExecutorService executor = executorFor(tasks.size());
+        Semaphore permits = limit > 0 && VIRTUAL_EXECUTOR != null ? new Semaphore(limit) : null;
+        try {
+            CompletionService<Outcome<T>> completions = new ExecutorCompletionService<>(executor);
+            int index = 0;
+            for (Supplier<? extends Result<T>> task : tasks) {
+                int slot = index++;
+                completions.submit(() -> call(slot, task, permits));
+            }
+            Object[] values = new Object[tasks.size()];
+            for (int i = 0; i < values.length; i++) {
+                Outcome<T> outcome = next(completions, start, budget);
+                if (outcome.result.isErr()) {
+                    return Traversals.propagate(outcome.result);
+                }
+                values[outcome.index] = outcome.result.unwrap();
+            }
+            return Result.ok(listOf(values));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.err(e);
+        } catch (TimeoutException e) {
+            return Result.err(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <T> Outcome<T> call(
+        int index,
+        Supplier<? extends Result<T>> task,
+        Semaphore permits
+    ) throws InterruptedException {
+        if (permits != null) {
+            permits.acquire();
+        }
+        try {
+            return new Outcome<>(index, Objects.requireNonNull(task.get()));
+        } finally {
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+
+    private static <T> Outcome<T> next(
+        CompletionService<Outcome<T>> completions,
+        long start,
+        long budget
+    ) throws InterruptedException, TimeoutException {
+        Future<Outcome<T>> future;
+        if (budget == Long.MAX_VALUE) {
+            future = completions.take();
+        } else {
+            long elapsed = System.nanoTime() - start;
+            future = completions.poll(budget - elapsed, TimeUnit.NANOSECONDS);
+            if (future == null) {
+                throw new TimeoutException("Fan-out did not finish before its deadline");
+            }
+        }
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                return new Outcome<>(-1, Result.err((Exception) cause));
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private long budgetNanos() {
+        long budget = Long.MAX_VALUE;
+        if (timeout != null) {
+            budget = nanos(timeout);
+        }
+        if (deadline != null) {
+            budget = Math.min(budget, nanos(Duration.between(Instant.now(), deadline)));
+        }
+        return budget;
+    }
+
+    private static long nanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            // Hundreds of years either way: treat as unbounded, or as already passed
+            return duration.isNegative() ? 0 : Long.MAX_VALUE;
+        }
+    }
+
+    private ExecutorService executorFor(int tasks) {
+        if (VIRTUAL_EXECUTOR != null) {
+            try {
+                return (ExecutorService) VIRTUAL_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        int threads = Math.min(limit > 0 ? limit : MAX_PLATFORM_THREADS, tasks);
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "union-fan-out");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static Method lookupVirtualExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            ((ExecutorService) factory.invoke(null)).shutdown();
+            return factory;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Not available, or still a preview feature in this runtime
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> listOf(Object[] values) {
+        List<T> list = new ArrayList<>(values.length);
+        for (Object value : values) {
+            list.add((T) value);
+        }
+        return list;
+    }
+
+    private static final class Outcome<T> {
+        private final int index;
+        private final Result<T> result;
+
+        Outcome(int index, Result<T> result) {
+            this.index = index;
+            this.result = result;
+        }
+    }
+}
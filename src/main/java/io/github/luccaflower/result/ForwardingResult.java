@@ -1,6 +1,9 @@
 package io.github.luccaflower.result;
 
+import io.github.luccaflower.option.*;
+
 import java.util.function.*;
+import java.util.stream.*;
 
 /**
  * ForwardingResult is a utility interface that functions as a wrapper around any given {@link Result}
@@ -33,4 +36,104 @@ public interface ForwardingResult<T> extends Result<T> {
     ) {
         return inner().flatMap(func);
     }
+
+    @Override
+    default Stream<T> stream() {
+        return inner().stream();
+    }
+
+    @Override
+    default T unwrapOr(T defaultValue) {
+        return inner().unwrapOr(defaultValue);
+    }
+
+    @Override
+    default T unwrapOrElse(Supplier<? extends T> defaultFunc) {
+        return inner().unwrapOrElse(defaultFunc);
+    }
+
+    @Override
+    default T expect(String reason) {
+        return inner().expect(reason);
+    }
+
+    @Override
+    default Exception expectErr(String message) {
+        return inner().expectErr(message);
+    }
+
+    @Override
+    default boolean isOk() {
+        return inner().isOk();
+    }
+
+    @Override
+    default boolean isOkAnd(Predicate<? super T> p) {
+        return inner().isOkAnd(p);
+    }
+
+    @Override
+    default boolean isErr() {
+        return inner().isErr();
+    }
+
+    @Override
+    default boolean isErrAnd(Predicate<? super Exception> p) {
+        return inner().isErrAnd(p);
+    }
+
+    @Override
+    default Option<T> okToOption() {
+        return inner().okToOption();
+    }
+
+    @Override
+    default Option<Exception> errToOption() {
+        return inner().errToOption();
+    }
+
+    @Override
+    default <R> Result<R> map(Function<? super T, ? extends R> func) {
+        return inner().map(func);
+    }
+
+    @Override
+    default Result<T> mapErr(
+        Function<? super Exception, ? extends Exception> func
+    ) {
+        return inner().mapErr(func);
+    }
+
+    @Override
+    default <R> R mapOr(R defaultValue, Function<? super T, ? extends R> func) {
+        return inner().mapOr(defaultValue, func);
+    }
+
+    @Override
+    default <R> Result<R> and(Result<R> other) {
+        return inner().and(other);
+    }
+
+    @Override
+    default Result<T> or(Result<T> res) {
+        return inner().or(res);
+    }
+
+    @Override
+    default boolean contains(T candidate) {
+        return inner().contains(candidate);
+    }
+
+    @Override
+    default boolean containsErr(Exception candidate) {
+        return inner().containsErr(candidate);
+    }
+
+    @Override
+    default <R> R matches(
+        Function<? super T, ? extends R> ok,
+        Function<? super Exception, ? extends R> err
+    ) {
+        return inner().matches(ok, err);
+    }
 }
@@ -0,0 +1,154 @@
+package io.github.luccaflower.result;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * <p>
+ *     A Result that is computed from a supplier the first time it is observed,
+ *     for instance by {@link #unwrap()}, {@link #isOk()} or {@link #matches(Function, Function)}.
+ *     The supplier is called at most once, even when the Result is observed from
+ *     several threads at the same time, and is released afterwards.
+ * </p>
+ * <p>
+ *     The steps of a chain are fused: each combinator on an unevaluated
+ *     LazyResult appends its step to a single function over the Result the chain
+ *     started from, rather than wrapping the previous LazyResult. Intermediate
+ *     links are never evaluated or memoized. A LazyResult equals the Result it
+ *     evaluates to.
+ * </p>
+ * <p>
+ *     Combinators that return a Result, such as {@code map}, {@code flatMap} and
+ *     {@code or}, return a new LazyResult without evaluating anything, so a chain
+ *     of them only runs when its end is observed, and an unused fallback branch
+ *     costs nothing:
+ * </p>
+ * <pre>{@code
+ * Result<Config> config = fromFile().or(Result.lazy(() -> fromNetwork()));
+ * }</pre>
+ */
+@SuppressWarnings("unused")
+public final class LazyResult<T> implements ForwardingResult<T> {
+    private Supplier<? extends Result<T>> supplier;
+    private LazyResult<?> source;
+    private Function<Result<?>, ? extends Result<T>> steps;
+    private volatile Result<T> value;
+
+    private LazyResult(
+        Supplier<? extends Result<T>> supplier,
+        LazyResult<?> source,
+        Function<Result<?>, ? extends Result<T>> steps
+    ) {
+        this.supplier = supplier;
+        this.source = source;
+        this.steps = steps;
+    }
+
+    /**
+     * Defers the supplier until the Result is first observed.
+     */
+    public static <T> LazyResult<T> of(Supplier<? extends Result<T>> supplier) {
+        return new LazyResult<>(Objects.requireNonNull(supplier), null, null);
+    }
+
+    /**
+     * Returns true if the Result has already been evaluated.
+     */
+    public boolean isEvaluated() {
+        return value != null;
+    }
+
+    @Override
+    public Result<T> inner() {
+        Result<T> result = value;
+        if (result == null) {
+            synchronized (this) {
+                result = value;
+                if (result == null) {
+                    result = Objects.requireNonNull(
+                        supplier != null ? supplier.get() : steps.apply(source.inner())
+                    );
+                    value = result;
+                    supplier = null;
+                    source = null;
+                    steps = null;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Appends a step to the pending ones instead of wrapping this LazyResult, so
+     * that a chain of combinators runs as one function over the Result it
+     * started from, with no intermediate LazyResult being evaluated or memoized.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <R> LazyResult<R> then(Function<Result<T>, ? extends Result<R>> step) {
+        synchronized (this) {
+            if (value == null && source != null) {
+                return new LazyResult<>(null, source, steps.andThen(step));
+            }
+        }
+        return new LazyResult<>(null, this, (Function) step);
+    }
+
+    @Override
+    public <R> Result<R> flatMap(Function<? super T, ? extends Result<R>> func) {
+        return then(r -> r.flatMap(func));
+    }
+
+    @Override
+    public Result<T> flatMapErr(Function<? super Exception, ? extends Result<T>> func) {
+        return then(r -> r.flatMapErr(func));
+    }
+
+    @Override
+    public <R> Result<R> map(Function<? super T, ? extends R> func) {
+        return then(r -> r.map(func));
+    }
+
+    @Override
+    public Result<T> mapErr(Function<? super Exception, ? extends Exception> func) {
+        return then(r -> r.mapErr(func));
+    }
+
+    @Override
+    public <R> Result<R> and(Result<R> other) {
+        return then(r -> r.and(other));
+    }
+
+    @Override
+    public Result<T> or(Result<T> res) {
+        return then(r -> r.or(res));
+    }
+
+    @Override
+    public Result<T> ifOk(Consumer<? super T> onOk) {
+        return then(r -> r.ifOk(onOk));
+    }
+
+    @Override
+    public Result<T> ifErr(Consumer<? super Exception> onErr) {
+        return then(r -> r.ifErr(onErr));
+    }
+
+    @Override
+    public <R> Result<R> flatten() {
+        return then(r -> r.flatten());
+    }
+
+    /**
+     * Evaluates both sides, so that a LazyResult equals the Result it evaluates to.
+     * Ok and Err evaluate a LazyResult they are compared to in the same way.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return inner().equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return inner().hashCode();
+    }
+}
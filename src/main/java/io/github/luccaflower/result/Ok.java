@@ -1,16 +1,44 @@
 package io.github.luccaflower.result;
 
 
+import io.github.luccaflower.jfr.*;
+import io.github.luccaflower.option.*;
+
+import java.io.*;
+import java.util.*;
 import java.util.function.*;
+import java.util.stream.*;
 
 @SuppressWarnings("unused")
-public class Ok<T> implements Result<T>{
+public class Ok<T> implements Result<T>, Serializable {
+    private static final long serialVersionUID = 1L;
+
     private final T value;
 
     protected Ok(T value) {
         this.value = value;
     }
 
+    /**
+     * Returns a shared instance for Unit, booleans and small integers, and a
+     * new instance for anything else.
+     * @see ValueCache
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Ok<T> of(T value) {
+        Ok<?> cached = Cache.lookup(value);
+        return cached != null ? (Ok<T>) cached : new Ok<>(value);
+    }
+
+    /**
+     * Returns the contained value. Unlike {@link #unwrap()} this is only
+     * available on the Ok-variant, which makes it the accessor to use after
+     * a type pattern, e.g. {@code case Ok<T> ok -> ok.value()}.
+     */
+    public T value() {
+        return value;
+    }
+
     @Override
     public T unwrap() {
         return value;
@@ -20,31 +48,193 @@ public class Ok<T> implements Result<T>{
     public <R> Result<R> flatMap(
         Function<? super T, ? extends Result<R>> func
     ) {
-        return func.apply(value);
+        return UnionEvents.ENABLED ? UnionEvents.apply("flatMap", func, value) : func.apply(value);
     }
 
     @Override
     public Result<T> flatMapErr(
         Function<? super Exception, ? extends Result<T>> func) {
-        return Result.ok(value);
+        return this;
     }
 
     @Override
     public Exception unwrapErr() {
-        throw new UnwrappedOkExpectingError();
+        throw UnwrappedOkExpectingError.create();
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return Stream.of(value);
+    }
+
+    @Override
+    public T unwrapOr(T defaultValue) {
+        Objects.requireNonNull(defaultValue);
+        return value;
+    }
+
+    @Override
+    public T unwrapOrElse(Supplier<? extends T> defaultFunc) {
+        return value;
+    }
+
+    @Override
+    public T expect(String reason) {
+        return value;
+    }
+
+    @Override
+    public Exception expectErr(String message) {
+        throw new UnwrappedOkExpectingError(message);
+    }
+
+    @Override
+    public Result<T> ifOk(Consumer<? super T> onOk) {
+        onOk.accept(value);
+        return this;
+    }
+
+    @Override
+    public Result<T> ifErr(Consumer<? super Exception> onErr) {
+        return this;
+    }
+
+    @Override
+    public boolean isOk() {
+        return true;
+    }
+
+    @Override
+    public boolean isOkAnd(Predicate<? super T> p) {
+        return p.test(value);
+    }
+
+    @Override
+    public boolean isErr() {
+        return false;
+    }
+
+    @Override
+    public boolean isErrAnd(Predicate<? super Exception> p) {
+        return false;
+    }
+
+    @Override
+    public Option<T> okToOption() {
+        return Option.some(value);
+    }
+
+    @Override
+    public Option<Exception> errToOption() {
+        return Option.none();
+    }
+
+    @Override
+    public <R> Result<R> map(Function<? super T, ? extends R> func) {
+        return Result.ok(UnionEvents.ENABLED ? UnionEvents.apply("map", func, value) : func.apply(value));
+    }
+
+    @Override
+    public Result<T> mapErr(
+        Function<? super Exception, ? extends Exception> func
+    ) {
+        return this;
+    }
+
+    @Override
+    public <R> R mapOr(R defaultValue, Function<? super T, ? extends R> func) {
+        Objects.requireNonNull(defaultValue);
+        return Objects.requireNonNull(func.apply(value));
+    }
+
+    @Override
+    public <R> R mapOrElse(
+        Function<? super Exception, ? extends R> onErr,
+        Function<? super T, ? extends R> onOk
+    ) {
+        return Objects.requireNonNull(onOk.apply(value));
+    }
+
+    @Override
+    public <R> Result<R> and(Result<R> other) {
+        return other;
+    }
+
+    @Override
+    public Result<T> or(Result<T> res) {
+        return this;
     }
+
+    @Override
+    public boolean contains(T candidate) {
+        return value.equals(candidate);
+    }
+
     @Override
     public boolean containsErr(Exception candidate) {
         return false;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> Result<R> flatten() {
+        return value instanceof Result<?>
+            ? ((Result<R>) value).flatten()
+            : (Result<R>) this;
+    }
+
+    @Override
+    public <R> R matches(
+        Function<? super T, ? extends R> ok,
+        Function<? super Exception, ? extends R> err
+    ) {
+        return Objects.requireNonNull(UnionEvents.ENABLED ? UnionEvents.apply("matches", ok, value) : ok.apply(value));
+    }
+
     @Override
     public boolean equals(Object other) {
-        return other instanceof Ok
-            && ((Ok<?>) other).value.equals(this.value);
+        Object result = other instanceof LazyResult<?> ? ((LazyResult<?>) other).inner() : other;
+        return result instanceof Ok
+            && ((Ok<?>) result).value.equals(this.value);
     }
 
     public int hashCode() {
         return 13 * value.hashCode();
     }
+
+    /**
+     * Restores sharing of the cached instances on deserialization, and rejects
+     * a stream without a value.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        if (value == null) {
+            throw new InvalidObjectException("Ok without a value");
+        }
+        return of(value);
+    }
+
+    private static final class Cache {
+        private static final Ok<Unit> UNIT = new Ok<>(Unit.unit());
+        private static final Ok<Boolean> TRUE = new Ok<>(true);
+        private static final Ok<Boolean> FALSE = new Ok<>(false);
+        private static final Ok<?>[] INTEGERS = new Ok<?>[ValueCache.size()];
+
+        static {
+            for (int i = 0; i < INTEGERS.length; i++) {
+                INTEGERS[i] = new Ok<>(ValueCache.low() + i);
+            }
+        }
+
+        static Ok<?> lookup(Object value) {
+            if (value instanceof Integer) {
+                int index = ValueCache.indexOf((Integer) value);
+                return index < 0 ? null : INTEGERS[index];
+            } else if (value instanceof Boolean) {
+                return (Boolean) value ? TRUE : FALSE;
+            } else if (value == Unit.unit()) {
+                return UNIT;
+            }
+            return null;
+        }
+    }
 }
@@ -0,0 +1,171 @@
+package io.github.luccaflower.result;
+
+import io.github.luccaflower.option.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+@SuppressWarnings("unused")
+public class OkDouble implements ResultDouble {
+    private final double value;
+
+    protected OkDouble(double value) {
+        this.value = value;
+    }
+
+    @Override
+    public double unwrap() {
+        return value;
+    }
+
+    @Override
+    public Exception unwrapErr() {
+        throw UnwrappedOkExpectingError.create();
+    }
+
+    @Override
+    public double unwrapOr(double defaultValue) {
+        return value;
+    }
+
+    @Override
+    public double unwrapOrElse(DoubleSupplier defaultFunc) {
+        return value;
+    }
+
+    @Override
+    public double expect(String reason) {
+        return value;
+    }
+
+    @Override
+    public Exception expectErr(String message) {
+        throw new UnwrappedOkExpectingError(message);
+    }
+
+    @Override
+    public boolean isOk() {
+        return true;
+    }
+
+    @Override
+    public boolean isErr() {
+        return false;
+    }
+
+    @Override
+    public boolean isOkAnd(DoublePredicate p) {
+        return p.test(value);
+    }
+
+    @Override
+    public boolean isErrAnd(Predicate<? super Exception> p) {
+        return false;
+    }
+
+    @Override
+    public boolean contains(double candidate) {
+        return Double.compare(value, candidate) == 0;
+    }
+
+    @Override
+    public ResultDouble map(DoubleUnaryOperator func) {
+        return new OkDouble(func.applyAsDouble(value));
+    }
+
+    @Override
+    public <R> Result<R> mapToObj(DoubleFunction<? extends R> func) {
+        return Result.ok(func.apply(value));
+    }
+
+    @Override
+    public ResultInt mapToInt(DoubleToIntFunction func) {
+        return ResultInt.ok(func.applyAsInt(value));
+    }
+
+    @Override
+    public ResultLong mapToLong(DoubleToLongFunction func) {
+        return ResultLong.ok(func.applyAsLong(value));
+    }
+
+    @Override
+    public ResultDouble flatMap(DoubleFunction<? extends ResultDouble> func) {
+        return func.apply(value);
+    }
+
+    @Override
+    public ResultDouble mapErr(Function<? super Exception, ? extends Exception> func) {
+        return this;
+    }
+
+    @Override
+    public ResultDouble flatMapErr(Function<? super Exception, ? extends ResultDouble> func) {
+        return this;
+    }
+
+    @Override
+    public double mapOr(double defaultValue, DoubleUnaryOperator func) {
+        return func.applyAsDouble(value);
+    }
+
+    @Override
+    public <R> R matches(
+        DoubleFunction<? extends R> ok,
+        Function<? super Exception, ? extends R> err
+    ) {
+        return Objects.requireNonNull(ok.apply(value));
+    }
+
+    @Override
+    public ResultDouble and(ResultDouble other) {
+        return other;
+    }
+
+    @Override
+    public ResultDouble or(ResultDouble other) {
+        return this;
+    }
+
+    @Override
+    public ResultDouble ifOk(DoubleConsumer onOk) {
+        onOk.accept(value);
+        return this;
+    }
+
+    @Override
+    public ResultDouble ifErr(Consumer<? super Exception> onErr) {
+        return this;
+    }
+
+    @Override
+    public OptionDouble okToOption() {
+        return OptionDouble.some(value);
+    }
+
+    @Override
+    public Option<Exception> errToOption() {
+        return Option.none();
+    }
+
+    @Override
+    public Result<Double> boxed() {
+        return Result.ok(value);
+    }
+
+    @Override
+    public DoubleStream stream() {
+        return DoubleStream.of(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof OkDouble
+            && Double.compare(((OkDouble) other).value, value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 13 * Double.hashCode(value);
+    }
+}
@@ -0,0 +1,171 @@
+package io.github.luccaflower.result;
+
+import io.github.luccaflower.option.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+@SuppressWarnings("unused")
+public class OkInt implements ResultInt {
+    private final int value;
+
+    protected OkInt(int value) {
+        this.value = value;
+    }
+
+    @Override
+    public int unwrap() {
+        return value;
+    }
+
+    @Override
+    public Exception unwrapErr() {
+        throw UnwrappedOkExpectingError.create();
+    }
+
+    @Override
+    public int unwrapOr(int defaultValue) {
+        return value;
+    }
+
+    @Override
+    public int unwrapOrElse(IntSupplier defaultFunc) {
+        return value;
+    }
+
+    @Override
+    public int expect(String reason) {
+        return value;
+    }
+
+    @Override
+    public Exception expectErr(String message) {
+        throw new UnwrappedOkExpectingError(message);
+    }
+
+    @Override
+    public boolean isOk() {
+        return true;
+    }
+
+    @Override
+    public boolean isErr() {
+        return false;
+    }
+
+    @Override
+    public boolean isOkAnd(IntPredicate p) {
+        return p.test(value);
+    }
+
+    @Override
+    public boolean isErrAnd(Predicate<? super Exception> p) {
+        return false;
+    }
+
+    @Override
+    public boolean contains(int candidate) {
+        return Integer.compare(value, candidate) == 0;
+    }
+
+    @Override
+    public ResultInt map(IntUnaryOperator func) {
+        return new OkInt(func.applyAsInt(value));
+    }
+
+    @Override
+    public <R> Result<R> mapToObj(IntFunction<? extends R> func) {
+        return Result.ok(func.apply(value));
+    }
+
+    @Override
+    public ResultLong mapToLong(IntToLongFunction func) {
+        return ResultLong.ok(func.applyAsLong(value));
+    }
+
+    @Override
+    public ResultDouble mapToDouble(IntToDoubleFunction func) {
+        return ResultDouble.ok(func.applyAsDouble(value));
+    }
+
+    @Override
+    public ResultInt flatMap(IntFunction<? extends ResultInt> func) {
+        return func.apply(value);
+    }
+
+    @Override
+    public ResultInt mapErr(Function<? super Exception, ? extends Exception> func) {
+        return this;
+    }
+
+    @Override
+    public ResultInt flatMapErr(Function<? super Exception, ? extends ResultInt> func) {
+        return this;
+    }
+
+    @Override
+    public int mapOr(int defaultValue, IntUnaryOperator func) {
+        return func.applyAsInt(value);
+    }
+
+    @Override
+    public <R> R matches(
+        IntFunction<? extends R> ok,
+        Function<? super Exception, ? extends R> err
+    ) {
+        return Objects.requireNonNull(ok.apply(value));
+    }
+
+    @Override
+    public ResultInt and(ResultInt other) {
+        return other;
+    }
+
+    @Override
+    public ResultInt or(ResultInt other) {
+        return this;
+    }
+
+    @Override
+    public ResultInt ifOk(IntConsumer onOk) {
+        onOk.accept(value);
+        return this;
+    }
+
+    @Override
+    public ResultInt ifErr(Consumer<? super Exception> onErr) {
+        return this;
+    }
+
+    @Override
+    public OptionInt okToOption() {
+        return OptionInt.some(value);
+    }
+
+    @Override
+    public Option<Exception> errToOption() {
+        return Option.none();
+    }
+
+    @Override
+    public Result<Integer> boxed() {
+        return Result.ok(value);
+    }
+
+    @Override
+    public IntStream stream() {
+        return IntStream.of(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof OkInt
+            && Integer.compare(((OkInt) other).value, value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 13 * Integer.hashCode(value);
+    }
+}
@@ -0,0 +1,171 @@
+package io.github.luccaflower.result;
+
+import io.github.luccaflower.option.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+@SuppressWarnings("unused")
+public class OkLong implements ResultLong {
+    private final long value;
+
+    protected OkLong(long value) {
+        this.value = value;
+    }
+
+    @Override
+    public long unwrap() {
+        return value;
+    }
+
+    @Override
+    public Exception unwrapErr() {
+        throw UnwrappedOkExpectingError.create();
+    }
+
+    @Override
+    public long unwrapOr(long defaultValue) {
+        return value;
+    }
+
+    @Override
+    public long unwrapOrElse(LongSupplier defaultFunc) {
+        return value;
+    }
+
+    @Override
+    public long expect(String reason) {
+        return value;
+    }
+
+    @Override
+    public Exception expectErr(String message) {
+        throw new UnwrappedOkExpectingError(message);
+    }
+
+    @Override
+    public boolean isOk() {
+        return true;
+    }
+
+    @Override
+    public boolean isErr() {
+        return false;
+    }
+
+    @Override
+    public boolean isOkAnd(LongPredicate p) {
+        return p.test(value);
+    }
+
+    @Override
+    public boolean isErrAnd(Predicate<? super Exception> p) {
+        return false;
+    }
+
+    @Override
+    public boolean contains(long candidate) {
+        return Long.compare(value, candidate) == 0;
+    }
+
+    @Override
+    public ResultLong map(LongUnaryOperator func) {
+        return new OkLong(func.applyAsLong(value));
+    }
+
+    @Override
+    public <R> Result<R> mapToObj(LongFunction<? extends R> func) {
+        return Result.ok(func.apply(value));
+    }
+
+    @Override
+    public ResultInt mapToInt(LongToIntFunction func) {
+        return ResultInt.ok(func.applyAsInt(value));
+    }
+
+    @Override
+    public ResultDouble mapToDouble(LongToDoubleFunction func) {
+        return ResultDouble.ok(func.applyAsDouble(value));
+    }
+
+    @Override
+    public ResultLong flatMap(LongFunction<? extends ResultLong> func) {
+        return func.apply(value);
+    }
+
+    @Override
+    public ResultLong mapErr(Function<? super Exception, ? extends Exception> func) {
+        return this;
+    }
+
+    @Override
+    public ResultLong flatMapErr(Function<? super Exception, ? extends ResultLong> func) {
+        return this;
+    }
+
+    @Override
+    public long mapOr(long defaultValue, LongUnaryOperator func) {
+        return func.applyAsLong(value);
+    }
+
+    @Override
+    public <R> R matches(
+        LongFunction<? extends R> ok,
+        Function<? super Exception, ? extends R> err
+    ) {
+        return Objects.requireNonNull(ok.apply(value));
+    }
+
+    @Override
+    public ResultLong and(ResultLong other) {
+        return other;
+    }
+
+    @Override
+    public ResultLong or(ResultLong other) {
+        return this;
+    }
+
+    @Override
+    public ResultLong ifOk(LongConsumer onOk) {
+        onOk.accept(value);
+        return this;
+    }
+
+    @Override
+    public ResultLong ifErr(Consumer<? super Exception> onErr) {
+        return this;
+    }
+
+    @Override
+    public OptionLong okToOption() {
+        return OptionLong.some(value);
+    }
+
+    @Override
+    public Option<Exception> errToOption() {
+        return Option.none();
+    }
+
+    @Override
+    public Result<Long> boxed() {
+        return Result.ok(value);
+    }
+
+    @Override
+    public LongStream stream() {
+        return LongStream.of(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof OkLong
+            && Long.compare(((OkLong) other).value, value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 13 * Long.hashCode(value);
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.luccaflower.result;
+
+import java.util.*;
+
+/**
+ * The two halves of a batch of Results split by variant: an aggregate of the
+ * Ok values and an aggregate of the Errors. For a batch of Options, the
+ * second half is the number of Nones.
+ * @see Result#partitioningCollector(java.util.stream.Collector, java.util.stream.Collector)
+ */
+@SuppressWarnings("unused")
+public final class Partition<A, B> {
+    private final A oks;
+    private final B errs;
+
+    private Partition(A oks, B errs) {
+        this.oks = oks;
+        this.errs = errs;
+    }
+
+    public static <A, B> Partition<A, B> of(A oks, B errs) {
+        return new Partition<>(oks, errs);
+    }
+
+    /**
+     * Returns the aggregate of the Ok values.
+     */
+    public A oks() {
+        return oks;
+    }
+
+    /**
+     * Returns the aggregate of the Errors.
+     */
+    public B errs() {
+        return errs;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof Partition<?, ?>)) {
+            return false;
+        }
+        Partition<?, ?> that = (Partition<?, ?>) other;
+        return Objects.equals(oks, that.oks) && Objects.equals(errs, that.errs);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(oks) + Objects.hashCode(errs);
+    }
+
+    @Override
+    public String toString() {
+        return "Partition[oks=" + oks + ", errs=" + errs + "]";
+    }
+}
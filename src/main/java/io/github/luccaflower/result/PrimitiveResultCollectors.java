@@ -0,0 +1,144 @@
+package io.github.luccaflower.result;
+
+import java.util.stream.*;
+
+/**
+ * Collectors for the primitive-specialized Results. Values are accumulated into
+ * primitive stream builders, so they are never boxed. Once an Error has been
+ * seen the accumulated values are discarded.
+ */
+final class PrimitiveResultCollectors {
+    private PrimitiveResultCollectors() {}
+
+    static Collector<ResultInt, ?, Result<int[]>> andInt() {
+        return Collector.of(
+            IntAccumulator::new,
+            IntAccumulator::add,
+            IntAccumulator::combine,
+            IntAccumulator::finish
+        );
+    }
+
+    private static final class IntAccumulator {
+        private IntStream.Builder values = IntStream.builder();
+        private Exception error;
+
+        void add(ResultInt result) {
+            if (error != null) {
+                return;
+            }
+            if (result.isOk()) {
+                values.add(result.unwrap());
+            } else {
+                error = result.unwrapErr();
+                values = null;
+            }
+        }
+
+        IntAccumulator combine(IntAccumulator other) {
+            if (error == null) {
+                if (other.error != null) {
+                    error = other.error;
+                    values = null;
+                } else {
+                    other.values.build().forEach(values);
+                }
+            }
+            return this;
+        }
+
+        Result<int[]> finish() {
+            return error != null
+                ? Err.uncounted(error)
+                : Result.ok(values.build().toArray());
+        }
+    }
+
+    static Collector<ResultLong, ?, Result<long[]>> andLong() {
+        return Collector.of(
+            LongAccumulator::new,
+            LongAccumulator::add,
+            LongAccumulator::combine,
+            LongAccumulator::finish
+        );
+    }
+
+    private static final class LongAccumulator {
+        private LongStream.Builder values = LongStream.builder();
+        private Exception error;
+
+        void add(ResultLong result) {
+            if (error != null) {
+                return;
+            }
+            if (result.isOk()) {
+                values.add(result.unwrap());
+            } else {
+                error = result.unwrapErr();
+                values = null;
+            }
+        }
+
+        LongAccumulator combine(LongAccumulator other) {
+            if (error == null) {
+                if (other.error != null) {
+                    error = other.error;
+                    values = null;
+                } else {
+                    other.values.build().forEach(values);
+                }
+            }
+            return this;
+        }
+
+        Result<long[]> finish() {
+            return error != null
+                ? Err.uncounted(error)
+                : Result.ok(values.build().toArray());
+        }
+    }
+
+    static Collector<ResultDouble, ?, Result<double[]>> andDouble() {
+        return Collector.of(
+            DoubleAccumulator::new,
+            DoubleAccumulator::add,
+            DoubleAccumulator::combine,
+            DoubleAccumulator::finish
+        );
+    }
+
+    private static final class DoubleAccumulator {
+        private DoubleStream.Builder values = DoubleStream.builder();
+        private Exception error;
+
+        void add(ResultDouble result) {
+            if (error != null) {
+                return;
+            }
+            if (result.isOk()) {
+                values.add(result.unwrap());
+            } else {
+                error = result.unwrapErr();
+                values = null;
+            }
+        }
+
+        DoubleAccumulator combine(DoubleAccumulator other) {
+            if (error == null) {
+                if (other.error != null) {
+                    error = other.error;
+                    values = null;
+                } else {
+                    other.values.build().forEach(values);
+                }
+            }
+            return this;
+        }
+
+        Result<double[]> finish() {
+            return error != null
+                ? Err.uncounted(error)
+                : Result.ok(values.build().toArray());
+        }
+    }
+}
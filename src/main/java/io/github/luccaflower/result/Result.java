@@ -1,6 +1,7 @@
 package io.github.luccaflower.result;
 
 import io.github.luccaflower.option.*;
+import io.github.luccaflower.trace.*;
 
 import java.util.*;
 import java.util.function.*;
@@ -23,6 +24,18 @@ import static io.github.luccaflower.result.Unit.unit;
  *     Furthermore, the {@link ForwardingResult} interface is provided for easy implementation
  *     of wrapper-classes around Result-types.
  * </p>
+ * <p>
+ *     On Java 17 and later the multi-release jar seals this interface to {@link Ok},
+ *     {@link Err} and {@link ForwardingResult}, so it can be dispatched over with
+ *     an exhaustive switch instead of {@link #matches(Function, Function)}:
+ * </p>
+ * <pre>{@code
+ * String message = switch (result) {
+ *     case Ok<Integer> ok -> "got " + ok.value();
+ *     case Err<Integer> err -> "failed with " + err.error();
+ *     case ForwardingResult<Integer> forwarding -> describe(forwarding.inner());
+ * };
+ * }</pre>
  * @param <T> The object-type contained within the Ok-variant
  * @author Lucca Kaasgaard Christiansen
  */
@@ -30,11 +43,12 @@ import static io.github.luccaflower.result.Unit.unit;
 public interface Result<T> {
 
     /**
-     * Instantiate an Ok-variant containing the passed parameter.
+     * Instantiate an Ok-variant containing the passed parameter. Units, booleans
+     * and small integers are served from a cache of shared instances, see {@link ValueCache}.
      */
     static <T> Result<T> ok(T value) {
         Objects.requireNonNull(value);
-        return new Ok<>(value);
+        return Ok.of(value);
     }
 
     /**
@@ -58,7 +72,25 @@ public interface Result<T> {
      * Exception
      */
     static <T> Result<T> err() {
-        return err(new ResultException());
+        return err(ResultException.create());
+    }
+
+    /**
+     * Calls the supplier and returns an Ok containing its value, or an Error
+     * containing the Exception it throws. The Exception is not wrapped. If it
+     * is an {@link InterruptedException}, the interrupt flag of the current
+     * thread is set again. Use {@link Catching#only(Class[])} to turn only some
+     * Exception types into Errors and let the rest propagate.
+     */
+    static <T> Result<T> of(CheckedSupplier<? extends T> supplier) {
+        return Catching.all().of(supplier);
+    }
+
+    /**
+     * Defers the supplier until the Result is first observed, see {@link LazyResult}.
+     */
+    static <T> Result<T> lazy(Supplier<? extends Result<T>> supplier) {
+        return LazyResult.of(supplier);
     }
 
     /**
@@ -107,11 +139,7 @@ public interface Result<T> {
      */
     default T unwrapOr(T defaultValue) {
         Objects.requireNonNull(defaultValue);
-        try {
-            return unwrap();
-        } catch (UnwrappedErrorExpectingOk ignored) {
-            return defaultValue;
-        }
+        return isOk() ? unwrap() : defaultValue;
     }
     /**
      * Tries to extract the object contained within an Ok-variant, and returns the
@@ -119,11 +147,7 @@ public interface Result<T> {
      */
 
     default T unwrapOrElse(Supplier<? extends T> defaultFunc) {
-        try {
-            return unwrap();
-        } catch (UnwrappedErrorExpectingOk e) {
-            return defaultFunc.get();
-        }
+        return isOk() ? unwrap() : defaultFunc.get();
     }
 
     /**
@@ -132,11 +156,10 @@ public interface Result<T> {
      * called on an Error.
      */
     default T expect(String reason) {
-        try {
-            return unwrap();
-        } catch (UnwrappedErrorExpectingOk ignored) {
+        if (isErr()) {
             throw new UnwrappedErrorExpectingOk(reason, unwrapErr());
         }
+        return unwrap();
     }
     /**
      * Tries to extract the Exception contained within an Error-variant.
@@ -144,11 +167,10 @@ public interface Result<T> {
      * called on an Ok.
      */
     default Exception expectErr(String message) {
-        try {
-            return unwrapErr();
-        } catch (UnwrappedOkExpectingError ignored) {
+        if (isOk()) {
             throw new UnwrappedOkExpectingError(message);
         }
+        return unwrapErr();
     }
     /**
      * Passes the object contained within an Ok-variant to the passed function.
@@ -180,7 +202,8 @@ public interface Result<T> {
      */
     default boolean isOk() {
         return map(ok -> true)
-            .unwrapOr(false);
+            .flatMapErr(err -> ok(false))
+            .unwrap();
     }
 
     /**
@@ -197,9 +220,7 @@ public interface Result<T> {
      * Returns true on Error and false on Ok
      */
     default boolean isErr() {
-        return map(ok -> false)
-            .flatMapErr(err -> ok(true))
-            .unwrap();
+        return !isOk();
     }
 
     /**
@@ -240,6 +261,44 @@ public interface Result<T> {
         return flatMap(ok -> ok(func.apply(ok)));
     }
 
+    /**
+     * Like {@link #map(Function)}, for a function that throws checked
+     * Exceptions. Any Exception it throws becomes an Error, as with
+     * {@link #of(CheckedSupplier)}.
+     */
+    default <R> Result<R> mapChecked(CheckedFunction<? super T, ? extends R> func) {
+        return mapChecked(Catching.all(), func);
+    }
+
+    /**
+     * Like {@link #map(Function)}, for a function that throws checked
+     * Exceptions. The Exceptions expected by the {@link Catching} become
+     * Errors, and the rest propagate.
+     */
+    default <R> Result<R> mapChecked(Catching catching, CheckedFunction<? super T, ? extends R> func) {
+        return flatMap(ok -> catching.apply(func, ok));
+    }
+
+    /**
+     * Like {@link #flatMap(Function)}, for a function that throws checked
+     * Exceptions. Any Exception it throws becomes an Error.
+     */
+    default <R> Result<R> flatMapChecked(CheckedFunction<? super T, ? extends Result<R>> func) {
+        return flatMapChecked(Catching.all(), func);
+    }
+
+    /**
+     * Like {@link #flatMap(Function)}, for a function that throws checked
+     * Exceptions. The Exceptions expected by the {@link Catching} become
+     * Errors, and the rest propagate.
+     */
+    default <R> Result<R> flatMapChecked(
+        Catching catching,
+        CheckedFunction<? super T, ? extends Result<R>> func
+    ) {
+        return flatMap(ok -> catching.flatApply(func, ok));
+    }
+
     /**
      * Applies the function to the inner Exception and returns an Error containing the
      * result, if the called on Error. Does nothing on Ok.
@@ -325,108 +384,157 @@ public interface Result<T> {
     }
 
     /**
-     * Converts a {@code List<Result<T>} to a {@code Result<List<T>>}.
+     * Applies the function to every element of the source in order and returns
+     * an Ok containing the results, or the first Error. Unlike {@link #andCollector()}
+     * this stops consuming the source at the first Error. The output list is
+     * pre-sized when the source is a {@link Collection}.
+     */
+    static <A, B> Result<List<B>> traverse(
+        Iterable<? extends A> source,
+        Function<? super A, ? extends Result<B>> func
+    ) {
+        return Traversals.traverse(source.iterator(), Traversals.sizeOf(source), func);
+    }
+
+    /**
+     * Converts an {@code Iterable<Result<T>>} to a {@code Result<List<T>>},
+     * stopping at the first Error.
+     */
+    static <T> Result<List<T>> sequence(Iterable<? extends Result<T>> results) {
+        return Traversals.traverse(results.iterator(), Traversals.sizeOf(results), Function.identity());
+    }
+
+    /**
+     * Converts an {@code Iterator<Result<T>>} to a {@code Result<List<T>>},
+     * leaving the iterator positioned just after the first Error.
+     */
+    static <T> Result<List<T>> sequence(Iterator<? extends Result<T>> results) {
+        return Traversals.traverse(results, -1, Function.identity());
+    }
+
+    /**
+     * Converts a {@code Spliterator<Result<T>>} to a {@code Result<List<T>>},
+     * stopping at the first Error. The output list is pre-sized when the
+     * spliterator knows its exact size.
+     */
+    static <T> Result<List<T>> sequence(Spliterator<? extends Result<T>> results) {
+        return Traversals.traverse(
+            Spliterators.iterator(results),
+            results.getExactSizeIfKnown(),
+            Function.identity()
+        );
+    }
+
+    /**
+     * Folds the source into a single value, stopping at the first Error returned
+     * by the step function. No intermediate list is built.
+     */
+    static <A, R> Result<R> tryFold(
+        Iterable<? extends A> source,
+        R initial,
+        BiFunction<? super R, ? super A, ? extends Result<R>> step
+    ) {
+        return Traversals.tryFold(source.iterator(), initial, step);
+    }
+
+    /**
+     * Passes every element of the source to the action together with the
+     * caller-provided accumulator, stopping at the first Error. Returns an Ok
+     * containing the accumulator if every action succeeded.
+     */
+    static <A, C> Result<C> tryForEach(
+        Iterable<? extends A> source,
+        C accumulator,
+        BiFunction<? super C, ? super A, ? extends Result<?>> action
+    ) {
+        return Traversals.tryForEach(source.iterator(), accumulator, action);
+    }
+
+    /**
+     * Converts a {@code List<Result<T>>} to a {@code Result<List<T>>}.
      * If any Result contained within the List is an Error, it returns the first
-     * Error
-     */
-    static <T> Collector<Result<T>, List<Result<T>>, Result<List<T>>>
-    andCollector() {
-        return new Collector<>() {
-            @Override
-            public Supplier<List<Result<T>>> supplier() {
-                return ArrayList::new;
-            }
-
-            @Override
-            public BiConsumer<List<Result<T>>, Result<T>> accumulator() {
-                return List::add;
-            }
-
-            @Override
-            public BinaryOperator<List<Result<T>>> combiner() {
-                return (one, other) -> {
-                    one.addAll(other);
-                    return one;
-                };
-            }
-
-            @Override
-            public Function<List<Result<T>>, Result<List<T>>> finisher() {
-                return list -> list.stream().<Result<List<T>>>reduce(
-                    ok(new ArrayList<>()),
-                    (acc, e) -> e.and(acc).map(ok -> {
-                        ok.add(e.unwrap());
-                        return ok;
-                    }),
-                    (one, other) -> one.and(other).map(ok -> {
-                        ok.addAll(one.unwrap());
-                        return ok;
-                    })
-                );
-            }
-
-            @Override
-            public Set<Characteristics> characteristics() {
-                return Set.of(Characteristics.UNORDERED);
-            }
-        };
-    }
-
-    /**
-     * Converts a {@code List<Result<T>} to a {@code Result<List<T>>}.
+     * Error. Successes are collected directly into the output list, and are no
+     * longer buffered once an Error has been seen.
+     */
+    static <T> Collector<Result<T>, ?, Result<List<T>>> andCollector() {
+        return ResultCollectors.and();
+    }
+
+    /**
+     * Converts a {@code List<Result<T>>} to a {@code Result<List<T>>}.
      * If any Results within the List are Ok, then it returns an Ok containing
      * all objects contained within Ok-variants. Otherwise, it returns the last
-     * encountered Error.
-     */
-    static
-    <T> Collector<Result<T>, List<Result<T>>, Result<List<T>>>
-    orCollector() {
-        return new Collector<>() {
-            @Override
-            public Supplier<List<Result<T>>> supplier() {
-                return ArrayList::new;
-            }
-
-            @Override
-            public BiConsumer<List<Result<T>>, Result<T>> accumulator() {
-                return (acc, e) -> acc.add(e.mapErr(Exception::new));
-            }
-
-            @Override
-            public BinaryOperator<List<Result<T>>> combiner() {
-                return (one, other) -> {
-                    one.addAll(other);
-                    return one;
-                };
-            }
-
-            @Override
-            public Function<List<Result<T>>, Result<List<T>>>
-            finisher() {
-                return list -> list.stream().<Result<List<T>>>reduce(
-                    Result.err(),
-                    (acc, e) -> e.map(
-                        ok -> {
-                            List<T> res = acc.unwrapOr(new ArrayList<>());
-                            res.add(ok);
-                            return res;
-                        }
-                    ).or(acc),
-                    (one, other) -> one.and(other).map(ok -> {
-                        ok.addAll(other.unwrap());
-                        return ok;
-                    }).or(one)
-                        .or(other)
-                );
-            }
-            @Override
-            public Set<Characteristics> characteristics() {
-                return Set.of(Characteristics.UNORDERED);
-            }
-        };
+     * encountered Error, or a default Error if the List is empty.
+     */
+    static <T> Collector<Result<T>, ?, Result<List<T>>> orCollector() {
+        return ResultCollectors.or();
+    }
+
+    /**
+     * Splits a stream of Results into a List of the Ok values and a List of
+     * the Errors in a single pass, both in encounter order.
+     */
+    static <T> Collector<Result<T>, ?, Partition<List<T>, List<Exception>>> partitioningCollector() {
+        return ResultCollectors.partitioning(Collectors.toList(), Collectors.toList());
+    }
+
+    /**
+     * Splits a stream of Results in a single pass, handing the Ok values to one
+     * downstream collector and the Errors to another. Parallel partial results
+     * are merged with the combiners of the downstream collectors, so ordered
+     * collectors see the elements in encounter order.
+     * <pre>{@code
+     * Partition<Long, Map<Class<?>, Long>> summary = results.stream()
+     *     .collect(Result.partitioningCollector(
+     *         Collectors.counting(),
+     *         Collectors.groupingBy(Exception::getClass, Collectors.counting())
+     *     ));
+     * }</pre>
+     */
+    static <T, O, E> Collector<Result<T>, ?, Partition<O, E>> partitioningCollector(
+        Collector<? super T, ?, O> oks,
+        Collector<? super Exception, ?, E> errs
+    ) {
+        return ResultCollectors.partitioning(oks, errs);
+    }
+
+    /**
+     * A Supplier that may throw a checked Exception.
+     */
+    @FunctionalInterface
+    interface CheckedSupplier<T> {
+        T get() throws Exception;
+    }
+
+    /**
+     * A Function that may throw a checked Exception.
+     */
+    @FunctionalInterface
+    interface CheckedFunction<T, R> {
+        R apply(T t) throws Exception;
     }
 
     class ResultException extends Exception {
+        private static final ResultException SHARED = new ResultException(false, false);
+
+        public ResultException() {
+            this(true, StackTracePolicy.captureFor(ResultException.class));
+        }
+
+        private ResultException(boolean enableSuppression, boolean writableStackTrace) {
+            super(null, null, enableSuppression, writableStackTrace);
+        }
+
+        /**
+         * Returns an instance that is shared between Errors when the
+         * {@link StackTracePolicy} for this type does not capture a stack trace.
+         */
+        static ResultException create() {
+            return StackTracePolicy.captureFor(ResultException.class)
+                ? new ResultException(true, true)
+                : SHARED;
+        }
+
         @Override
         public boolean equals(Object other) {
             return other instanceof ResultException;
@@ -0,0 +1,268 @@
+package io.github.luccaflower.result;
+
+import io.github.luccaflower.option.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * <p>
+ *     An immutable batch of Results stored in columns rather than as one
+ *     {@link Ok} or {@link Err} object per element. Each element takes one
+ *     slot of a plain array, holding either the Ok value or the Exception, and
+ *     one bit of a {@link BitSet} recording which of the two it is:
+ * </p>
+ * <pre>{@code
+ * ResultArray<Order> orders = lines.stream()
+ *     .map(Order::parse)
+ *     .collect(ResultArray.collector());
+ * Partition<List<Order>, List<Exception>> split = orders.partition();
+ * }</pre>
+ * <p>
+ *     Bulk operations run over the arrays directly. {@link #get(int)} creates
+ *     a Result for a single element on demand.
+ * </p>
+ * @see ResultIntArray
+ */
+@SuppressWarnings("unused")
+public final class ResultArray<T> {
+    private final Object[] slots;
+    private final BitSet errors;
+
+    private ResultArray(Object[] slots, BitSet errors) {
+        this.slots = slots;
+        this.errors = errors;
+    }
+
+    public static <T> ResultArray<T> of(Collection<? extends Result<T>> results) {
+        Builder<T> builder = new Builder<>(results.size());
+        for (Result<T> result : results) {
+            builder.add(result);
+        }
+        return builder.build();
+    }
+
+    public static <T> ResultArray<T> from(Stream<? extends Result<T>> results) {
+        return results.collect(collector());
+    }
+
+    /**
+     * Collects the Results of a stream, keeping encounter order for parallel
+     * streams.
+     */
+    public static <T> Collector<Result<T>, ?, ResultArray<T>> collector() {
+        return Collector.of(
+            Builder<T>::new,
+            Builder::add,
+            Builder::combine,
+            Builder::build
+        );
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    public int size() {
+        return slots.length;
+    }
+
+    public boolean isOk(int index) {
+        return !errors.get(Objects.checkIndex(index, slots.length));
+    }
+
+    public boolean isErr(int index) {
+        return errors.get(Objects.checkIndex(index, slots.length));
+    }
+
+    /**
+     * Returns the element at the index as a Result.
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @SuppressWarnings("unchecked")
+    public Result<T> get(int index) {
+        Object slot = slots[Objects.checkIndex(index, slots.length)];
+        return errors.get(index) ? Err.uncounted((Exception) slot) : Result.ok((T) slot);
+    }
+
+    public int okCount() {
+        return slots.length - errors.cardinality();
+    }
+
+    public int errCount() {
+        return errors.cardinality();
+    }
+
+    /**
+     * Applies the function to every Ok value. Errors keep their position.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> ResultArray<R> map(Function<? super T, ? extends R> func) {
+        Object[] mapped = new Object[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            mapped[i] = errors.get(i) ? slots[i] : Objects.requireNonNull(func.apply((T) slots[i]));
+        }
+        return new ResultArray<>(mapped, errors);
+    }
+
+    /**
+     * Applies the function to every Ok value, turning the element into an
+     * Error where the function returns one.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> ResultArray<R> flatMap(Function<? super T, ? extends Result<R>> func) {
+        Object[] mapped = new Object[slots.length];
+        BitSet mappedErrors = (BitSet) errors.clone();
+        for (int i = 0; i < slots.length; i++) {
+            if (errors.get(i)) {
+                mapped[i] = slots[i];
+                continue;
+            }
+            Result<R> result = func.apply((T) slots[i]);
+            if (result.isOk()) {
+                mapped[i] = result.unwrap();
+            } else {
+                mapped[i] = result.unwrapErr();
+                mappedErrors.set(i);
+            }
+        }
+        return new ResultArray<>(mapped, mappedErrors);
+    }
+
+    /**
+     * Applies the function to every Error. Ok values keep their position.
+     */
+    public ResultArray<T> mapErr(Function<? super Exception, ? extends Exception> func) {
+        Object[] mapped = slots.clone();
+        for (int i = errors.nextSetBit(0); i >= 0; i = errors.nextSetBit(i + 1)) {
+            mapped[i] = Objects.requireNonNull(func.apply((Exception) slots[i]));
+        }
+        return new ResultArray<>(mapped, errors);
+    }
+
+    /**
+     * Splits the batch into its Ok values and its Errors, each in order.
+     */
+    @SuppressWarnings("unchecked")
+    public Partition<List<T>, List<Exception>> partition() {
+        int errCount = errors.cardinality();
+        List<T> oks = new ArrayList<>(slots.length - errCount);
+        List<Exception> errs = new ArrayList<>(errCount);
+        for (int i = 0; i < slots.length; i++) {
+            if (errors.get(i)) {
+                errs.add((Exception) slots[i]);
+            } else {
+                oks.add((T) slots[i]);
+            }
+        }
+        return Partition.of(oks, errs);
+    }
+
+    /**
+     * Returns every value if there are no Errors, and the first Error otherwise.
+     */
+    public Result<List<T>> toResult() {
+        int first = errors.nextSetBit(0);
+        return first < 0 ? Result.ok(values()) : Err.uncounted((Exception) slots[first]);
+    }
+
+    /**
+     * Returns every value.
+     * @throws UnwrappedErrorExpectingOk containing the first Error, if there is one
+     */
+    public List<T> unwrapAll() {
+        int first = errors.nextSetBit(0);
+        if (first >= 0) {
+            throw new UnwrappedErrorExpectingOk((Exception) slots[first]);
+        }
+        return values();
+    }
+
+    /**
+     * Returns the first Error, if any.
+     */
+    public Option<Exception> firstErr() {
+        int first = errors.nextSetBit(0);
+        return first < 0 ? Option.none() : Option.some((Exception) slots[first]);
+    }
+
+    public Stream<Result<T>> stream() {
+        return IntStream.range(0, slots.length).mapToObj(this::get);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> values() {
+        return (List<T>) Collections.unmodifiableList(Arrays.asList(slots.clone()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ResultArray<?>
+            && ((ResultArray<?>) other).errors.equals(errors)
+            && Arrays.equals(((ResultArray<?>) other).slots, slots);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(slots) + errors.hashCode();
+    }
+
+    /**
+     * Appends elements one at a time, growing the columns as needed.
+     */
+    public static final class Builder<T> {
+        private Object[] slots;
+        private final BitSet errors = new BitSet();
+        private int size;
+
+        private Builder() {
+            this(16);
+        }
+
+        private Builder(int capacity) {
+            slots = new Object[Math.max(capacity, 1)];
+        }
+
+        public Builder<T> add(Result<T> result) {
+            return result.isOk() ? addOk(result.unwrap()) : addErr(result.unwrapErr());
+        }
+
+        public Builder<T> addOk(T value) {
+            append(Objects.requireNonNull(value));
+            return this;
+        }
+
+        public Builder<T> addErr(Exception error) {
+            Objects.requireNonNull(error);
+            errors.set(size);
+            append(error);
+            return this;
+        }
+
+        public ResultArray<T> build() {
+            return new ResultArray<>(Arrays.copyOf(slots, size), (BitSet) errors.clone());
+        }
+
+        private Builder<T> combine(Builder<T> right) {
+            for (int i = right.errors.nextSetBit(0); i >= 0; i = right.errors.nextSetBit(i + 1)) {
+                errors.set(size + i);
+            }
+            ensureCapacity(size + right.size);
+            System.arraycopy(right.slots, 0, slots, size, right.size);
+            size += right.size;
+            return this;
+        }
+
+        private void append(Object slot) {
+            ensureCapacity(size + 1);
+            slots[size++] = slot;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > slots.length) {
+                slots = Arrays.copyOf(slots, Math.max(capacity, slots.length * 2));
+            }
+        }
+    }
+}
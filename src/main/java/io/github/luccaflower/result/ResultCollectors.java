@@ -0,0 +1,135 @@
+package io.github.luccaflower.result;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * The collectors behind {@link Result#andCollector()}, {@link Result#orCollector()}
+ * and {@link Result#partitioningCollector(Collector, Collector)}. Each makes
+ * a single pass and keeps encounter order when combining parallel partial
+ * results. The and and or collectors gather the Ok values into one list and
+ * return the Error they report as it is, rather than wrapping its exception
+ * again. The partitioning collector unwraps every element into one of its
+ * two downstream collectors.
+ */
+final class ResultCollectors {
+    private ResultCollectors() {}
+
+    static <T> Collector<Result<T>, ?, Result<List<T>>> and() {
+        return Collector.of(
+            AndState<T>::new,
+            AndState::add,
+            AndState::combine,
+            AndState::finish
+        );
+    }
+
+    static <T> Collector<Result<T>, ?, Result<List<T>>> or() {
+        return Collector.of(
+            OrState<T>::new,
+            OrState::add,
+            OrState::combine,
+            OrState::finish
+        );
+    }
+
+    static <T, OA, O, EA, E> Collector<Result<T>, ?, Partition<O, E>> partitioning(
+        Collector<? super T, OA, O> oks,
+        Collector<? super Exception, EA, E> errs
+    ) {
+        BiConsumer<OA, ? super T> addOk = oks.accumulator();
+        BiConsumer<EA, ? super Exception> addErr = errs.accumulator();
+        BinaryOperator<OA> combineOks = oks.combiner();
+        BinaryOperator<EA> combineErrs = errs.combiner();
+        return Collector.of(
+            () -> new PartitionState<>(oks.supplier().get(), errs.supplier().get()),
+            (state, result) -> {
+                if (result.isOk()) {
+                    addOk.accept(state.oks, result.unwrap());
+                } else {
+                    addErr.accept(state.errs, result.unwrapErr());
+                }
+            },
+            (left, right) -> new PartitionState<>(
+                combineOks.apply(left.oks, right.oks),
+                combineErrs.apply(left.errs, right.errs)
+            ),
+            state -> Partition.of(oks.finisher().apply(state.oks), errs.finisher().apply(state.errs)),
+            oks.characteristics().contains(Collector.Characteristics.UNORDERED)
+                && errs.characteristics().contains(Collector.Characteristics.UNORDERED)
+                ? new Collector.Characteristics[] {Collector.Characteristics.UNORDERED}
+                : new Collector.Characteristics[0]
+        );
+    }
+
+    private static final class PartitionState<OA, EA> {
+        private final OA oks;
+        private final EA errs;
+
+        PartitionState(OA oks, EA errs) {
+            this.oks = oks;
+            this.errs = errs;
+        }
+    }
+
+    private static final class AndState<T> {
+        private List<T> values = new ArrayList<>();
+        private Result<T> error;
+
+        void add(Result<T> result) {
+            if (error != null) {
+                return;
+            }
+            if (result.isOk()) {
+                values.add(result.unwrap());
+            } else {
+                error = result;
+                values = null;
+            }
+        }
+
+        AndState<T> combine(AndState<T> right) {
+            if (error != null) {
+                return this;
+            }
+            if (right.error != null) {
+                return right;
+            }
+            values.addAll(right.values);
+            return this;
+        }
+
+        Result<List<T>> finish() {
+            return error != null ? Traversals.propagate(error) : Result.ok(values);
+        }
+    }
+
+    private static final class OrState<T> {
+        private final List<T> values = new ArrayList<>();
+        private Result<T> lastError;
+
+        void add(Result<T> result) {
+            if (result.isOk()) {
+                values.add(result.unwrap());
+            } else {
+                lastError = result;
+            }
+        }
+
+        OrState<T> combine(OrState<T> right) {
+            values.addAll(right.values);
+            if (right.lastError != null) {
+                lastError = right.lastError;
+            }
+            return this;
+        }
+
+        Result<List<T>> finish() {
+            if (!values.isEmpty()) {
+                return Result.ok(values);
+            }
+            return lastError != null ? Traversals.propagate(lastError) : Result.err();
+        }
+    }
+}
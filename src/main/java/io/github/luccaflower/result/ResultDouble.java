@@ -0,0 +1,207 @@
+package io.github.luccaflower.result;
+
+import io.github.luccaflower.option.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * <p>
+ *     A double-specialized {@link Result}. The combinators take primitive
+ *     functional interfaces, so numeric pipelines never box their values.
+ * </p>
+ * <p>
+ *     {@link #boxed()} and {@link #from(Result)} convert losslessly to and from
+ *     the generic {@code Result<Double>}.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public interface ResultDouble {
+
+    /**
+     * Instantiate an Ok-variant containing the passed value.
+     */
+    static ResultDouble ok(double value) {
+        return new OkDouble(value);
+    }
+
+    /**
+     * Instantiate an Error-variant containing the passed Exception.
+     */
+    static ResultDouble err(Exception error) {
+        Objects.requireNonNull(error);
+        return new ErrDouble(error);
+    }
+
+    /**
+     * Converts a generic Result to its double-specialized counterpart.
+     */
+    static ResultDouble from(Result<Double> result) {
+        return result.isOk() ? ok(result.unwrap()) : ErrDouble.uncounted(result.unwrapErr());
+    }
+
+    /**
+     * Extracts the value contained within an Ok-variant.
+     * @throws UnwrappedErrorExpectingOk if called on an Error-variant
+     */
+    double unwrap();
+
+    /**
+     * Extracts the Exception contained within an Error-variant.
+     * @throws UnwrappedOkExpectingError if called on an Ok-variant
+     */
+    Exception unwrapErr();
+
+    /**
+     * Extracts the value contained within an Ok-variant, and returns the
+     * default value if called on an Error.
+     */
+    double unwrapOr(double defaultValue);
+
+    /**
+     * Extracts the value contained within an Ok-variant, and returns the result
+     * of evaluating the default function if called on an Error.
+     */
+    double unwrapOrElse(DoubleSupplier defaultFunc);
+
+    /**
+     * Extracts the value contained within an Ok-variant.
+     * @throws UnwrappedErrorExpectingOk containing the reason when called on an Error.
+     */
+    double expect(String reason);
+
+    /**
+     * Extracts the Exception contained within an Error-variant.
+     * @throws UnwrappedOkExpectingError containing the message when called on an Ok.
+     */
+    Exception expectErr(String message);
+
+    /**
+     * Returns true on Ok and false on Error
+     */
+    boolean isOk();
+
+    /**
+     * Returns true on Error and false on Ok
+     */
+    boolean isErr();
+
+    /**
+     * Returns the result of applying the predicate to the inner value on Ok,
+     * and false on Error.
+     */
+    boolean isOkAnd(DoublePredicate p);
+
+    /**
+     * Returns the result of applying the predicate to the inner Exception on
+     * Error, and false on Ok.
+     */
+    boolean isErrAnd(Predicate<? super Exception> p);
+
+    /**
+     * Returns true on Ok if the inner value equals the candidate.
+     */
+    boolean contains(double candidate);
+
+    /**
+     * Applies the function to the inner value on Ok. Does nothing on Error.
+     */
+    ResultDouble map(DoubleUnaryOperator func);
+
+    /**
+     * Applies the function to the inner value on Ok and returns a generic Result
+     * containing the result. Does nothing on Error.
+     */
+    <R> Result<R> mapToObj(DoubleFunction<? extends R> func);
+
+    /**
+     * Applies the function to the inner value on Ok and returns a
+     * {@link ResultInt} containing the result.
+     */
+    ResultInt mapToInt(DoubleToIntFunction func);
+
+    /**
+     * Applies the function to the inner value on Ok and returns a
+     * {@link ResultLong} containing the result.
+     */
+    ResultLong mapToLong(DoubleToLongFunction func);
+
+    /**
+     * On an Ok-variant, applies the function to the inner value and returns the result.
+     */
+    ResultDouble flatMap(DoubleFunction<? extends ResultDouble> func);
+
+    /**
+     * Applies the function to the inner Exception on Error. Does nothing on Ok.
+     */
+    ResultDouble mapErr(Function<? super Exception, ? extends Exception> func);
+
+    /**
+     * On an Error-variant, applies the function to the inner Exception and
+     * returns the result.
+     */
+    ResultDouble flatMapErr(Function<? super Exception, ? extends ResultDouble> func);
+
+    /**
+     * Applies the function to the inner value on Ok and returns the result,
+     * and returns the default value on Error.
+     */
+    double mapOr(double defaultValue, DoubleUnaryOperator func);
+
+    /**
+     * Evaluates the Ok-function on Ok, and the Error-function on Error.
+     */
+    <R> R matches(
+        DoubleFunction<? extends R> ok,
+        Function<? super Exception, ? extends R> err
+    );
+
+    /**
+     * Returns the second Result if both are Ok, otherwise returns the first Error.
+     */
+    ResultDouble and(ResultDouble other);
+
+    /**
+     * Returns the first Ok. If both Results are Errors, it returns the second Error.
+     */
+    ResultDouble or(ResultDouble other);
+
+    /**
+     * Passes the inner value to the consumer on Ok.
+     */
+    ResultDouble ifOk(DoubleConsumer onOk);
+
+    /**
+     * Passes the inner Exception to the consumer on Error.
+     */
+    ResultDouble ifErr(Consumer<? super Exception> onErr);
+
+    /**
+     * Returns Some containing the inner value on Ok and None on Error.
+     */
+    OptionDouble okToOption();
+
+    /**
+     * Returns Some containing the inner Exception on Error and None on Ok.
+     */
+    Option<Exception> errToOption();
+
+    /**
+     * Converts this instance to the generic {@code Result<Double>}.
+     */
+    Result<Double> boxed();
+
+    /**
+     * Returns a {@link DoubleStream} of the inner value, or an empty stream on Error.
+     */
+    DoubleStream stream();
+
+    /**
+     * Collects a stream of ResultDouble into an Ok containing every value, or the
+     * first Error if there is one.
+     */
+    static Collector<ResultDouble, ?, Result<double[]>> andCollector() {
+        return PrimitiveResultCollectors.andDouble();
+    }
+}
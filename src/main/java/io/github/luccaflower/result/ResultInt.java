@@ -0,0 +1,207 @@
+package io.github.luccaflower.result;
+
+import io.github.luccaflower.option.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * <p>
+ *     An int-specialized {@link Result}. The combinators take primitive
+ *     functional interfaces, so numeric pipelines never box their values.
+ * </p>
+ * <p>
+ *     {@link #boxed()} and {@link #from(Result)} convert losslessly to and from
+ *     the generic {@code Result<Integer>}.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public interface ResultInt {
+
+    /**
+     * Instantiate an Ok-variant containing the passed value.
+     */
+    static ResultInt ok(int value) {
+        return new OkInt(value);
+    }
+
+    /**
+     * Instantiate an Error-variant containing the passed Exception.
+     */
+    static ResultInt err(Exception error) {
+        Objects.requireNonNull(error);
+        return new ErrInt(error);
+    }
+
+    /**
+     * Converts a generic Result to its int-specialized counterpart.
+     */
+    static ResultInt from(Result<Integer> result) {
+        return result.isOk() ? ok(result.unwrap()) : ErrInt.uncounted(result.unwrapErr());
+    }
+
+    /**
+     * Extracts the value contained within an Ok-variant.
+     * @throws UnwrappedErrorExpectingOk if called on an Error-variant
+     */
+    int unwrap();
+
+    /**
+     * Extracts the Exception contained within an Error-variant.
+     * @throws UnwrappedOkExpectingError if called on an Ok-variant
+     */
+    Exception unwrapErr();
+
+    /**
+     * Extracts the value contained within an Ok-variant, and returns the
+     * default value if called on an Error.
+     */
+    int unwrapOr(int defaultValue);
+
+    /**
+     * Extracts the value contained within an Ok-variant, and returns the result
+     * of evaluating the default function if called on an Error.
+     */
+    int unwrapOrElse(IntSupplier defaultFunc);
+
+    /**
+     * Extracts the value contained within an Ok-variant.
+     * @throws UnwrappedErrorExpectingOk containing the reason when called on an Error.
+     */
+    int expect(String reason);
+
+    /**
+     * Extracts the Exception contained within an Error-variant.
+     * @throws UnwrappedOkExpectingError containing the message when called on an Ok.
+     */
+    Exception expectErr(String message);
+
+    /**
+     * Returns true on Ok and false on Error
+     */
+    boolean isOk();
+
+    /**
+     * Returns true on Error and false on Ok
+     */
+    boolean isErr();
+
+    /**
+     * Returns the result of applying the predicate to the inner value on Ok,
+     * and false on Error.
+     */
+    boolean isOkAnd(IntPredicate p);
+
+    /**
+     * Returns the result of applying the predicate to the inner Exception on
+     * Error, and false on Ok.
+     */
+    boolean isErrAnd(Predicate<? super Exception> p);
+
+    /**
+     * Returns true on Ok if the inner value equals the candidate.
+     */
+    boolean contains(int candidate);
+
+    /**
+     * Applies the function to the inner value on Ok. Does nothing on Error.
+     */
+    ResultInt map(IntUnaryOperator func);
+
+    /**
+     * Applies the function to the inner value on Ok and returns a generic Result
+     * containing the result. Does nothing on Error.
+     */
+    <R> Result<R> mapToObj(IntFunction<? extends R> func);
+
+    /**
+     * Applies the function to the inner value on Ok and returns a
+     * {@link ResultLong} containing the result.
+     */
+    ResultLong mapToLong(IntToLongFunction func);
+
+    /**
+     * Applies the function to the inner value on Ok and returns a
+     * {@link ResultDouble} containing the result.
+     */
+    ResultDouble mapToDouble(IntToDoubleFunction func);
+
+    /**
+     * On an Ok-variant, applies the function to the inner value and returns the result.
+     */
+    ResultInt flatMap(IntFunction<? extends ResultInt> func);
+
+    /**
+     * Applies the function to the inner Exception on Error. Does nothing on Ok.
+     */
+    ResultInt mapErr(Function<? super Exception, ? extends Exception> func);
+
+    /**
+     * On an Error-variant, applies the function to the inner Exception and
+     * returns the result.
+     */
+    ResultInt flatMapErr(Function<? super Exception, ? extends ResultInt> func);
+
+    /**
+     * Applies the function to the inner value on Ok and returns the result,
+     * and returns the default value on Error.
+     */
+    int mapOr(int defaultValue, IntUnaryOperator func);
+
+    /**
+     * Evaluates the Ok-function on Ok, and the Error-function on Error.
+     */
+    <R> R matches(
+        IntFunction<? extends R> ok,
+        Function<? super Exception, ? extends R> err
+    );
+
+    /**
+     * Returns the second Result if both are Ok, otherwise returns the first Error.
+     */
+    ResultInt and(ResultInt other);
+
+    /**
+     * Returns the first Ok. If both Results are Errors, it returns the second Error.
+     */
+    ResultInt or(ResultInt other);
+
+    /**
+     * Passes the inner value to the consumer on Ok.
+     */
+    ResultInt ifOk(IntConsumer onOk);
+
+    /**
+     * Passes the inner Exception to the consumer on Error.
+     */
+    ResultInt ifErr(Consumer<? super Exception> onErr);
+
+    /**
+     * Returns Some containing the inner value on Ok and None on Error.
+     */
+    OptionInt okToOption();
+
+    /**
+     * Returns Some containing the inner Exception on Error and None on Ok.
+     */
+    Option<Exception> errToOption();
+
+    /**
+     * Converts this instance to the generic {@code Result<Integer>}.
+     */
+    Result<Integer> boxed();
+
+    /**
+     * Returns a {@link IntStream} of the inner value, or an empty stream on Error.
+     */
+    IntStream stream();
+
+    /**
+     * Collects a stream of ResultInt into an Ok containing every value, or the
+     * first Error if there is one.
+     */
+    static Collector<ResultInt, ?, Result<int[]>> andCollector() {
+        return PrimitiveResultCollectors.andInt();
+    }
+}
@@ -0,0 +1,272 @@
+package io.github.luccaflower.result;
+
+import io.github.luccaflower.option.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * <p>
+ *     An int-specialized {@link ResultArray}. Ok values live in an
+ *     {@code int[]}, a {@link BitSet} marks which elements are Errors, and the
+ *     Exceptions are kept in a sparse side table sorted by index, so a batch
+ *     with few Errors costs little more than its {@code int[]}.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public final class ResultIntArray {
+    private final int[] values;
+    private final BitSet errors;
+    private final int[] errorIndices;
+    private final Exception[] errorValues;
+
+    private ResultIntArray(int[] values, BitSet errors, int[] errorIndices, Exception[] errorValues) {
+        this.values = values;
+        this.errors = errors;
+        this.errorIndices = errorIndices;
+        this.errorValues = errorValues;
+    }
+
+    public static ResultIntArray of(Collection<? extends ResultInt> results) {
+        Builder builder = new Builder(results.size());
+        for (ResultInt result : results) {
+            builder.add(result);
+        }
+        return builder.build();
+    }
+
+    public static ResultIntArray from(Stream<? extends ResultInt> results) {
+        return results.collect(collector());
+    }
+
+    /**
+     * Collects the Results of a stream, keeping encounter order for parallel
+     * streams.
+     */
+    public static Collector<ResultInt, ?, ResultIntArray> collector() {
+        return Collector.of(
+            Builder::new,
+            Builder::add,
+            Builder::combine,
+            Builder::build
+        );
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isOk(int index) {
+        return !errors.get(Objects.checkIndex(index, values.length));
+    }
+
+    public boolean isErr(int index) {
+        return errors.get(Objects.checkIndex(index, values.length));
+    }
+
+    /**
+     * Returns the element at the index as a ResultInt.
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public ResultInt get(int index) {
+        Objects.checkIndex(index, values.length);
+        return errors.get(index) ? ErrInt.uncounted(errorAt(index)) : ResultInt.ok(values[index]);
+    }
+
+    public int okCount() {
+        return values.length - errorIndices.length;
+    }
+
+    public int errCount() {
+        return errorIndices.length;
+    }
+
+    /**
+     * Applies the function to every Ok value. Errors keep their position and
+     * share the side table of this batch.
+     */
+    public ResultIntArray map(IntUnaryOperator func) {
+        int[] mapped = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (!errors.get(i)) {
+                mapped[i] = func.applyAsInt(values[i]);
+            }
+        }
+        return new ResultIntArray(mapped, errors, errorIndices, errorValues);
+    }
+
+    /**
+     * Applies the function to every Ok value, turning the element into an
+     * Error where the function returns one.
+     */
+    public ResultIntArray flatMap(IntFunction<? extends ResultInt> func) {
+        Builder builder = new Builder(values.length);
+        int next = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (errors.get(i)) {
+                builder.addErr(errorValues[next++]);
+            } else {
+                builder.add(func.apply(values[i]));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Applies the function to every Ok value, producing a batch of objects.
+     */
+    public <R> ResultArray<R> mapToObj(IntFunction<? extends R> func) {
+        ResultArray.Builder<R> builder = ResultArray.builder();
+        int next = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (errors.get(i)) {
+                builder.addErr(errorValues[next++]);
+            } else {
+                builder.addOk(func.apply(values[i]));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Splits the batch into its Ok values and its Errors, each in order.
+     */
+    public Partition<int[], List<Exception>> partition() {
+        int[] oks = new int[okCount()];
+        int next = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (!errors.get(i)) {
+                oks[next++] = values[i];
+            }
+        }
+        return Partition.of(oks, List.of(errorValues));
+    }
+
+    /**
+     * Returns every value if there are no Errors, and the first Error otherwise.
+     */
+    public Result<int[]> toResult() {
+        return errorValues.length == 0 ? Result.ok(values.clone()) : Err.uncounted(errorValues[0]);
+    }
+
+    /**
+     * Returns every value.
+     * @throws UnwrappedErrorExpectingOk containing the first Error, if there is one
+     */
+    public int[] unwrapAll() {
+        if (errorValues.length > 0) {
+            throw new UnwrappedErrorExpectingOk(errorValues[0]);
+        }
+        return values.clone();
+    }
+
+    /**
+     * Returns the first Error, if any.
+     */
+    public Option<Exception> firstErr() {
+        return errorValues.length == 0 ? Option.none() : Option.some(errorValues[0]);
+    }
+
+    public Stream<ResultInt> stream() {
+        return IntStream.range(0, values.length).mapToObj(this::get);
+    }
+
+    private Exception errorAt(int index) {
+        return errorValues[Arrays.binarySearch(errorIndices, index)];
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof ResultIntArray)) {
+            return false;
+        }
+        ResultIntArray that = (ResultIntArray) other;
+        if (!that.errors.equals(errors) || that.values.length != values.length) {
+            return false;
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (!errors.get(i) && values[i] != that.values[i]) {
+                return false;
+            }
+        }
+        return Arrays.equals(errorValues, that.errorValues);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = errors.hashCode();
+        for (int i = 0; i < values.length; i++) {
+            hash = 31 * hash + (errors.get(i) ? 0 : values[i]);
+        }
+        return 31 * hash + Arrays.hashCode(errorValues);
+    }
+
+    /**
+     * Appends elements one at a time, growing the columns as needed.
+     */
+    public static final class Builder {
+        private int[] values;
+        private final BitSet errors = new BitSet();
+        private final List<Exception> errorValues = new ArrayList<>();
+        private int size;
+
+        private Builder() {
+            this(16);
+        }
+
+        private Builder(int capacity) {
+            values = new int[Math.max(capacity, 1)];
+        }
+
+        public Builder add(ResultInt result) {
+            return result.isOk() ? addOk(result.unwrap()) : addErr(result.unwrapErr());
+        }
+
+        public Builder addOk(int value) {
+            ensureCapacity(size + 1);
+            values[size++] = value;
+            return this;
+        }
+
+        public Builder addErr(Exception error) {
+            Objects.requireNonNull(error);
+            errorValues.add(error);
+            errors.set(size);
+            ensureCapacity(size + 1);
+            size++;
+            return this;
+        }
+
+        public ResultIntArray build() {
+            BitSet errorBits = (BitSet) errors.clone();
+            return new ResultIntArray(
+                Arrays.copyOf(values, size),
+                errorBits,
+                errorBits.stream().toArray(),
+                errorValues.toArray(new Exception[0])
+            );
+        }
+
+        private Builder combine(Builder right) {
+            for (int i = right.errors.nextSetBit(0); i >= 0; i = right.errors.nextSetBit(i + 1)) {
+                errors.set(size + i);
+            }
+            errorValues.addAll(right.errorValues);
+            ensureCapacity(size + right.size);
+            System.arraycopy(right.values, 0, values, size, right.size);
+            size += right.size;
+            return this;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > values.length) {
+                values = Arrays.copyOf(values, Math.max(capacity, values.length * 2));
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package io.github.luccaflower.result;
+
+import io.github.luccaflower.option.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * <p>
+ *     A long-specialized {@link Result}. The combinators take primitive
+ *     functional interfaces, so numeric pipelines never box their values.
+ * </p>
+ * <p>
+ *     {@link #boxed()} and {@link #from(Result)} convert losslessly to and from
+ *     the generic {@code Result<Long>}.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public interface ResultLong {
+
+    /**
+     * Instantiate an Ok-variant containing the passed value.
+     */
+    static ResultLong ok(long value) {
+        return new OkLong(value);
+    }
+
+    /**
+     * Instantiate an Error-variant containing the passed Exception.
+     */
+    static ResultLong err(Exception error) {
+        Objects.requireNonNull(error);
+        return new ErrLong(error);
+    }
+
+    /**
+     * Converts a generic Result to its long-specialized counterpart.
+     */
+    static ResultLong from(Result<Long> result) {
+        return result.isOk() ? ok(result.unwrap()) : ErrLong.uncounted(result.unwrapErr());
+    }
+
+    /**
+     * Extracts the value contained within an Ok-variant.
+     * @throws UnwrappedErrorExpectingOk if called on an Error-variant
+     */
+    long unwrap();
+
+    /**
+     * Extracts the Exception contained within an Error-variant.
+     * @throws UnwrappedOkExpectingError if called on an Ok-variant
+     */
+    Exception unwrapErr();
+
+    /**
+     * Extracts the value contained within an Ok-variant, and returns the
+     * default value if called on an Error.
+     */
+    long unwrapOr(long defaultValue);
+
+    /**
+     * Extracts the value contained within an Ok-variant, and returns the result
+     * of evaluating the default function if called on an Error.
+     */
+    long unwrapOrElse(LongSupplier defaultFunc);
+
+    /**
+     * Extracts the value contained within an Ok-variant.
+     * @throws UnwrappedErrorExpectingOk containing the reason when called on an Error.
+     */
+    long expect(String reason);
+
+    /**
+     * Extracts the Exception contained within an Error-variant.
+     * @throws UnwrappedOkExpectingError containing the message when called on an Ok.
+     */
+    Exception expectErr(String message);
+
+    /**
+     * Returns true on Ok and false on Error
+     */
+    boolean isOk();
+
+    /**
+     * Returns true on Error and false on Ok
+     */
+    boolean isErr();
+
+    /**
+     * Returns the result of applying the predicate to the inner value on Ok,
+     * and false on Error.
+     */
+    boolean isOkAnd(LongPredicate p);
+
+    /**
+     * Returns the result of applying the predicate to the inner Exception on
+     * Error, and false on Ok.
+     */
+    boolean isErrAnd(Predicate<? super Exception> p);
+
+    /**
+     * Returns true on Ok if the inner value equals the candidate.
+     */
+    boolean contains(long candidate);
+
+    /**
+     * Applies the function to the inner value on Ok. Does nothing on Error.
+     */
+    ResultLong map(LongUnaryOperator func);
+
+    /**
+     * Applies the function to the inner value on Ok and returns a generic Result
+     * containing the result. Does nothing on Error.
+     */
+    <R> Result<R> mapToObj(LongFunction<? extends R> func);
+
+    /**
+     * Applies the function to the inner value on Ok and returns a
+     * {@link ResultInt} containing the result.
+     */
+    ResultInt mapToInt(LongToIntFunction func);
+
+    /**
+     * Applies the function to the inner value on Ok and returns a
+     * {@link ResultDouble} containing the result.
+     */
+    ResultDouble mapToDouble(LongToDoubleFunction func);
+
+    /**
+     * On an Ok-variant, applies the function to the inner value and returns the result.
+     */
+    ResultLong flatMap(LongFunction<? extends ResultLong> func);
+
+    /**
+     * Applies the function to the inner Exception on Error. Does nothing on Ok.
+     */
+    ResultLong mapErr(Function<? super Exception, ? extends Exception> func);
+
+    /**
+     * On an Error-variant, applies the function to the inner Exception and
+     * returns the result.
+     */
+    ResultLong flatMapErr(Function<? super Exception, ? extends ResultLong> func);
+
+    /**
+     * Applies the function to the inner value on Ok and returns the result,
+     * and returns the default value on Error.
+     */
+    long mapOr(long defaultValue, LongUnaryOperator func);
+
+    /**
+     * Evaluates the Ok-function on Ok, and the Error-function on Error.
+     */
+    <R> R matches(
+        LongFunction<? extends R> ok,
+        Function<? super Exception, ? extends R> err
+    );
+
+    /**
+     * Returns the second Result if both are Ok, otherwise returns the first Error.
+     */
+    ResultLong and(ResultLong other);
+
+    /**
+     * Returns the first Ok. If both Results are Errors, it returns the second Error.
+     */
+    ResultLong or(ResultLong other);
+
+    /**
+     * Passes the inner value to the consumer on Ok.
+     */
+    ResultLong ifOk(LongConsumer onOk);
+
+    /**
+     * Passes the inner Exception to the consumer on Error.
+     */
+    ResultLong ifErr(Consumer<? super Exception> onErr);
+
+    /**
+     * Returns Some containing the inner value on Ok and None on Error.
+     */
+    OptionLong okToOption();
+
+    /**
+     * Returns Some containing the inner Exception on Error and None on Ok.
+     */
+    Option<Exception> errToOption();
+
+    /**
+     * Converts this instance to the generic {@code Result<Long>}.
+     */
+    Result<Long> boxed();
+
+    /**
+     * Returns a {@link LongStream} of the inner value, or an empty stream on Error.
+     */
+    LongStream stream();
+
+    /**
+     * Collects a stream of ResultLong into an Ok containing every value, or the
+     * first Error if there is one.
+     */
+    static Collector<ResultLong, ?, Result<long[]>> andCollector() {
+        return PrimitiveResultCollectors.andLong();
+    }
+}
@@ -0,0 +1,264 @@
+package io.github.luccaflower.result;
+
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * <p>
+ *     A reusable chain of Result combinators. Each call to {@link Result#map(Function)}
+ *     and friends creates a new Result, so a chain of them allocates at every
+ *     step. A pipeline records the stages once and runs them on the raw value
+ *     and error, only creating a Result for the final outcome:
+ * </p>
+ * <pre>{@code
+ * Function<String, Result<Integer>> parse = ResultPipeline.<String>start()
+ *     .map(String::trim)
+ *     .flatMap(Parser::parseInt)
+ *     .map(i -> i * 2)
+ *     .mapErr(ParseError::new)
+ *     .compile();
+ *
+ * lines.stream().map(parse)...
+ * }</pre>
+ * <p>
+ *     The stages are composed into a single {@link MethodHandle}. When the
+ *     compiled function is held in a {@code static final} field, the JIT treats
+ *     the whole chain, including the stage functions, as a constant and can
+ *     inline it like hand-written code.
+ * </p>
+ * <p>
+ *     Pipelines are immutable: adding a stage returns a new pipeline, and a
+ *     compiled pipeline can be shared between threads. The stages behave exactly
+ *     like the corresponding Result methods.
+ * </p>
+ * @param <A> The type of the input
+ * @param <T> The object-type of the Ok-variant of the outcome
+ */
+@SuppressWarnings("unused")
+public final class ResultPipeline<A, T> {
+    private static final MethodHandle MAP = stage("map", Function.class);
+    private static final MethodHandle FLAT_MAP = stage("flatMap", Function.class);
+    private static final MethodHandle MAP_ERR = stage("mapErr", Function.class);
+    private static final MethodHandle FLAT_MAP_ERR = stage("flatMapErr", Function.class);
+    private static final MethodHandle IF_OK = stage("ifOk", Consumer.class);
+    private static final MethodHandle IF_ERR = stage("ifErr", Consumer.class);
+
+    private static final ResultPipeline<?, ?> EMPTY = new ResultPipeline<>(
+        MethodHandles.identity(Object.class),
+        0
+    );
+
+    /**
+     * Takes the current state, which is either a raw value or a {@link Failure},
+     * and returns the next.
+     */
+    private final MethodHandle handle;
+    private final int size;
+
+    private ResultPipeline(MethodHandle handle, int size) {
+        this.handle = handle;
+        this.size = size;
+    }
+
+    /**
+     * A pipeline without any stages, which returns its input as an Ok.
+     */
+    @SuppressWarnings("unchecked")
+    public static <A> ResultPipeline<A, A> start() {
+        return (ResultPipeline<A, A>) EMPTY;
+    }
+
+    /**
+     * @see Result#map(Function)
+     */
+    public <R> ResultPipeline<A, R> map(Function<? super T, ? extends R> func) {
+        return then(MAP, func);
+    }
+
+    /**
+     * @see Result#flatMap(Function)
+     */
+    public <R> ResultPipeline<A, R> flatMap(Function<? super T, ? extends Result<R>> func) {
+        return then(FLAT_MAP, func);
+    }
+
+    /**
+     * @see Result#mapErr(Function)
+     */
+    public ResultPipeline<A, T> mapErr(Function<? super Exception, ? extends Exception> func) {
+        return then(MAP_ERR, func);
+    }
+
+    /**
+     * @see Result#flatMapErr(Function)
+     */
+    public ResultPipeline<A, T> flatMapErr(Function<? super Exception, ? extends Result<T>> func) {
+        return then(FLAT_MAP_ERR, func);
+    }
+
+    /**
+     * @see Result#ifOk(Consumer)
+     */
+    public ResultPipeline<A, T> ifOk(Consumer<? super T> onOk) {
+        return then(IF_OK, onOk);
+    }
+
+    /**
+     * @see Result#ifErr(Consumer)
+     */
+    public ResultPipeline<A, T> ifErr(Consumer<? super Exception> onErr) {
+        return then(IF_ERR, onErr);
+    }
+
+    /**
+     * Compiles the stages into a function from an input to the outcome.
+     */
+    public Function<A, Result<T>> compile() {
+        MethodHandle handle = this.handle;
+        return input -> toResult(invoke(handle, Objects.requireNonNull(input)));
+    }
+
+    /**
+     * Compiles the stages into a function from a Result to the outcome. Stages
+     * run on the value or error of the input, like the same chain of Result
+     * methods would.
+     */
+    public Function<Result<A>, Result<T>> compileForResult() {
+        MethodHandle handle = this.handle;
+        return input -> toResult(invoke(
+            handle,
+            input.isOk() ? input.unwrap() : new Failure(input)
+        ));
+    }
+
+    /**
+     * Compiles the stages into a function that returns the value of the
+     * outcome, or the default value on Error. No Result is created at all,
+     * unless a stage returns one.
+     * @see Result#unwrapOr(Object)
+     */
+    @SuppressWarnings("unchecked")
+    public Function<A, T> compileUnwrapOr(T defaultValue) {
+        Objects.requireNonNull(defaultValue);
+        MethodHandle handle = this.handle;
+        return input -> {
+            Object state = invoke(handle, Objects.requireNonNull(input));
+            return state instanceof Failure ? defaultValue : (T) state;
+        };
+    }
+
+    /**
+     * Runs the pipeline once on the input.
+     */
+    public Result<T> apply(A input) {
+        return toResult(invoke(handle, Objects.requireNonNull(input)));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private <R> ResultPipeline<A, R> then(MethodHandle stage, Object func) {
+        return new ResultPipeline<>(
+            MethodHandles.filterReturnValue(handle, stage.bindTo(Objects.requireNonNull(func))),
+            size + 1
+        );
+    }
+
+    private static Object invoke(MethodHandle handle, Object input) {
+        try {
+            return (Object) handle.invokeExact(input);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Result<T> toResult(Object state) {
+        return state instanceof Failure
+            ? ((Failure) state).toResult()
+            : Result.ok((T) state);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object map(Function<Object, Object> func, Object state) {
+        return state instanceof Failure ? state : Objects.requireNonNull(func.apply(state));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object flatMap(Function<Object, Result<Object>> func, Object state) {
+        if (state instanceof Failure) {
+            return state;
+        }
+        Result<Object> next = func.apply(state);
+        return next.isOk() ? next.unwrap() : new Failure(next);
+    }
+
+    private static Object mapErr(Function<Exception, Exception> func, Object state) {
+        return state instanceof Failure
+            ? new Failure(Objects.requireNonNull(func.apply(((Failure) state).error)))
+            : state;
+    }
+
+    private static Object flatMapErr(Function<Exception, Result<Object>> func, Object state) {
+        if (!(state instanceof Failure)) {
+            return state;
+        }
+        Result<Object> next = func.apply(((Failure) state).error);
+        return next.isOk() ? next.unwrap() : new Failure(next);
+    }
+
+    private static Object ifOk(Consumer<Object> onOk, Object state) {
+        if (!(state instanceof Failure)) {
+            onOk.accept(state);
+        }
+        return state;
+    }
+
+    private static Object ifErr(Consumer<Exception> onErr, Object state) {
+        if (state instanceof Failure) {
+            onErr.accept(((Failure) state).error);
+        }
+        return state;
+    }
+
+    private static MethodHandle stage(String name, Class<?> funcType) {
+        try {
+            return MethodHandles.lookup().findStatic(
+                ResultPipeline.class,
+                name,
+                MethodType.methodType(Object.class, funcType, Object.class)
+            );
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * The state of a pipeline after a stage has failed. It is private, so a
+     * value of the Ok-variant can never be mistaken for it. When the failure
+     * came from an Error, that Error is kept and returned as is.
+     */
+    private static final class Failure {
+        private final Exception error;
+        private final Result<?> origin;
+
+        Failure(Exception error) {
+            this.error = error;
+            this.origin = null;
+        }
+
+        Failure(Result<?> origin) {
+            this.error = origin.unwrapErr();
+            this.origin = origin;
+        }
+
+        <T> Result<T> toResult() {
+            return origin != null ? Traversals.propagate(origin) : Result.err(error);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.luccaflower.result;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * The loops behind {@link Result#traverse(Iterable, Function)} and its relatives.
+ * They pull from the source one element at a time and stop at the first Error,
+ * so nothing past the failure is consumed.
+ */
+final class Traversals {
+    private Traversals() {}
+
+    static <A, B> Result<List<B>> traverse(
+        Iterator<? extends A> source,
+        long sizeHint,
+        Function<? super A, ? extends Result<B>> func
+    ) {
+        List<B> values = sizeHint >= 0 && sizeHint < Integer.MAX_VALUE
+            ? new ArrayList<>((int) sizeHint)
+            : new ArrayList<>();
+        while (source.hasNext()) {
+            Result<B> result = func.apply(source.next());
+            if (result.isErr()) {
+                return propagate(result);
+            }
+            values.add(result.unwrap());
+        }
+        return Result.ok(values);
+    }
+
+    static <A, R> Result<R> tryFold(
+        Iterator<? extends A> source,
+        R initial,
+        BiFunction<? super R, ? super A, ? extends Result<R>> step
+    ) {
+        R accumulator = initial;
+        while (source.hasNext()) {
+            Result<R> result = step.apply(accumulator, source.next());
+            if (result.isErr()) {
+                return result;
+            }
+            accumulator = result.unwrap();
+        }
+        return Result.ok(accumulator);
+    }
+
+    static <A, C> Result<C> tryForEach(
+        Iterator<? extends A> source,
+        C accumulator,
+        BiFunction<? super C, ? super A, ? extends Result<?>> action
+    ) {
+        while (source.hasNext()) {
+            Result<?> result = action.apply(accumulator, source.next());
+            if (result.isErr()) {
+                return propagate(result);
+            }
+        }
+        return Result.ok(accumulator);
+    }
+
+    /**
+     * Re-types an Error instead of wrapping its exception in a new one, so that
+     * the metrics and events count it once.
+     */
+    @SuppressWarnings("unchecked")
+    static <R> Result<R> propagate(Result<?> err) {
+        return (Result<R>) err;
+    }
+
+    static long sizeOf(Iterable<?> source) {
+        return source instanceof Collection<?>
+            ? ((Collection<?>) source).size()
+            : -1;
+    }
+}
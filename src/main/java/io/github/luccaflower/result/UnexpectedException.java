@@ -0,0 +1,22 @@
+package io.github.luccaflower.result;
+
+import io.github.luccaflower.trace.*;
+
+/**
+ * Wraps a checked Exception that a {@link Catching} did not expect, so that
+ * it can propagate out of a function that does not declare it. Whether the
+ * wrapper captures a stack trace of its own follows the {@link StackTracePolicy}
+ * for this type. The cause always keeps its own.
+ */
+public class UnexpectedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public UnexpectedException(Exception cause) {
+        super(
+            cause.toString(),
+            cause,
+            true,
+            StackTracePolicy.captureFor(UnexpectedException.class)
+        );
+    }
+}
@@ -1,16 +1,27 @@
 package io.github.luccaflower.result;
 
+import java.io.*;
+
 /**
  * The Unit class represents the void return-type in cases where an object still
  * needs to be returned. It is primarily used with the Ok-variant of the {@link Result}-type
  * to indicate a successful operation in which nothing is returned.
  */
 @SuppressWarnings("InstantiationOfUtilityClass")
-public final class Unit {
+public final class Unit implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private Unit() {}
     private static final Unit unit = new Unit();
     public static Unit unit() {
         return unit;
     }
 
+    /**
+     * Keeps Unit a singleton across deserialization.
+     */
+    private Object readResolve() {
+        return unit;
+    }
+
 }
@@ -1,24 +1,41 @@
 package io.github.luccaflower.result;
 
+import io.github.luccaflower.jfr.*;
+import io.github.luccaflower.metrics.*;
+import io.github.luccaflower.trace.*;
+
+import java.util.*;
+
 public class UnwrappedErrorExpectingOk extends RuntimeException {
     public UnwrappedErrorExpectingOk(Throwable e) {
-        super(e);
+        this(e == null ? null : e.toString(), e);
     }
 
     public UnwrappedErrorExpectingOk(String reason, Throwable e) {
-        super(reason, e);
+        super(
+            reason,
+            e,
+            true,
+            StackTracePolicy.captureFor(UnwrappedErrorExpectingOk.class)
+        );
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.panic(UnwrappedErrorExpectingOk.class);
+        }
+        if (UnionEvents.ENABLED) {
+            UnionEvents.panic(UnwrappedErrorExpectingOk.class, reason);
+        }
     }
 
     @Override
     public boolean equals(Object other) {
         return other instanceof UnwrappedErrorExpectingOk
-            && ((UnwrappedErrorExpectingOk) other).getMessage().equals(getMessage());
+            && Objects.equals(((UnwrappedErrorExpectingOk) other).getMessage(), getMessage());
     }
 
     @Override
     public int hashCode() {
         return 31 * (getCause() != null
             ? getCause().hashCode()
-            : getMessage().hashCode());
+            : Objects.hashCode(getMessage()));
     }
 }
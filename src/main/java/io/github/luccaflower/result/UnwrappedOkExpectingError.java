@@ -1,22 +1,66 @@
 package io.github.luccaflower.result;
 
+import io.github.luccaflower.jfr.*;
+import io.github.luccaflower.metrics.*;
+import io.github.luccaflower.trace.*;
+
+import java.util.*;
+
 public class UnwrappedOkExpectingError extends RuntimeException {
+    private static final UnwrappedOkExpectingError SHARED = new UnwrappedOkExpectingError(null, false, false);
+
     public UnwrappedOkExpectingError() {
-        super();
+        this(null, true, StackTracePolicy.captureFor(UnwrappedOkExpectingError.class));
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.panic(UnwrappedOkExpectingError.class);
+        }
+        if (UnionEvents.ENABLED) {
+            UnionEvents.panic(UnwrappedOkExpectingError.class, null);
+        }
     }
 
     public UnwrappedOkExpectingError(String reason) {
-        super(reason);
+        this(reason, true, StackTracePolicy.captureFor(UnwrappedOkExpectingError.class));
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.panic(UnwrappedOkExpectingError.class);
+        }
+        if (UnionEvents.ENABLED) {
+            UnionEvents.panic(UnwrappedOkExpectingError.class, reason);
+        }
+    }
+
+    private UnwrappedOkExpectingError(
+        String reason,
+        boolean enableSuppression,
+        boolean writableStackTrace
+    ) {
+        super(reason, null, enableSuppression, writableStackTrace);
+    }
+
+    /**
+     * Returns a message-less instance, which is shared between throws when the
+     * {@link StackTracePolicy} for this type does not capture a stack trace.
+     */
+    static UnwrappedOkExpectingError create() {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.panic(UnwrappedOkExpectingError.class);
+        }
+        if (UnionEvents.ENABLED) {
+            UnionEvents.panic(UnwrappedOkExpectingError.class, null);
+        }
+        return StackTracePolicy.captureFor(UnwrappedOkExpectingError.class)
+            ? new UnwrappedOkExpectingError(null, true, true)
+            : SHARED;
     }
 
     @Override
     public boolean equals(Object other) {
         return other instanceof UnwrappedOkExpectingError
-            && ((UnwrappedOkExpectingError) other).getMessage().equals(getMessage());
+            && Objects.equals(((UnwrappedOkExpectingError) other).getMessage(), getMessage());
     }
 
     @Override
     public int hashCode() {
-        return 47 * getMessage().hashCode();
+        return 47 * Objects.hashCode(getMessage());
     }
 }
@@ -0,0 +1,58 @@
+package io.github.luccaflower.result;
+
+/**
+ * <p>
+ *     Describes the range of integers for which {@link Result#ok(Object)} and
+ *     {@link io.github.luccaflower.option.Option#some(Object)} return shared
+ *     instances, in the spirit of {@link Integer#valueOf(int)}. Booleans and
+ *     {@link Unit} are always cached.
+ * </p>
+ * <p>
+ *     The range defaults to -128 to 127, and can be changed at startup with the
+ *     {@code union.cache.low} and {@code union.cache.high} system properties.
+ *     The range is cut off above so that it holds at most {@link #MAX_SIZE}
+ *     integers.
+ * </p>
+ */
+public final class ValueCache {
+    /**
+     * The largest number of integers that can be cached.
+     */
+    public static final int MAX_SIZE = 1 << 20;
+
+    private static final int LOW = Integer.getInteger("union.cache.low", -128);
+    private static final int HIGH = (int) Math.min(
+        Math.max(LOW - 1L, Integer.getInteger("union.cache.high", 127)),
+        LOW + (long) MAX_SIZE - 1
+    );
+
+    private ValueCache() {}
+
+    /**
+     * The smallest cached integer.
+     */
+    public static int low() {
+        return LOW;
+    }
+
+    /**
+     * The largest cached integer.
+     */
+    public static int high() {
+        return HIGH;
+    }
+
+    /**
+     * The number of cached integers.
+     */
+    public static int size() {
+        return (int) ((long) HIGH - LOW + 1);
+    }
+
+    /**
+     * Returns the position of the integer within the cache, or -1 if it is not cached.
+     */
+    public static int indexOf(int value) {
+        return value >= LOW && value <= HIGH ? value - LOW : -1;
+    }
+}
@@ -0,0 +1,214 @@
+package io.github.luccaflower.result.typed;
+
+
+import io.github.luccaflower.jfr.*;
+import io.github.luccaflower.metrics.*;
+import io.github.luccaflower.option.*;
+import io.github.luccaflower.result.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+@SuppressWarnings("unused")
+public class Err<T, E> implements Result<T, E> {
+    private final E error;
+
+    protected Err(E error) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.errCreated(error);
+        }
+        if (UnionEvents.ENABLED) {
+            UnionEvents.errCreated(error);
+        }
+        this.error = error;
+    }
+
+    /**
+     * Returns the contained error, e.g. {@code case Err<T, E> err -> err.error()}.
+     */
+    public E error() {
+        return error;
+    }
+
+    @Override
+    public io.github.luccaflower.result.Result<T> toResult(Function<? super E, ? extends Exception> toException) {
+        return io.github.luccaflower.result.Result.err(toException.apply(error));
+    }
+
+    @Override
+    public T unwrap() {
+        throw panic(String.valueOf(error));
+    }
+
+    @Override
+    public E unwrapErr() {
+        return error;
+    }
+
+    @Override
+    public <R> Result<R, E> flatMap(Function<? super T, ? extends Result<R, E>> func) {
+        return propagate();
+    }
+
+    @Override
+    public <F> Result<T, F> flatMapErr(Function<? super E, ? extends Result<T, F>> func) {
+        return func.apply(error);
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return Stream.empty();
+    }
+
+    @Override
+    public T unwrapOr(T defaultValue) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.UNWRAP_OR);
+        }
+        Objects.requireNonNull(defaultValue);
+        return defaultValue;
+    }
+
+    @Override
+    public T unwrapOrElse(Supplier<? extends T> defaultFunc) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.UNWRAP_OR_ELSE);
+        }
+        return defaultFunc.get();
+    }
+
+    @Override
+    public T expect(String reason) {
+        throw panic(reason);
+    }
+
+    @Override
+    public E expectErr(String message) {
+        return error;
+    }
+
+    @Override
+    public Result<T, E> ifOk(Consumer<? super T> onOk) {
+        return this;
+    }
+
+    @Override
+    public Result<T, E> ifErr(Consumer<? super E> onErr) {
+        onErr.accept(error);
+        return this;
+    }
+
+    @Override
+    public boolean isOk() {
+        return false;
+    }
+
+    @Override
+    public boolean isOkAnd(Predicate<? super T> p) {
+        return false;
+    }
+
+    @Override
+    public boolean isErr() {
+        return true;
+    }
+
+    @Override
+    public boolean isErrAnd(Predicate<? super E> p) {
+        return p.test(error);
+    }
+
+    @Override
+    public Option<T> okToOption() {
+        return Option.none();
+    }
+
+    @Override
+    public Option<E> errToOption() {
+        return Option.some(error);
+    }
+
+    @Override
+    public <R> Result<R, E> map(Function<? super T, ? extends R> func) {
+        return propagate();
+    }
+
+    @Override
+    public <F> Result<T, F> mapErr(Function<? super E, ? extends F> func) {
+        return Result.err(func.apply(error));
+    }
+
+    @Override
+    public <R> R mapOr(R defaultValue, Function<? super T, ? extends R> func) {
+        Objects.requireNonNull(defaultValue);
+        return defaultValue;
+    }
+
+    @Override
+    public <R> R mapOrElse(
+        Function<? super E, ? extends R> onErr,
+        Function<? super T, ? extends R> onOk
+    ) {
+        return Objects.requireNonNull(onErr.apply(error));
+    }
+
+    @Override
+    public <R> Result<R, E> and(Result<R, E> other) {
+        return propagate();
+    }
+
+    @Override
+    public <F> Result<T, F> or(Result<T, F> other) {
+        if (UnionMetrics.ENABLED) {
+            UnionMetrics.fallback(UnionMetrics.Fallback.OR);
+        }
+        return other;
+    }
+
+    @Override
+    public boolean contains(T candidate) {
+        return false;
+    }
+
+    @Override
+    public boolean containsErr(E candidate) {
+        return error.equals(candidate);
+    }
+
+    @Override
+    public <R> Result<R, E> flatten() {
+        return propagate();
+    }
+
+    @Override
+    public <R> R matches(
+        Function<? super T, ? extends R> ok,
+        Function<? super E, ? extends R> err
+    ) {
+        return Objects.requireNonNull(err.apply(error));
+    }
+
+    private UnwrappedErrorExpectingOk panic(String reason) {
+        return new UnwrappedErrorExpectingOk(
+            reason,
+            error instanceof Throwable ? (Throwable) error : null
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> Result<R, E> propagate() {
+        return (Result<R, E>) this;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Err
+            && ((Err<?, ?>) other).error.equals(this.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return 5 * error.hashCode();
+    }
+}
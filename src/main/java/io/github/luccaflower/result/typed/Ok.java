@@ -0,0 +1,194 @@
+package io.github.luccaflower.result.typed;
+
+
+import io.github.luccaflower.option.*;
+import io.github.luccaflower.result.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+@SuppressWarnings("unused")
+public class Ok<T, E> implements Result<T, E> {
+    private final T value;
+
+    protected Ok(T value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the contained value, e.g. {@code case Ok<T, E> ok -> ok.value()}.
+     */
+    public T value() {
+        return value;
+    }
+
+    @Override
+    public io.github.luccaflower.result.Result<T> toResult(Function<? super E, ? extends Exception> toException) {
+        return io.github.luccaflower.result.Result.ok(value);
+    }
+
+    @Override
+    public T unwrap() {
+        return value;
+    }
+
+    @Override
+    public E unwrapErr() {
+        throw new UnwrappedOkExpectingError();
+    }
+
+    @Override
+    public <R> Result<R, E> flatMap(Function<? super T, ? extends Result<R, E>> func) {
+        return func.apply(value);
+    }
+
+    @Override
+    public <F> Result<T, F> flatMapErr(Function<? super E, ? extends Result<T, F>> func) {
+        return retype();
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return Stream.of(value);
+    }
+
+    @Override
+    public T unwrapOr(T defaultValue) {
+        return value;
+    }
+
+    @Override
+    public T unwrapOrElse(Supplier<? extends T> defaultFunc) {
+        return value;
+    }
+
+    @Override
+    public T expect(String reason) {
+        return value;
+    }
+
+    @Override
+    public E expectErr(String message) {
+        throw new UnwrappedOkExpectingError(message);
+    }
+
+    @Override
+    public Result<T, E> ifOk(Consumer<? super T> onOk) {
+        onOk.accept(value);
+        return this;
+    }
+
+    @Override
+    public Result<T, E> ifErr(Consumer<? super E> onErr) {
+        return this;
+    }
+
+    @Override
+    public boolean isOk() {
+        return true;
+    }
+
+    @Override
+    public boolean isOkAnd(Predicate<? super T> p) {
+        return p.test(value);
+    }
+
+    @Override
+    public boolean isErr() {
+        return false;
+    }
+
+    @Override
+    public boolean isErrAnd(Predicate<? super E> p) {
+        return false;
+    }
+
+    @Override
+    public Option<T> okToOption() {
+        return Option.some(value);
+    }
+
+    @Override
+    public Option<E> errToOption() {
+        return Option.none();
+    }
+
+    @Override
+    public <R> Result<R, E> map(Function<? super T, ? extends R> func) {
+        return Result.ok(func.apply(value));
+    }
+
+    @Override
+    public <F> Result<T, F> mapErr(Function<? super E, ? extends F> func) {
+        return retype();
+    }
+
+    @Override
+    public <R> R mapOr(R defaultValue, Function<? super T, ? extends R> func) {
+        return Objects.requireNonNull(func.apply(value));
+    }
+
+    @Override
+    public <R> R mapOrElse(
+        Function<? super E, ? extends R> onErr,
+        Function<? super T, ? extends R> onOk
+    ) {
+        return Objects.requireNonNull(onOk.apply(value));
+    }
+
+    @Override
+    public <R> Result<R, E> and(Result<R, E> other) {
+        return other;
+    }
+
+    @Override
+    public <F> Result<T, F> or(Result<T, F> other) {
+        return retype();
+    }
+
+    @Override
+    public boolean contains(T candidate) {
+        return value.equals(candidate);
+    }
+
+    @Override
+    public boolean containsErr(E candidate) {
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> Result<R, E> flatten() {
+        return value instanceof Result<?, ?>
+            ? ((Result<?, E>) value).flatten()
+            : (Result<R, E>) this;
+    }
+
+    @Override
+    public <R> R matches(
+        Function<? super T, ? extends R> ok,
+        Function<? super E, ? extends R> err
+    ) {
+        return Objects.requireNonNull(ok.apply(value));
+    }
+
+    /**
+     * An Ok holds no error, so it can stand in for an Ok of any error type.
+     */
+    @SuppressWarnings("unchecked")
+    private <F> Result<T, F> retype() {
+        return (Result<T, F>) this;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Ok
+            && ((Ok<?, ?>) other).value.equals(this.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return 13 * value.hashCode();
+    }
+}
@@ -0,0 +1,223 @@
+package io.github.luccaflower.result.typed;
+
+import io.github.luccaflower.option.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * <p>
+ *     A Result whose error can be of any type, not just an {@link Exception}.
+ *     Use it for expected, frequent failures such as "not found" or a validation
+ *     code, where the error can be an enum constant or a small value object and
+ *     creating it costs no more than a reference:
+ * </p>
+ * <pre>{@code
+ * enum LookupError { NOT_FOUND, RATE_LIMITED }
+ *
+ * Result<User, LookupError> user = Result.err(LookupError.NOT_FOUND);
+ * }</pre>
+ * <p>
+ *     The API mirrors {@link io.github.luccaflower.result.Result}, except that
+ *     {@link #mapErr(Function)}, {@link #flatMapErr(Function)} and {@link #or(Result)}
+ *     may change the error type. {@link #from(io.github.luccaflower.result.Result)}
+ *     and {@link #toResult(Function)} convert between the two.
+ * </p>
+ * <p>
+ *     On Java 17 and later the multi-release jar seals this interface to
+ *     {@link Ok} and {@link Err}.
+ * </p>
+ * @param <T> The object-type contained within the Ok-variant
+ * @param <E> The error-type contained within the Error-variant
+ */
+@SuppressWarnings("unused")
+public interface Result<T, E> {
+
+    /**
+     * Instantiate an Ok-variant containing the passed parameter.
+     */
+    static <T, E> Result<T, E> ok(T value) {
+        Objects.requireNonNull(value);
+        return new Ok<>(value);
+    }
+
+    /**
+     * Instantiate an Error-variant containing the passed error.
+     */
+    static <T, E> Result<T, E> err(E error) {
+        Objects.requireNonNull(error);
+        return new Err<>(error);
+    }
+
+    /**
+     * Converts a Result with an Exception as its error.
+     */
+    static <T> Result<T, Exception> from(io.github.luccaflower.result.Result<T> result) {
+        return result.matches(Result::ok, Result::err);
+    }
+
+    /**
+     * Converts to a Result with an Exception as its error, using the function
+     * to turn the error into an Exception.
+     */
+    io.github.luccaflower.result.Result<T> toResult(Function<? super E, ? extends Exception> toException);
+
+    /**
+     * Tries to extract the object contained within an Ok-variant.
+     * @throws io.github.luccaflower.result.UnwrappedErrorExpectingOk if called on an Error-variant.
+     * Its message is the error, and its cause is the error if that is a Throwable.
+     */
+    T unwrap();
+
+    /**
+     * Tries to extract the error contained within an Error-variant.
+     * @throws io.github.luccaflower.result.UnwrappedOkExpectingError if called on an Ok-variant
+     */
+    E unwrapErr();
+
+    /**
+     * On an Ok-variant, this method applies the passed function to the inner
+     * object and returns the result.
+     */
+    <R> Result<R, E> flatMap(Function<? super T, ? extends Result<R, E>> func);
+
+    /**
+     * On an Error-variant, this method applies the passed function to the inner
+     * error and returns the result, which may have a different error type.
+     */
+    <F> Result<T, F> flatMapErr(Function<? super E, ? extends Result<T, F>> func);
+
+    /**
+     * Return a stream of the maybe-contained object of an Ok-variant. Returns an
+     * empty stream on an Error-variant.
+     */
+    Stream<T> stream();
+
+    /**
+     * Returns the object contained within an Ok-variant, or the default value on Error.
+     */
+    T unwrapOr(T defaultValue);
+
+    /**
+     * Returns the object contained within an Ok-variant, or the result of
+     * evaluating the default function on Error.
+     */
+    T unwrapOrElse(Supplier<? extends T> defaultFunc);
+
+    /**
+     * Tries to extract the object contained within an Ok-variant.
+     * @throws io.github.luccaflower.result.UnwrappedErrorExpectingOk containing
+     * the reason-parameter when called on an Error.
+     */
+    T expect(String reason);
+
+    /**
+     * Tries to extract the error contained within an Error-variant.
+     * @throws io.github.luccaflower.result.UnwrappedOkExpectingError containing
+     * the reason-parameter when called on an Ok.
+     */
+    E expectErr(String message);
+
+    /**
+     * Passes the object contained within an Ok-variant to the consumer.
+     */
+    Result<T, E> ifOk(Consumer<? super T> onOk);
+
+    /**
+     * Passes the error contained within an Error-variant to the consumer.
+     */
+    Result<T, E> ifErr(Consumer<? super E> onErr);
+
+    /**
+     * Returns true on Ok and false on Error
+     */
+    boolean isOk();
+
+    /**
+     * Returns the result of applying the predicate to the inner object on Ok,
+     * and false on Error.
+     */
+    boolean isOkAnd(Predicate<? super T> p);
+
+    /**
+     * Returns true on Error and false on Ok
+     */
+    boolean isErr();
+
+    /**
+     * Returns the result of applying the predicate to the inner error on
+     * Error and false on Ok
+     */
+    boolean isErrAnd(Predicate<? super E> p);
+
+    /**
+     * Returns Some containing the inner object on Ok and None on Error.
+     */
+    Option<T> okToOption();
+
+    /**
+     * Returns Some containing the inner error on Error and None on Ok.
+     */
+    Option<E> errToOption();
+
+    /**
+     * Applies the function to the inner object and returns an Ok containing the
+     * result, if called on Ok. Does nothing on Error.
+     */
+    <R> Result<R, E> map(Function<? super T, ? extends R> func);
+
+    /**
+     * Applies the function to the inner error and returns an Error containing the
+     * result, if called on Error. Does nothing on Ok.
+     */
+    <F> Result<T, F> mapErr(Function<? super E, ? extends F> func);
+
+    /**
+     * Applies the function to the inner object on Ok, and returns the default
+     * value on Error.
+     */
+    <R> R mapOr(R defaultValue, Function<? super T, ? extends R> func);
+
+    /**
+     * Applies the Ok-function to the inner object on Ok, and the Error-function
+     * to the inner error on Error.
+     */
+    <R> R mapOrElse(
+        Function<? super E, ? extends R> onErr,
+        Function<? super T, ? extends R> onOk
+    );
+
+    /**
+     * Returns the second Result if both are Ok, otherwise returns the first Error.
+     */
+    <R> Result<R, E> and(Result<R, E> other);
+
+    /**
+     * Returns the first Ok-value. If both Results are Errors, it returns the second Error.
+     */
+    <F> Result<T, F> or(Result<T, F> other);
+
+    /**
+     * Checks for equality between the candidate and the object contained within an Ok.
+     */
+    boolean contains(T candidate);
+
+    /**
+     * Checks for equality between the candidate and the error contained within an Error.
+     */
+    boolean containsErr(E candidate);
+
+    /**
+     * Flattens any nested Results with the same error type.
+     */
+    <R> Result<R, E> flatten();
+
+    /**
+     * Evaluates the Ok-function on Ok, and the Error-function on Error.
+     */
+    <R> R matches(
+        Function<? super T, ? extends R> ok,
+        Function<? super E, ? extends R> err
+    );
+}
@@ -0,0 +1,402 @@
+package io.github.luccaflower.store;
+
+import io.github.luccaflower.codec.*;
+import io.github.luccaflower.result.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * <p>
+ *     An append-only store of Results kept in a file rather than on the heap,
+ *     for outcome batches too large to collect into a {@code List<Result<T>>}.
+ *     Each Result is written as a record in the {@link Frames} layout of a
+ *     {@link ResultCodec}: a one-byte tag, a four-byte payload length and the
+ *     payload, where the payload is the Ok value encoded by a
+ *     {@link ValueCodec} or the Error encoded by a second codec:
+ * </p>
+ * <pre>{@code
+ * try (OutcomeStore<String> store = OutcomeStore.temporary(ValueCodec.utf8())) {
+ *     store.appendAll(records.map(Reconciler::reconcile));
+ *     log.info("{} failed, first: {}", store.errCount(), store.firstErrors(10));
+ *     store.oks().forEach(publisher::publish);
+ * }
+ * }</pre>
+ * <p>
+ *     Appends go through a fixed-size direct buffer. Reads map the file in
+ *     windows and decode one record at a time, so iterating over a
+ *     multi-gigabyte store needs no more heap than a single record. Counts
+ *     are kept as records are appended and cost nothing to read. Summaries
+ *     over one variant skip the payloads of the other without decoding them.
+ * </p>
+ * <p>
+ *     Every read first flushes pending appends. A stream or iterator covers the
+ *     records that existed when it was created. A store is not thread-safe.
+ *     I/O failures after creation are thrown as {@link UncheckedIOException}.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public final class OutcomeStore<T> implements Iterable<Result<T>>, AutoCloseable {
+    private static final byte OK = 0;
+    private static final byte ERR = 1;
+
+    private final Path file;
+    private final boolean temporary;
+    private final FileChannel channel;
+    private final ValueCodec<T> codec;
+    private final ValueCodec<Exception> errorCodec;
+    private final int windowSize;
+    private ByteBuffer buffer;
+    private long flushed;
+    private long okCount;
+    private long errCount;
+    private boolean closed;
+
+    private OutcomeStore(Builder<T> builder, Path file, boolean temporary) throws IOException {
+        this.file = file;
+        this.temporary = temporary;
+        this.channel = FileChannel.open(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        );
+        this.codec = builder.codec;
+        this.errorCodec = builder.errorCodec;
+        this.windowSize = builder.windowSize;
+        this.buffer = ByteBuffer.allocateDirect(builder.bufferSize);
+    }
+
+    /**
+     * Creates a store in the file, replacing its contents. The file is kept
+     * when the store is closed.
+     */
+    public static <T> OutcomeStore<T> create(Path file, ValueCodec<T> codec) throws IOException {
+        return builder(codec).create(file);
+    }
+
+    /**
+     * Creates a store in a temporary file, which is deleted when the store is
+     * closed.
+     */
+    public static <T> OutcomeStore<T> temporary(ValueCodec<T> codec) throws IOException {
+        return builder(codec).temporary();
+    }
+
+    public static <T> Builder<T> builder(ValueCodec<T> codec) {
+        return new Builder<>(codec);
+    }
+
+    public OutcomeStore<T> append(Result<T> result) {
+        return result.isOk() ? appendOk(result.unwrap()) : appendErr(result.unwrapErr());
+    }
+
+    public OutcomeStore<T> appendOk(T value) {
+        write(OK, Objects.requireNonNull(value), codec);
+        okCount++;
+        return this;
+    }
+
+    public OutcomeStore<T> appendErr(Exception error) {
+        write(ERR, Objects.requireNonNull(error), errorCodec);
+        errCount++;
+        return this;
+    }
+
+    /**
+     * Appends every Result of the stream in encounter order.
+     */
+    public OutcomeStore<T> appendAll(Stream<? extends Result<T>> results) {
+        results.sequential().forEachOrdered(this::append);
+        return this;
+    }
+
+    /**
+     * Returns the file the records are kept in.
+     */
+    public Path file() {
+        return file;
+    }
+
+    public long size() {
+        return okCount + errCount;
+    }
+
+    public long okCount() {
+        return okCount;
+    }
+
+    public long errCount() {
+        return errCount;
+    }
+
+    /**
+     * Returns the number of bytes the records take up, including pending
+     * appends that have not yet been flushed to the file.
+     */
+    public long sizeInBytes() {
+        return flushed + buffer.position();
+    }
+
+    /**
+     * Iterates over every record, decoding each into a Result as it is reached.
+     */
+    @Override
+    public Iterator<Result<T>> iterator() {
+        Cursor cursor = cursor();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return cursor.hasNext();
+            }
+
+            @Override
+            public Result<T> next() {
+                cursor.advance();
+                return cursor.tag == OK
+                    ? Result.ok(codec.read(cursor.payload))
+                    : Err.uncounted(errorCodec.read(cursor.payload));
+            }
+        };
+    }
+
+    public Stream<Result<T>> stream() {
+        return StreamSupport.stream(
+            Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.NONNULL),
+            false
+        );
+    }
+
+    /**
+     * Streams the Ok values in order, without decoding the Errors.
+     */
+    public Stream<T> oks() {
+        return variant(OK, okCount, codec);
+    }
+
+    /**
+     * Streams the Errors in order, without decoding the Ok values.
+     */
+    public Stream<Exception> errs() {
+        return variant(ERR, errCount, errorCodec);
+    }
+
+    /**
+     * Returns up to the first {@code n} Errors, reading no further into the
+     * file than the last of them.
+     */
+    public List<Exception> firstErrors(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative");
+        }
+        return errs().limit(n).collect(Collectors.toList());
+    }
+
+    /**
+     * Flushes pending appends and closes the file, deleting it if the store is
+     * temporary. Streams and iterators cannot be advanced past the windows they
+     * have already mapped once the store is closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            flush();
+        } finally {
+            try {
+                channel.close();
+            } finally {
+                if (temporary) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private <V> Stream<V> variant(byte tag, long count, ValueCodec<V> variantCodec) {
+        Cursor cursor = cursor();
+        Iterator<V> iterator = new Iterator<>() {
+            private boolean ready;
+
+            @Override
+            public boolean hasNext() {
+                while (!ready && cursor.hasNext()) {
+                    cursor.advance();
+                    ready = cursor.tag == tag;
+                }
+                return ready;
+            }
+
+            @Override
+            public V next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ready = false;
+                return variantCodec.read(cursor.payload);
+            }
+        };
+        return StreamSupport.stream(
+            Spliterators.spliterator(iterator, count, Spliterator.ORDERED | Spliterator.NONNULL),
+            false
+        );
+    }
+
+    private <V> void write(byte tag, V value, ValueCodec<? super V> valueCodec) {
+        ensureOpen();
+        while (true) {
+            try {
+                Frames.write(tag, value, valueCodec, buffer);
+                return;
+            } catch (BufferOverflowException e) {
+                if (buffer.position() == 0) {
+                    buffer = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+                    continue;
+                }
+            }
+            flushUnchecked();
+        }
+    }
+
+    private Cursor cursor() {
+        ensureOpen();
+        flushUnchecked();
+        return new Cursor(flushed);
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            flushed += channel.write(buffer, flushed);
+        }
+        buffer.clear();
+    }
+
+    private void flushUnchecked() {
+        try {
+            flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("OutcomeStore is closed");
+        }
+    }
+
+    /**
+     * Walks the records up to a fixed end, mapping a new window of the file
+     * whenever the next header or payload runs past the current one.
+     */
+    private final class Cursor {
+        private final long end;
+        private long position;
+        private MappedByteBuffer window;
+        private long windowStart;
+        private byte tag;
+        private ByteBuffer payload;
+
+        Cursor(long end) {
+            this.end = end;
+        }
+
+        boolean hasNext() {
+            return position < end;
+        }
+
+        void advance() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ByteBuffer header = region(position, Frames.HEADER);
+            tag = header.get();
+            int length = header.getInt();
+            if ((tag != OK && tag != ERR) || length < 0) {
+                throw new IllegalStateException("Corrupt record at offset " + position + " of " + file);
+            }
+            payload = region(position + Frames.HEADER, length);
+            position += Frames.HEADER + length;
+        }
+
+        private ByteBuffer region(long offset, int length) {
+            if (window == null || offset < windowStart || offset + length > windowStart + window.capacity()) {
+                try {
+                    window = channel.map(
+                        FileChannel.MapMode.READ_ONLY,
+                        offset,
+                        Math.min(end - offset, Math.max(windowSize, length))
+                    );
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                windowStart = offset;
+            }
+            int start = (int) (offset - windowStart);
+            return window.duplicate().limit(start + length).position(start);
+        }
+    }
+
+    /**
+     * Configures the codecs and buffer sizes of a store.
+     */
+    public static final class Builder<T> {
+        private final ValueCodec<T> codec;
+        private ValueCodec<Exception> errorCodec = ValueCodec.exceptions();
+        private int bufferSize = 64 * 1024;
+        private int windowSize = 64 * 1024 * 1024;
+
+        private Builder(ValueCodec<T> codec) {
+            this.codec = Objects.requireNonNull(codec);
+        }
+
+        /**
+         * Sets the codec for Errors. Defaults to {@link ValueCodec#exceptions()}.
+         */
+        public Builder<T> errorCodec(ValueCodec<Exception> errorCodec) {
+            this.errorCodec = Objects.requireNonNull(errorCodec);
+            return this;
+        }
+
+        /**
+         * Sets the initial size of the append buffer. It grows if a single
+         * record does not fit. Defaults to 64 KiB.
+         */
+        public Builder<T> bufferSize(int bufferSize) {
+            if (bufferSize < Frames.HEADER) {
+                throw new IllegalArgumentException("bufferSize must be at least " + Frames.HEADER);
+            }
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * Sets how much of the file is mapped at a time while reading. Defaults
+         * to 64 MiB.
+         */
+        public Builder<T> windowSize(int windowSize) {
+            if (windowSize <= 0) {
+                throw new IllegalArgumentException("windowSize must be positive");
+            }
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        public OutcomeStore<T> create(Path file) throws IOException {
+            return new OutcomeStore<>(this, file, false);
+        }
+
+        public OutcomeStore<T> temporary() throws IOException {
+            return new OutcomeStore<>(this, Files.createTempFile("outcomes", ".bin"), true);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.luccaflower.trace;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * <p>
+ *     Decides whether the exceptions thrown and created by this library capture
+ *     a stack trace when they are constructed. Filling in a stack trace is by far
+ *     the most expensive part of creating an exception, so services that produce
+ *     a lot of Errors or unwrap a lot of Nones may want to turn it off.
+ * </p>
+ * <p>
+ *     A default policy applies to every exception type, and can be overridden
+ *     per type with {@link #set(Class, StackTracePolicy)}. The default policy
+ *     is {@link #always()}, which matches the behaviour of ordinary exceptions.
+ * </p>
+ * <p>
+ *     Exceptions that carry neither a message nor a cause may be shared between
+ *     throws when their policy does not capture a stack trace. Shared instances
+ *     have suppression disabled, so they cannot be mutated.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public abstract class StackTracePolicy {
+    private static final StackTracePolicy ALWAYS = new StackTracePolicy() {
+        @Override
+        public boolean capture() {
+            return true;
+        }
+    };
+    private static final StackTracePolicy NEVER = new StackTracePolicy() {
+        @Override
+        public boolean capture() {
+            return false;
+        }
+    };
+    private static final StackTracePolicy DEBUG_ONLY = new StackTracePolicy() {
+        @Override
+        public boolean capture() {
+            return debug;
+        }
+    };
+
+    private static final Map<Class<?>, StackTracePolicy> overrides = new ConcurrentHashMap<>();
+    private static volatile StackTracePolicy defaultPolicy = ALWAYS;
+    private static volatile boolean debug = Boolean.getBoolean("union.debug");
+
+    protected StackTracePolicy() {}
+
+    /**
+     * Returns true if the exception currently being constructed should capture
+     * its stack trace.
+     */
+    public abstract boolean capture();
+
+    /**
+     * Always capture a stack trace.
+     */
+    public static StackTracePolicy always() {
+        return ALWAYS;
+    }
+
+    /**
+     * Never capture a stack trace.
+     */
+    public static StackTracePolicy never() {
+        return NEVER;
+    }
+
+    /**
+     * Capture a stack trace for, on average, one in every N exceptions.
+     */
+    public static StackTracePolicy sampled(int oneIn) {
+        if (oneIn < 1) {
+            throw new IllegalArgumentException("Sampling rate must be positive: " + oneIn);
+        }
+        return new StackTracePolicy() {
+            @Override
+            public boolean capture() {
+                return ThreadLocalRandom.current().nextInt(oneIn) == 0;
+            }
+        };
+    }
+
+    /**
+     * Capture a stack trace only while debug mode is enabled. Debug mode is
+     * enabled with the {@code union.debug} system property or {@link #setDebug(boolean)}.
+     */
+    public static StackTracePolicy debugOnly() {
+        return DEBUG_ONLY;
+    }
+
+    /**
+     * Sets the policy used for every exception type without an override of its own.
+     */
+    public static void setDefault(StackTracePolicy policy) {
+        defaultPolicy = Objects.requireNonNull(policy);
+    }
+
+    /**
+     * Overrides the policy for the given exception type. Subclasses of the
+     * type are not affected.
+     */
+    public static void set(Class<? extends Throwable> type, StackTracePolicy policy) {
+        overrides.put(Objects.requireNonNull(type), Objects.requireNonNull(policy));
+    }
+
+    /**
+     * Removes all per-type overrides and restores the default policy to {@link #always()}.
+     */
+    public static void reset() {
+        overrides.clear();
+        defaultPolicy = ALWAYS;
+    }
+
+    /**
+     * Returns the policy in effect for the given exception type.
+     */
+    public static StackTracePolicy of(Class<? extends Throwable> type) {
+        if (overrides.isEmpty()) {
+            return defaultPolicy;
+        }
+        return overrides.getOrDefault(type, defaultPolicy);
+    }
+
+    /**
+     * Returns true if an exception of the given type should capture its stack
+     * trace right now.
+     */
+    public static boolean captureFor(Class<? extends Throwable> type) {
+        return of(type).capture();
+    }
+
+    public static boolean isDebug() {
+        return debug;
+    }
+
+    public static void setDebug(boolean enabled) {
+        debug = enabled;
+    }
+}
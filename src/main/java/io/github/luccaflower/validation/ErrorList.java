@@ -0,0 +1,165 @@
+package io.github.luccaflower.validation;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * <p>
+ *     An immutable, ordered list of errors that can be concatenated in constant
+ *     time. Concatenation shares both operands instead of copying them, so
+ *     combining the errors of thousands of checks never copies a list. Iteration
+ *     walks the shared structure without recursion.
+ * </p>
+ * <p>
+ *     Serializes as a flat array of its errors, so a deeply nested list does
+ *     not overflow the stack when written.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public final class ErrorList implements Iterable<Exception>, Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final ErrorList EMPTY = new ErrorList(null, null, null, 0);
+
+    private final Exception error;
+    private final ErrorList left;
+    private final ErrorList right;
+    private final int size;
+
+    private ErrorList(Exception error, ErrorList left, ErrorList right, int size) {
+        this.error = error;
+        this.left = left;
+        this.right = right;
+        this.size = size;
+    }
+
+    public static ErrorList empty() {
+        return EMPTY;
+    }
+
+    public static ErrorList of(Exception error) {
+        return new ErrorList(Objects.requireNonNull(error), null, null, 1);
+    }
+
+    public static ErrorList of(Iterable<? extends Exception> errors) {
+        ErrorList list = EMPTY;
+        for (Exception error : errors) {
+            list = list.concat(of(error));
+        }
+        return list;
+    }
+
+    /**
+     * Returns a list of these errors followed by the other errors, in constant time.
+     */
+    public ErrorList concat(ErrorList other) {
+        if (size == 0) {
+            return other;
+        } else if (other.size == 0) {
+            return this;
+        }
+        return new ErrorList(null, this, other, Math.addExact(size, other.size));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the first error.
+     * @throws NoSuchElementException if the list is empty
+     */
+    public Exception first() {
+        return iterator().next();
+    }
+
+    @Override
+    public Iterator<Exception> iterator() {
+        return new Iterator<>() {
+            private final Deque<ErrorList> pending = new ArrayDeque<>(size == 0 ? List.of() : List.of(ErrorList.this));
+
+            @Override
+            public boolean hasNext() {
+                return !pending.isEmpty();
+            }
+
+            @Override
+            public Exception next() {
+                if (pending.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                ErrorList node = pending.pop();
+                while (node.error == null) {
+                    pending.push(node.right);
+                    node = node.left;
+                }
+                return node.error;
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<Exception> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    public Stream<Exception> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public List<Exception> toList() {
+        List<Exception> list = new ArrayList<>(size);
+        forEach(list::add);
+        return list;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ErrorList
+            && ((ErrorList) other).size == size
+            && ((ErrorList) other).toList().equals(toList());
+    }
+
+    @Override
+    public int hashCode() {
+        return toList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    private Object writeReplace() {
+        return new Flat(toList().toArray(new Exception[0]));
+    }
+
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("ErrorList is serialized in its flat form");
+    }
+
+    private static final class Flat implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Exception[] errors;
+
+        private Flat(Exception[] errors) {
+            this.errors = errors;
+        }
+
+        private Object readResolve() throws ObjectStreamException {
+            if (errors == null) {
+                throw new InvalidObjectException("Missing errors");
+            }
+            try {
+                return ErrorList.of(Arrays.asList(errors));
+            } catch (NullPointerException e) {
+                throw new InvalidObjectException("Null error");
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.luccaflower.validation;
+
+
+import io.github.luccaflower.result.*;
+
+import java.util.*;
+import java.util.function.*;
+
+@SuppressWarnings("unused")
+public class Invalid<T> implements Validation<T> {
+    private final ErrorList errors;
+
+    protected Invalid(ErrorList errors) {
+        this.errors = errors;
+    }
+
+    @Override
+    public Result<T> toResult() {
+        return Result.err(new ValidationException(errors));
+    }
+
+    @Override
+    public boolean isValid() {
+        return false;
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return true;
+    }
+
+    @Override
+    public ErrorList errors() {
+        return errors;
+    }
+
+    @Override
+    public T unwrap() {
+        throw new UnwrappedErrorExpectingOk(new ValidationException(errors));
+    }
+
+    @Override
+    public T unwrapOr(T defaultValue) {
+        Objects.requireNonNull(defaultValue);
+        return defaultValue;
+    }
+
+    @Override
+    public <R> Validation<R> map(Function<? super T, ? extends R> func) {
+        return propagate();
+    }
+
+    @Override
+    public <R> Validation<R> flatMap(Function<? super T, ? extends Validation<R>> func) {
+        return propagate();
+    }
+
+    @Override
+    public Validation<T> and(Validation<?> other) {
+        return other.isValid() ? this : new Invalid<>(errors.concat(other.errors()));
+    }
+
+    @Override
+    public <U, R> Validation<R> combine(
+        Validation<U> other,
+        BiFunction<? super T, ? super U, ? extends R> func
+    ) {
+        return other.isValid() ? propagate() : new Invalid<>(errors.concat(other.errors()));
+    }
+
+    @Override
+    public <R> R matches(
+        Function<? super T, ? extends R> valid,
+        Function<? super ErrorList, ? extends R> invalid
+    ) {
+        return Objects.requireNonNull(invalid.apply(errors));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> Validation<R> propagate() {
+        return (Validation<R>) this;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Invalid
+            && ((Invalid<?>) other).errors.equals(this.errors);
+    }
+
+    @Override
+    public int hashCode() {
+        return 19 * errors.hashCode();
+    }
+}
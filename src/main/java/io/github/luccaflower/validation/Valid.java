@@ -0,0 +1,94 @@
+package io.github.luccaflower.validation;
+
+
+import io.github.luccaflower.result.*;
+
+import java.util.*;
+import java.util.function.*;
+
+@SuppressWarnings("unused")
+public class Valid<T> implements Validation<T> {
+    private final T value;
+
+    protected Valid(T value) {
+        this.value = value;
+    }
+
+    public T value() {
+        return value;
+    }
+
+    @Override
+    public Result<T> toResult() {
+        return Result.ok(value);
+    }
+
+    @Override
+    public boolean isValid() {
+        return true;
+    }
+
+    @Override
+    public boolean isInvalid() {
+        return false;
+    }
+
+    @Override
+    public ErrorList errors() {
+        return ErrorList.empty();
+    }
+
+    @Override
+    public T unwrap() {
+        return value;
+    }
+
+    @Override
+    public T unwrapOr(T defaultValue) {
+        return value;
+    }
+
+    @Override
+    public <R> Validation<R> map(Function<? super T, ? extends R> func) {
+        return Validation.valid(func.apply(value));
+    }
+
+    @Override
+    public <R> Validation<R> flatMap(Function<? super T, ? extends Validation<R>> func) {
+        return func.apply(value);
+    }
+
+    @Override
+    public Validation<T> and(Validation<?> other) {
+        return other.isValid() ? this : Validation.invalid(other.errors());
+    }
+
+    @Override
+    public <U, R> Validation<R> combine(
+        Validation<U> other,
+        BiFunction<? super T, ? super U, ? extends R> func
+    ) {
+        return other.isValid()
+            ? Validation.valid(func.apply(value, other.unwrap()))
+            : Validation.invalid(other.errors());
+    }
+
+    @Override
+    public <R> R matches(
+        Function<? super T, ? extends R> valid,
+        Function<? super ErrorList, ? extends R> invalid
+    ) {
+        return Objects.requireNonNull(valid.apply(value));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Valid
+            && ((Valid<?>) other).value.equals(this.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return 17 * value.hashCode();
+    }
+}
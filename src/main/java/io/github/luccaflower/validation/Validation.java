@@ -0,0 +1,136 @@
+package io.github.luccaflower.validation;
+
+import io.github.luccaflower.result.*;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * <p>
+ *     Validation is like a {@link Result} that keeps every error instead of
+ *     only the first. Independent checks are combined with {@link #and(Validation)}
+ *     and {@link #combine(Validation, BiFunction)}, which run all of them and
+ *     gather the errors of those that fail:
+ * </p>
+ * <pre>{@code
+ * Validation<Row> row = Validation.validate(input, List.of(
+ *     r -> r.name().isEmpty() ? Validation.invalid(new Exception("missing name")) : Validation.valid(r),
+ *     r -> r.age() < 0 ? Validation.invalid(new Exception("negative age")) : Validation.valid(r)
+ * ));
+ * }</pre>
+ * <p>
+ *     The errors are kept in an {@link ErrorList}, so combining two Invalid
+ *     Validations takes constant time regardless of how many errors they hold.
+ * </p>
+ * @param <T> The object-type contained within the Valid-variant
+ */
+@SuppressWarnings("unused")
+public interface Validation<T> {
+
+    static <T> Validation<T> valid(T value) {
+        Objects.requireNonNull(value);
+        return new Valid<>(value);
+    }
+
+    static <T> Validation<T> invalid(Exception error) {
+        return new Invalid<>(ErrorList.of(error));
+    }
+
+    static <T> Validation<T> invalid(ErrorList errors) {
+        if (errors.isEmpty()) {
+            throw new IllegalArgumentException("An Invalid Validation needs at least one error");
+        }
+        return new Invalid<>(errors);
+    }
+
+    /**
+     * Converts a Result. An Error holding a {@link ValidationException} becomes
+     * Invalid with all the errors of the exception, any other Error becomes
+     * Invalid with that single error.
+     */
+    static <T> Validation<T> from(Result<T> result) {
+        return result.matches(
+            Validation::valid,
+            error -> error instanceof ValidationException
+                ? invalid(((ValidationException) error).errors())
+                : invalid(error)
+        );
+    }
+
+    /**
+     * Applies every rule to the value, and returns the value if all of them
+     * pass, or every error from the rules that fail.
+     */
+    static <T> Validation<T> validate(
+        T value,
+        Iterable<? extends Function<? super T, ? extends Validation<?>>> rules
+    ) {
+        ErrorList errors = ErrorList.empty();
+        for (Function<? super T, ? extends Validation<?>> rule : rules) {
+            errors = errors.concat(rule.apply(value).errors());
+        }
+        return errors.isEmpty() ? valid(value) : invalid(errors);
+    }
+
+    /**
+     * Collects a stream of Validations into a Valid list of every value, or an
+     * Invalid with the errors of every Invalid element in encounter order.
+     */
+    static <T> Collector<Validation<T>, ?, Validation<List<T>>> collector() {
+        return ValidationCollectors.all();
+    }
+
+    /**
+     * Converts to a Result. Invalid becomes an Error containing a
+     * {@link ValidationException} with every error.
+     */
+    Result<T> toResult();
+
+    boolean isValid();
+
+    boolean isInvalid();
+
+    /**
+     * Returns the errors, which are empty on Valid.
+     */
+    ErrorList errors();
+
+    /**
+     * Tries to extract the object contained within a Valid-variant.
+     * @throws UnwrappedErrorExpectingOk containing a {@link ValidationException} if called on Invalid.
+     */
+    T unwrap();
+
+    T unwrapOr(T defaultValue);
+
+    <R> Validation<R> map(Function<? super T, ? extends R> func);
+
+    /**
+     * Continues with a dependent check on Valid. Unlike {@link #and(Validation)},
+     * this cannot accumulate errors, as the next check needs the value.
+     */
+    <R> Validation<R> flatMap(Function<? super T, ? extends Validation<R>> func);
+
+    /**
+     * Keeps this value if both are Valid, otherwise returns the errors of both.
+     */
+    Validation<T> and(Validation<?> other);
+
+    /**
+     * Combines the values with the function if both are Valid, otherwise
+     * returns the errors of both.
+     */
+    <U, R> Validation<R> combine(
+        Validation<U> other,
+        BiFunction<? super T, ? super U, ? extends R> func
+    );
+
+    /**
+     * Evaluates the Valid-function on Valid, and the Invalid-function on Invalid.
+     */
+    <R> R matches(
+        Function<? super T, ? extends R> valid,
+        Function<? super ErrorList, ? extends R> invalid
+    );
+}
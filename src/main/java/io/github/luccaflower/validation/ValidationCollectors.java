@@ -0,0 +1,51 @@
+package io.github.luccaflower.validation;
+
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * The collector behind {@link Validation#collector()}. Values are dropped as
+ * soon as the first error arrives, since they can no longer be returned.
+ */
+final class ValidationCollectors {
+    private ValidationCollectors() {}
+
+    static <T> Collector<Validation<T>, ?, Validation<List<T>>> all() {
+        return Collector.of(
+            State<T>::new,
+            State::add,
+            State::combine,
+            State::finish
+        );
+    }
+
+    private static final class State<T> {
+        private List<T> values = new ArrayList<>();
+        private ErrorList errors = ErrorList.empty();
+
+        void add(Validation<T> validation) {
+            if (validation.isValid()) {
+                if (values != null) {
+                    values.add(validation.unwrap());
+                }
+            } else {
+                errors = errors.concat(validation.errors());
+                values = null;
+            }
+        }
+
+        State<T> combine(State<T> right) {
+            errors = errors.concat(right.errors);
+            if (values != null && right.values != null) {
+                values.addAll(right.values);
+            } else {
+                values = null;
+            }
+            return this;
+        }
+
+        Validation<List<T>> finish() {
+            return errors.isEmpty() ? Validation.valid(values) : Validation.invalid(errors);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.luccaflower.validation;
+
+import io.github.luccaflower.trace.*;
+
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * The error of the Result returned by {@link Validation#toResult()}, which
+ * carries every error of the Invalid Validation.
+ */
+public class ValidationException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    private final ErrorList errors;
+
+    public ValidationException(ErrorList errors) {
+        super(null, null, true, StackTracePolicy.captureFor(ValidationException.class));
+        this.errors = Objects.requireNonNull(errors);
+    }
+
+    public ErrorList errors() {
+        return errors;
+    }
+
+    @Override
+    public String getMessage() {
+        return errors.size() + (errors.size() == 1 ? " validation error: " : " validation errors: ")
+            + errors.stream().map(String::valueOf).collect(Collectors.joining(", "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ValidationException
+            && ((ValidationException) other).errors.equals(errors);
+    }
+
+    @Override
+    public int hashCode() {
+        return 53 * errors.hashCode();
+    }
+}
@@ -0,0 +1,168 @@
+import io.github.luccaflower.option.*;
+import io.github.luccaflower.result.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.*;
+
+import java.lang.management.*;
+import java.util.*;
+import java.util.function.*;
+
+import static io.github.luccaflower.option.Option.none;
+import static io.github.luccaflower.option.Option.some;
+import static io.github.luccaflower.result.Result.err;
+import static io.github.luccaflower.result.Result.ok;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures the bytes allocated per operation with the per-thread allocation
+ * counter of HotSpot. Budgeted operations must not allocate at all, and the
+ * variants must not grow beyond a pointer and a header. The footprints and the
+ * shared instances do not depend on the JIT and are always checked; their
+ * sizes are published as report entries so that changes show up in the test
+ * reports. The budgets of operations that go through lambdas and boxing only
+ * run with the {@code allocation} profile ({@code -Dunion.allocation=true}).
+ * The JMH benchmarks with {@code -prof gc} are the authoritative numbers.
+ */
+class AllocationTest {
+    private static final String JIT_BUDGETS = "union.allocation";
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+    private static final int MAX_VARIANT_SIZE = 24;
+    private static final String VALUE = "value";
+    private static final String DEFAULT = "default";
+    private static final Exception ERROR = new Exception("error");
+
+    private static com.sun.management.ThreadMXBean threads;
+    private static volatile int consumed;
+
+    private final Result<String> okResult = ok(VALUE);
+    private final Result<String> errResult = err(ERROR);
+    private final Option<String> someOption = some(VALUE);
+    private final Object[] sink = new Object[1024];
+
+    @BeforeAll
+    static void requireAllocationCounter() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "no per-thread allocation counter");
+        threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "per-thread allocation counter not supported");
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = JIT_BUDGETS, matches = "true")
+    void isOkDoesNotAllocate() {
+        assertThat(bytesPerOp(() -> okResult.isOk() && errResult.isErr() ? 1 : 0), is(lessThan(1.0)));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = JIT_BUDGETS, matches = "true")
+    void unwrapOrOnErrDoesNotAllocate() {
+        assertThat(bytesPerOp(() -> errResult.unwrapOr(DEFAULT).length()), is(lessThan(1.0)));
+    }
+
+    @Test
+    void noneDoesNotAllocate() {
+        assertThat(bytesPerOp(() -> Option.<String>none().isNone() ? 1 : 0), is(lessThan(1.0)));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = JIT_BUDGETS, matches = "true")
+    void matchesDoesNotAllocate() {
+        assertThat(
+            bytesPerOp(() -> okResult.matches(String::length, e -> -1) + errResult.matches(String::length, e -> -1)),
+            is(lessThan(1.0))
+        );
+        assertThat(
+            bytesPerOp(() -> someOption.matches(String::length, () -> -1) + Option.<String>none().matches(String::length, () -> -1)),
+            is(lessThan(1.0))
+        );
+    }
+
+    @Test
+    void cachedValuesDoNotAllocate() {
+        assertThat(bytesPerOp(() -> ok(true).isOk() && some(7).isSome() && ok().isOk() ? 1 : 0), is(lessThan(1.0)));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = JIT_BUDGETS, matches = "true")
+    void nullableOptionsDoNotAllocate() {
+        assertThat(
+            bytesPerOp(() -> Options.unwrapOr(Options.map(Options.filter(VALUE, s -> !s.isEmpty()), String::length), -1)),
+            is(lessThan(1.0))
+        );
+    }
+
+    @Test
+    void variantsFitFootprintBudget(TestReporter reporter) {
+        double okSize = retainedPerOp(i -> ok(VALUE));
+        double errSize = retainedPerOp(i -> err(ERROR));
+        double someSize = retainedPerOp(i -> some(VALUE));
+        double noneSize = retainedPerOp(i -> none());
+        double chainSize = retainedPerOp(i -> ok(VALUE).map(String::trim).flatMap(Result::ok).map(String::length));
+        report(reporter, "Ok", okSize);
+        report(reporter, "Err", errSize);
+        report(reporter, "Some", someSize);
+        report(reporter, "None", noneSize);
+        report(reporter, "ok.map.flatMap.map", chainSize);
+
+        assertThat(okSize, is(lessThanOrEqualTo((double) MAX_VARIANT_SIZE)));
+        assertThat(errSize, is(lessThanOrEqualTo((double) MAX_VARIANT_SIZE)));
+        assertThat(someSize, is(lessThanOrEqualTo((double) MAX_VARIANT_SIZE)));
+        assertThat(noneSize, is(lessThan(1.0)));
+    }
+
+    /**
+     * Average bytes allocated by the operation, after warming it up so that it
+     * runs compiled. The result is kept in a local, so the operation is free to
+     * have its allocations eliminated by escape analysis, as it would in production.
+     */
+    private static double bytesPerOp(IntSupplier op) {
+        int sum = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sum += op.getAsInt();
+        }
+        long overhead = allocated() - allocated();
+        long before = allocated();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sum += op.getAsInt();
+        }
+        long after = allocated();
+        consumed = sum;
+        return Math.max(0, after - before + overhead) / (double) ITERATIONS;
+    }
+
+    /**
+     * Average bytes allocated by the operation when its result escapes, which
+     * is the footprint of the objects it returns.
+     */
+    private double retainedPerOp(IntFunction<Object> op) {
+        for (int i = 0; i < WARMUP; i++) {
+            sink[i & (sink.length - 1)] = op.apply(i);
+        }
+        long overhead = allocated() - allocated();
+        long before = allocated();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink[i & (sink.length - 1)] = op.apply(i);
+        }
+        long after = allocated();
+        return Math.max(0, after - before + overhead) / (double) ITERATIONS;
+    }
+
+    /**
+     * Publishes the size as a JUnit report entry, and as a system property,
+     * which Surefire lists among the properties of the XML report.
+     */
+    private static void report(TestReporter reporter, String name, double bytes) {
+        String key = "union.footprint." + name;
+        String value = String.format(Locale.ROOT, "%.1f", bytes);
+        reporter.publishEntry(key, value);
+        System.setProperty(key, value);
+    }
+
+    private static long allocated() {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
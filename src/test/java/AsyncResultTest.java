@@ -0,0 +1,182 @@
+import io.github.luccaflower.result.*;
+import org.junit.jupiter.api.*;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static io.github.luccaflower.result.Result.err;
+import static io.github.luccaflower.result.Result.ok;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class AsyncResultTest {
+    private ExecutorService executor;
+
+    @BeforeEach
+    void startExecutor() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void mapsAndFlatMapsWithoutBlocking() {
+        var source = new CompletableFuture<Integer>();
+        var mapped = AsyncResult.of(source)
+            .map(v -> v + 1)
+            .flatMap(v -> AsyncResult.completed(ok(v * 2)));
+        assertThat(mapped.isDone(), is(false));
+        source.complete(1);
+        assertThat(mapped.join(), is(ok(4)));
+    }
+
+    @Test
+    void exceptionalStageBecomesErr() {
+        var error = new IllegalStateException();
+        assertThat(AsyncResult.of(CompletableFuture.failedFuture(error)).join(), is(err(error)));
+    }
+
+    @Test
+    void throwingFunctionBecomesErr() {
+        var error = new IllegalArgumentException();
+        assertThat(
+            AsyncResult.completed(ok(1)).map(v -> { throw error; }).join(),
+            is(err(error))
+        );
+    }
+
+    @Test
+    void flatMapErrRecovers() {
+        assertThat(
+            AsyncResult.<Integer>completed(err(new Exception()))
+                .flatMapErr(e -> AsyncResult.completed(ok(2)))
+                .join(),
+            is(ok(2))
+        );
+    }
+
+    @Test
+    void orFallsBackAndAndContinues() {
+        var error = new Exception();
+        assertThat(
+            AsyncResult.<Integer>completed(err(error)).or(AsyncResult.completed(ok(3))).join(),
+            is(ok(3))
+        );
+        assertThat(
+            AsyncResult.completed(ok(1)).and(AsyncResult.completed(err(error))).join(),
+            is(err(error))
+        );
+    }
+
+    @Test
+    void runsOnTheGivenExecutor() {
+        var result = AsyncResult.supplyAsync(() -> ok(Thread.currentThread().getName()), executor)
+            .mapAsync(name -> name + "/" + Thread.currentThread().getName(), executor)
+            .join()
+            .unwrap();
+        assertThat(result, startsWith("pool-"));
+    }
+
+    @Test
+    void timeoutResolvesToErr() {
+        var result = AsyncResult.of(new CompletableFuture<Integer>())
+            .timeout(Duration.ofMillis(10))
+            .join();
+        assertThat(result.unwrapErr(), is(instanceOf(TimeoutException.class)));
+    }
+
+    @Test
+    void passedDeadlineResolvesToErr() {
+        var result = AsyncResult.of(new CompletableFuture<Integer>())
+            .deadline(Instant.now().minusSeconds(1))
+            .join();
+        assertThat(result.unwrapErr(), is(instanceOf(TimeoutException.class)));
+    }
+
+    @Test
+    void allOfCollectsValuesInOrder() {
+        var first = new CompletableFuture<Integer>();
+        var all = AsyncResult.allOf(List.of(AsyncResult.of(first), AsyncResult.completed(ok(2))));
+        first.complete(1);
+        assertThat(all.join(), is(ok(List.of(1, 2))));
+    }
+
+    @Test
+    void allOfFailsWithoutWaitingForTheRest() {
+        var error = new Exception();
+        var all = AsyncResult.allOf(List.of(
+            AsyncResult.of(new CompletableFuture<Integer>()),
+            AsyncResult.completed(err(error))
+        ));
+        assertThat(all.isDone(), is(true));
+        assertThat(all.join(), is(err(error)));
+    }
+
+    @Test
+    void allOfAndAnyOkCompleteWhenAnInputFailsWithAnError() {
+        var fatal = new CompletableFuture<Integer>();
+        var all = AsyncResult.allOf(List.of(AsyncResult.of(fatal), AsyncResult.completed(ok(2))));
+        var any = AsyncResult.anyOk(List.of(AsyncResult.of(fatal), AsyncResult.<Integer>completed(err(new Exception()))));
+        fatal.completeExceptionally(new StackOverflowError());
+        assertThat(all.isDone(), is(true));
+        assertThat(any.isDone(), is(true));
+        assertThat(rootCause(all::join), is(instanceOf(StackOverflowError.class)));
+        assertThat(rootCause(any::join), is(instanceOf(StackOverflowError.class)));
+    }
+
+    @Test
+    void anyOkSucceedsWithoutWaitingForTheRest() {
+        var any = AsyncResult.anyOk(List.of(
+            AsyncResult.of(new CompletableFuture<Integer>()),
+            AsyncResult.<Integer>completed(err(new Exception())),
+            AsyncResult.completed(ok(3))
+        ));
+        assertThat(any.isDone(), is(true));
+        assertThat(any.join(), is(ok(3)));
+    }
+
+    @Test
+    void anyOkReturnsLastErrorWhenAllFail() {
+        var last = new Exception("last");
+        var any = AsyncResult.anyOk(List.of(
+            AsyncResult.<Integer>completed(err(new Exception())),
+            AsyncResult.completed(err(last))
+        ));
+        assertThat(any.join(), is(err(last)));
+    }
+
+    @Test
+    void toCompletableFutureFailsWithTheError() {
+        var error = new Exception();
+        var future = AsyncResult.completed(err(error)).toCompletableFuture();
+        assertThat(future.isCompletedExceptionally(), is(true));
+        assertThat(
+            future.handle((value, failure) -> failure).join(),
+            is(error)
+        );
+    }
+
+    @Test
+    void joinRestoresInterruptFlag() {
+        Thread.currentThread().interrupt();
+        var result = AsyncResult.of(new CompletableFuture<Integer>()).join();
+        assertThat(Thread.interrupted(), is(true));
+        assertThat(result.unwrapErr(), is(instanceOf(InterruptedException.class)));
+    }
+
+    private static Throwable rootCause(Runnable action) {
+        try {
+            action.run();
+        } catch (Throwable t) {
+            while (t.getCause() != null) {
+                t = t.getCause();
+            }
+            return t;
+        }
+        throw new AssertionError("expected a failure");
+    }
+}
@@ -0,0 +1,80 @@
+import io.github.luccaflower.result.*;
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+
+import static io.github.luccaflower.result.Result.err;
+import static io.github.luccaflower.result.Result.ok;
+import static matchers.Matchers.throwsA;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class CatchingTest {
+    private static final Catching IO = Catching.only(IOException.class);
+
+    @Test
+    void ofTurnsThrownExceptionIntoErrorWithoutWrapping() {
+        var error = new IOException("missing");
+        assertThat(Result.of(() -> { throw error; }), is(err(error)));
+        assertThat(Result.of(() -> "value"), is(ok("value")));
+    }
+
+    @Test
+    void ofRejectsNullValues() {
+        assertThat(() -> Result.of(() -> null), throwsA(NullPointerException.class));
+    }
+
+    @Test
+    void expectedSubtypesBecomeErrors() {
+        var error = new FileNotFoundException();
+        assertThat(IO.of(() -> { throw error; }).unwrapErr(), is(sameInstance(error)));
+    }
+
+    @Test
+    void unexpectedRuntimeExceptionsPropagateUnchanged() {
+        assertThat(() -> IO.of(() -> Integer.parseInt("x")), throwsA(NumberFormatException.class));
+    }
+
+    @Test
+    void unexpectedCheckedExceptionsAreWrapped() {
+        try {
+            IO.of(() -> { throw new Exception("checked"); });
+            throw new AssertionError("expected an UnexpectedException");
+        } catch (UnexpectedException e) {
+            assertThat(e.getCause().getMessage(), is("checked"));
+        }
+    }
+
+    @Test
+    void interruptedExceptionRestoresInterruptFlag() {
+        try {
+            var result = Result.of(() -> { throw new InterruptedException(); });
+            assertThat(result.unwrapErr(), is(instanceOf(InterruptedException.class)));
+            assertThat(Thread.interrupted(), is(true));
+            assertThat(() -> IO.of(() -> { throw new InterruptedException(); }), throwsA(UnexpectedException.class));
+            assertThat(Thread.interrupted(), is(true));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void mapCheckedOnlyRunsOnOk() {
+        var error = new Exception();
+        assertThat(ok("1").mapChecked(Integer::parseInt), is(ok(1)));
+        assertThat(ok("x").mapChecked(Integer::parseInt).unwrapErr(), is(instanceOf(NumberFormatException.class)));
+        assertThat(Result.<String>err(error).mapChecked(s -> { throw new AssertionError(); }), is(err(error)));
+    }
+
+    @Test
+    void flatMapCheckedWithCatching() {
+        var error = new IOException();
+        assertThat(ok("a").flatMapChecked(IO, s -> ok(s + "b")), is(ok("ab")));
+        assertThat(ok("a").flatMapChecked(IO, s -> { throw error; }), is(err(error)));
+    }
+
+    @Test
+    void liftedFunctionsWorkInFlatMap() {
+        assertThat(ok("2").flatMap(Catching.all().lift(Integer::parseInt)), is(ok(2)));
+    }
+}
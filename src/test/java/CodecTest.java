@@ -0,0 +1,136 @@
+import io.github.luccaflower.codec.*;
+import io.github.luccaflower.option.*;
+import io.github.luccaflower.result.*;
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import static io.github.luccaflower.option.Option.none;
+import static io.github.luccaflower.option.Option.some;
+import static io.github.luccaflower.result.Result.err;
+import static io.github.luccaflower.result.Result.ok;
+import static matchers.Matchers.throwsA;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class CodecTest {
+    private static final ResultCodec<String> RESULTS = ResultCodec.of(ValueCodec.utf8());
+    private static final OptionCodec<Long> OPTIONS = OptionCodec.of(ValueCodec.longs());
+
+    @Test
+    void resultsRoundTripThroughBytes() {
+        assertThat(RESULTS.decode(RESULTS.encode(ok("value"))), is(ok("value")));
+        assertThat(
+            RESULTS.decode(RESULTS.encode(err(new IllegalStateException("boom")))),
+            is(err(new DecodedException(IllegalStateException.class.getName(), "boom")))
+        );
+    }
+
+    @Test
+    void noneIsASingleByte() {
+        assertThat(OPTIONS.encode(none()), is(new byte[] {0}));
+        assertThat(OPTIONS.decode(OPTIONS.encode(none())), is(sameInstance(none())));
+        assertThat(OPTIONS.decode(OPTIONS.encode(some(7L))), is(some(7L)));
+    }
+
+    @Test
+    void consecutiveValuesRoundTripThroughDirectBuffer() {
+        var buffer = ByteBuffer.allocateDirect(256);
+        RESULTS.write(ok("a"), buffer);
+        RESULTS.write(err(new Exception()), buffer);
+        RESULTS.write(ok("b"), buffer);
+        buffer.flip();
+        assertThat(RESULTS.read(buffer), is(ok("a")));
+        assertThat(RESULTS.read(buffer).unwrapErr().getMessage(), is(nullValue()));
+        assertThat(RESULTS.read(buffer), is(ok("b")));
+        assertThat(buffer.hasRemaining(), is(false));
+    }
+
+    @Test
+    void overflowLeavesPositionUnchanged() {
+        var buffer = ByteBuffer.allocate(8);
+        buffer.put((byte) 42);
+        assertThat(() -> RESULTS.write(ok("too long to fit"), buffer), throwsA(BufferOverflowException.class));
+        assertThat(buffer.position(), is(1));
+    }
+
+    @Test
+    void slicesShareTheSourceBuffer() {
+        var codec = ResultCodec.of(ValueCodec.slices());
+        var source = ByteBuffer.wrap(codec.encode(ok(ByteBuffer.wrap("abc".getBytes(StandardCharsets.US_ASCII)))));
+        var slice = codec.read(source).unwrap();
+        source.put(5, (byte) 'x');
+        assertThat(slice.get(0), is((byte) 'x'));
+    }
+
+    @Test
+    void roundTripsThroughDataStreams() throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(bytes)) {
+            OPTIONS.write(some(1L), out);
+            OPTIONS.write(none(), out);
+            RESULTS.write(ok("x".repeat(1000)), out);
+        }
+        try (var in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(OPTIONS.read(in), is(some(1L)));
+            assertThat(OPTIONS.read(in), is(none()));
+            assertThat(RESULTS.read(in), is(ok("x".repeat(1000))));
+        }
+    }
+
+    @Test
+    void rejectsUnknownTags() {
+        assertThat(() -> RESULTS.decode(new byte[] {9}), throwsA(IllegalArgumentException.class));
+    }
+
+    @Test
+    void rejectsTruncatedInput() {
+        var bytes = RESULTS.encode(ok("value"));
+        for (int length = 0; length < bytes.length; length++) {
+            var truncated = Arrays.copyOf(bytes, length);
+            assertThat(() -> RESULTS.decode(truncated), throwsA(IllegalArgumentException.class));
+        }
+        var shortPayload = ByteBuffer.allocate(7).put((byte) 1).putInt(2).putShort((short) 0).flip();
+        assertThat(() -> OPTIONS.read(shortPayload), throwsA(IllegalArgumentException.class));
+    }
+
+    @Test
+    void corruptStreamLengthFailsWithoutReservingIt() {
+        var bytes = ByteBuffer.allocate(15).put((byte) 1).putInt(Integer.MAX_VALUE).putLong(1L).array();
+        var in = new DataInputStream(new ByteArrayInputStream(bytes));
+        assertThat(() -> OPTIONS.read(in), throwsA(EOFException.class));
+    }
+
+    @Test
+    void javaSerializationRejectsErrWithoutError() throws Exception {
+        var error = err(new Exception());
+        var field = Err.class.getDeclaredField("error");
+        field.setAccessible(true);
+        field.set(error, null);
+        assertThat(() -> roundTrip(error), throwsA(InvalidObjectException.class));
+    }
+
+    @Test
+    void javaSerializationKeepsSingletons() throws Exception {
+        assertThat(roundTrip(none()), is(sameInstance(none())));
+        assertThat(roundTrip(Unit.unit()), is(sameInstance(Unit.unit())));
+        assertThat(roundTrip(Result.ok()), is(sameInstance(Result.ok())));
+        assertThat(roundTrip(some("a")), is(some("a")));
+        var error = new Exception("boom");
+        assertThat(roundTrip(err(error)).unwrapErr().getMessage(), is("boom"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T roundTrip(T value) throws IOException, ClassNotFoundException {
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (T) in.readObject();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+import io.github.luccaflower.option.*;
+import io.github.luccaflower.result.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.stream.*;
+
+import static io.github.luccaflower.option.Option.none;
+import static io.github.luccaflower.option.Option.some;
+import static io.github.luccaflower.result.Result.err;
+import static io.github.luccaflower.result.Result.ok;
+import static matchers.Matchers.throwsA;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class ColumnarTest {
+    private static final Exception ERROR = new Exception("error");
+
+    @Test
+    void resultArrayKeepsElementsInOrder() {
+        var batch = ResultArray.of(List.of(ok(1), err(ERROR), ok(3)));
+        assertThat(batch.size(), is(3));
+        assertThat(batch.get(0), is(ok(1)));
+        assertThat(batch.get(1), is(err(ERROR)));
+        assertThat(batch.errCount(), is(1));
+        assertThat(batch.stream().collect(Collectors.toList()), is(List.of(ok(1), err(ERROR), ok(3))));
+    }
+
+    @Test
+    void resultArrayMapsOnlyOkValues() {
+        var batch = ResultArray.of(List.<Result<Integer>>of(ok(1), err(ERROR))).map(v -> v * 10);
+        assertThat(batch.get(0), is(ok(10)));
+        assertThat(batch.get(1), is(err(ERROR)));
+    }
+
+    @Test
+    void resultArrayFlatMapCanIntroduceErrors() {
+        var other = new Exception("other");
+        var batch = ResultArray.of(List.<Result<Integer>>of(ok(1), ok(2)))
+            .flatMap(v -> v % 2 == 0 ? err(other) : ok(v));
+        assertThat(batch.partition(), is(Partition.of(List.of(1), List.of(other))));
+        assertThat(batch.firstErr(), is(some(other)));
+    }
+
+    @Test
+    void resultArrayUnwrapAllPanicsOnFirstError() {
+        var batch = ResultArray.of(List.<Result<Integer>>of(ok(1), err(ERROR)));
+        assertThat(batch::unwrapAll, throwsA(UnwrappedErrorExpectingOk.class));
+        assertThat(batch.toResult(), is(err(ERROR)));
+        assertThat(ResultArray.of(List.of(ok(1), ok(2))).unwrapAll(), is(List.of(1, 2)));
+    }
+
+    @Test
+    void parallelCollectorKeepsEncounterOrder() {
+        List<Result<Integer>> results = IntStream.range(0, 10_000)
+            .mapToObj(i -> i % 7 == 0 ? Result.<Integer>err(ERROR) : ok(i))
+            .collect(Collectors.toList());
+        var batch = results.parallelStream().collect(ResultArray.collector());
+        assertThat(batch, is(ResultArray.of(results)));
+        assertThat(batch.stream().collect(Collectors.toList()), is(results));
+    }
+
+    @Test
+    void resultIntArrayLooksUpSparseErrors() {
+        var other = new Exception("other");
+        var batch = Stream.of(ResultInt.ok(1), ResultInt.err(ERROR), ResultInt.ok(3), ResultInt.err(other))
+            .parallel()
+            .collect(ResultIntArray.collector());
+        assertThat(batch.get(1), is(ResultInt.err(ERROR)));
+        assertThat(batch.get(3), is(ResultInt.err(other)));
+        assertThat(batch.map(v -> v + 1).get(2), is(ResultInt.ok(4)));
+        assertThat(batch.partition().oks(), is(new int[] {1, 3}));
+        assertThat(batch.partition().errs(), is(List.of(ERROR, other)));
+    }
+
+    @Test
+    void buildersRejectNullErrorsWithoutChangingState() {
+        var builder = ResultArray.<Integer>builder().addOk(1);
+        assertThat(() -> builder.addErr(null), throwsA(NullPointerException.class));
+        assertThat(builder.addOk(2).build(), is(ResultArray.of(List.of(ok(1), ok(2)))));
+        var ints = ResultIntArray.builder().addOk(1);
+        assertThat(() -> ints.addErr(null), throwsA(NullPointerException.class));
+        assertThat(ints.addOk(2).build(), is(ResultIntArray.of(List.of(ResultInt.ok(1), ResultInt.ok(2)))));
+    }
+
+    @Test
+    void resultIntArrayMapsToObjects() {
+        var batch = ResultIntArray.of(List.of(ResultInt.ok(1), ResultInt.err(ERROR)))
+            .mapToObj(String::valueOf);
+        assertThat(batch, is(ResultArray.of(List.of(ok("1"), err(ERROR)))));
+    }
+
+    @Test
+    void optionArrayStoresNonesAsNull() {
+        var batch = OptionArray.of(List.of(some("a"), none(), some("bc")));
+        assertThat(batch.get(1), is(none()));
+        assertThat(batch.map(String::length).somes(), is(List.of(1, 2)));
+        assertThat(batch.filter(s -> s.length() > 1).someCount(), is(1));
+        assertThat(batch.toOption(), is(none()));
+        assertThat(batch::unwrapAll, throwsA(UnwrappedNone.class));
+    }
+
+    @Test
+    void optionIntArrayFlatMapsAndFilters() {
+        var batch = OptionIntArray.from(Stream.of(OptionInt.some(1), OptionInt.none(), OptionInt.some(4)));
+        assertThat(batch.noneCount(), is(1));
+        assertThat(batch.flatMap(v -> v > 2 ? OptionInt.some(v * 2) : OptionInt.none()).somes(), is(new int[] {8}));
+        assertThat(batch.filter(v -> v < 2).toOption(), is(none()));
+        assertThat(batch.get(2), is(OptionInt.some(4)));
+    }
+}
@@ -0,0 +1,102 @@
+import io.github.luccaflower.jfr.*;
+import io.github.luccaflower.option.*;
+import jdk.jfr.*;
+import jdk.jfr.consumer.*;
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.time.*;
+import java.util.*;
+
+import static io.github.luccaflower.option.Option.none;
+import static io.github.luccaflower.result.Result.err;
+import static io.github.luccaflower.result.Result.ok;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class EventsTest {
+    @BeforeEach
+    void requireEvents() {
+        assumeTrue(UnionEvents.ENABLED, "run with -Dunion.jfr=true");
+    }
+
+    @Test
+    void recordsErrCreation() throws Exception {
+        var events = record("io.github.luccaflower.ErrCreated", Duration.ZERO, () -> err(new IOException("disk")));
+        assertThat(events, hasSize(1));
+        assertThat(events.get(0).getClass("errorType").getName(), is(IOException.class.getName()));
+        assertThat(events.get(0).getString("message"), is("disk"));
+    }
+
+    @Test
+    void recordsUnwrapPanics() throws Exception {
+        var events = record("io.github.luccaflower.UnwrapPanic", Duration.ZERO, () -> {
+            try {
+                none().expect("missing");
+            } catch (UnwrappedNone expected) {
+                // recorded
+            }
+        });
+        assertThat(events, hasSize(1));
+        assertThat(events.get(0).getString("message"), is("missing"));
+    }
+
+    @Test
+    void recordsOnlySlowCallbacks() throws Exception {
+        var events = record("io.github.luccaflower.SlowCallback", Duration.ofMillis(20), () -> {
+            ok(1).map(v -> v + 1);
+            ok(1).map(v -> {
+                sleep(50);
+                return v;
+            });
+        });
+        assertThat(events, hasSize(1));
+        assertThat(events.get(0).getString("operation"), is("map"));
+    }
+
+    @Test
+    void recordsNothingWhenNotEnabledInRecording() throws Exception {
+        try (var recording = new Recording()) {
+            recording.start();
+            err(new Exception());
+            recording.stop();
+            assertThat(eventsOf(recording, "io.github.luccaflower.ErrCreated"), is(empty()));
+        }
+    }
+
+    private static List<RecordedEvent> record(String name, Duration threshold, Runnable action) throws Exception {
+        try (var recording = new Recording()) {
+            recording.enable(name).withThreshold(threshold);
+            recording.start();
+            action.run();
+            recording.stop();
+            return eventsOf(recording, name);
+        }
+    }
+
+    private static List<RecordedEvent> eventsOf(Recording recording, String name) throws IOException {
+        Path file = Files.createTempFile("union", ".jfr");
+        try {
+            recording.dump(file);
+            var events = new ArrayList<RecordedEvent>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (event.getEventType().getName().equals(name)) {
+                    events.add(event);
+                }
+            }
+            return events;
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+import io.github.luccaflower.result.*;
+import org.junit.jupiter.api.*;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import static io.github.luccaflower.result.Result.err;
+import static io.github.luccaflower.result.Result.ok;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class FanOutTest {
+    @Test
+    void collectsValuesInTaskOrder() {
+        List<Supplier<Result<Integer>>> tasks = List.of(
+            () -> { sleep(50); return ok(1); },
+            () -> ok(2),
+            () -> ok(3)
+        );
+        assertThat(FanOut.unbounded().run(tasks), is(ok(List.of(1, 2, 3))));
+    }
+
+    @Test
+    void runsTasksConcurrently() {
+        var tasks = new ArrayList<Supplier<Result<Integer>>>();
+        for (int i = 0; i < 8; i++) {
+            tasks.add(() -> { sleep(200); return ok(1); });
+        }
+        long start = System.nanoTime();
+        FanOut.unbounded().run(tasks).unwrap();
+        assertThat(Duration.ofNanos(System.nanoTime() - start), is(lessThan(Duration.ofMillis(1000))));
+    }
+
+    @Test
+    void returnsFirstErrorAndInterruptsTheRest() throws Exception {
+        var error = new Exception();
+        var interrupted = new CountDownLatch(1);
+        List<Supplier<Result<Integer>>> tasks = List.of(
+            () -> {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return ok(1);
+            },
+            () -> err(error)
+        );
+        assertThat(FanOut.unbounded().run(tasks), is(err(error)));
+        assertThat(interrupted.await(5, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test
+    void throwingTaskBecomesErr() {
+        var error = new IllegalStateException();
+        List<Supplier<Result<Integer>>> tasks = List.of(() -> { throw error; });
+        assertThat(FanOut.unbounded().run(tasks), is(err(error)));
+    }
+
+    @Test
+    void respectsConcurrencyLimit() {
+        var running = new AtomicInteger();
+        var peak = new AtomicInteger();
+        var tasks = new ArrayList<Supplier<Result<Integer>>>();
+        for (int i = 0; i < 12; i++) {
+            tasks.add(() -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(20);
+                running.decrementAndGet();
+                return ok(1);
+            });
+        }
+        FanOut.unbounded().limit(3).run(tasks).unwrap();
+        assertThat(peak.get(), is(lessThanOrEqualTo(3)));
+    }
+
+    @Test
+    void unboundedFallbackCapsPlatformThreads() {
+        Assumptions.assumeFalse(FanOut.usesVirtualThreads(), "runs on virtual threads");
+        var running = new AtomicInteger();
+        var peak = new AtomicInteger();
+        var tasks = new ArrayList<Supplier<Result<Integer>>>();
+        for (int i = 0; i < FanOut.MAX_PLATFORM_THREADS * 3; i++) {
+            tasks.add(() -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(2);
+                running.decrementAndGet();
+                return ok(1);
+            });
+        }
+        assertThat(FanOut.unbounded().run(tasks).unwrap().size(), is(tasks.size()));
+        assertThat(peak.get(), is(lessThanOrEqualTo(FanOut.MAX_PLATFORM_THREADS)));
+    }
+
+    @Test
+    void timesOutWithErr() {
+        List<Supplier<Result<Integer>>> tasks = List.of(() -> { sleep(10_000); return ok(1); });
+        var result = FanOut.unbounded().timeout(Duration.ofMillis(50)).run(tasks);
+        assertThat(result.unwrapErr(), is(instanceOf(TimeoutException.class)));
+    }
+
+    @Test
+    void hugeTimeoutsAndDeadlinesDoNotOverflow() {
+        List<Supplier<Result<Integer>>> tasks = List.of(() -> ok(1));
+        assertThat(FanOut.unbounded().timeout(Duration.ofSeconds(Long.MAX_VALUE)).run(tasks), is(ok(List.of(1))));
+        assertThat(FanOut.unbounded().timeout(Duration.ofDays(365 * 200)).run(tasks), is(ok(List.of(1))));
+        assertThat(FanOut.unbounded().deadline(Instant.MAX).run(tasks), is(ok(List.of(1))));
+        var late = FanOut.unbounded().deadline(Instant.MIN).run(List.<Supplier<Result<Integer>>>of(() -> {
+            sleep(10_000);
+            return ok(1);
+        }));
+        assertThat(late.unwrapErr(), is(instanceOf(TimeoutException.class)));
+    }
+
+    @Test
+    void emptyGroupIsOk() {
+        assertThat(FanOut.unbounded().run(List.<Supplier<Result<Integer>>>of()), is(ok(List.of())));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
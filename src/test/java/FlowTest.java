@@ -0,0 +1,131 @@
+import io.github.luccaflower.flow.*;
+import io.github.luccaflower.option.*;
+import io.github.luccaflower.result.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+import static io.github.luccaflower.option.Option.none;
+import static io.github.luccaflower.option.Option.some;
+import static io.github.luccaflower.result.Result.err;
+import static io.github.luccaflower.result.Result.ok;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class FlowTest {
+    private static final Exception ERROR = new Exception("error");
+
+    @Test
+    void resultProcessorMapsOksAndKeepsErrs() throws Exception {
+        var processor = ResultProcessor.<Integer, Integer>map(v -> v * 10);
+        var received = collect(processor);
+        publish(processor, ok(1), err(ERROR), ok(3));
+        assertThat(received.get(5, TimeUnit.SECONDS), contains(ok(10), err(ERROR), ok(30)));
+    }
+
+    @Test
+    void resultProcessorFiltersOks() throws Exception {
+        var processor = ResultProcessor.<Integer>filter(v -> v > 1);
+        var received = collect(processor);
+        publish(processor, ok(1), err(ERROR), ok(3));
+        assertThat(received.get(5, TimeUnit.SECONDS), contains(err(ERROR), ok(3)));
+    }
+
+    @Test
+    void failFastCancelsUpstreamOnFirstErr() throws Exception {
+        var processor = ResultProcessor.<Integer, Integer>flatMap(
+            v -> v == 2 ? err(ERROR) : ok(v),
+            FlowOptions.defaults().failFast(true)
+        );
+        var received = collect(processor);
+        var source = new SubmissionPublisher<Result<Integer>>();
+        source.subscribe(processor);
+        for (int i = 1; i <= 1000 && source.hasSubscribers(); i++) {
+            source.submit(ok(i));
+        }
+        assertThat(received.get(5, TimeUnit.SECONDS), contains(ok(1), err(ERROR)));
+        source.close();
+    }
+
+    @Test
+    void processesLongStreamsWithSmallBuffers() throws Exception {
+        var processor = ResultProcessor.<Integer, Integer>map(
+            v -> v + 1,
+            FlowOptions.defaults().bufferSize(2).batchSize(4)
+        );
+        var received = collect(processor);
+        var source = new SubmissionPublisher<Result<Integer>>(ForkJoinPool.commonPool(), 2);
+        source.subscribe(processor);
+        IntStream.range(0, 10_000).forEach(i -> source.submit(ok(i)));
+        source.close();
+        assertThat(received.get(10, TimeUnit.SECONDS).size(), is(10_000));
+    }
+
+    @Test
+    void optionProcessorMapsSomes() throws Exception {
+        var processor = OptionProcessor.<Integer, Integer>map(v -> v + 1);
+        var received = collect(processor);
+        publish(processor, some(1), none(), some(2));
+        assertThat(received.get(5, TimeUnit.SECONDS), contains(some(2), none(), some(3)));
+    }
+
+    @Test
+    void splitterRoutesOksAndErrs() throws Exception {
+        var splitter = ResultSplitter.<Integer>create();
+        var oks = collect(splitter.oks());
+        var errs = collect(splitter.errs());
+        publish(splitter, ok(1), err(ERROR), ok(2));
+        assertThat(oks.get(5, TimeUnit.SECONDS), contains(1, 2));
+        assertThat(errs.get(5, TimeUnit.SECONDS), contains(ERROR));
+    }
+
+    @Test
+    void splitterDropsElementsForASideWithoutSubscribers() throws Exception {
+        var splitter = ResultSplitter.<Integer>create(FlowOptions.defaults().bufferSize(2).batchSize(2));
+        var oks = collect(splitter.oks());
+        var source = new SubmissionPublisher<Result<Integer>>(ForkJoinPool.commonPool(), 2);
+        source.subscribe(splitter);
+        IntStream.range(0, 1_000).forEach(i -> source.submit(i % 2 == 0 ? ok(i) : err(ERROR)));
+        source.close();
+        assertThat(oks.get(10, TimeUnit.SECONDS).size(), is(500));
+    }
+
+    @SafeVarargs
+    private static <T> void publish(Flow.Subscriber<T> subscriber, T... items) {
+        try (var source = new SubmissionPublisher<T>()) {
+            source.subscribe(subscriber);
+            for (T item : items) {
+                source.submit(item);
+            }
+        }
+    }
+
+    private static <T> CompletableFuture<List<T>> collect(Flow.Publisher<T> publisher) {
+        var items = Collections.synchronizedList(new ArrayList<T>());
+        var done = new CompletableFuture<List<T>>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T item) {
+                items.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(items);
+            }
+        });
+        return done;
+    }
+}
@@ -0,0 +1,141 @@
+import io.github.luccaflower.option.*;
+import io.github.luccaflower.result.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static io.github.luccaflower.option.Option.none;
+import static io.github.luccaflower.option.Option.some;
+import static io.github.luccaflower.result.Result.err;
+import static io.github.luccaflower.result.Result.ok;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class LazyTest {
+    @Test
+    void lazyResultIsNotEvaluatedUntilObserved() {
+        var calls = new AtomicInteger();
+        var lazy = LazyResult.of(() -> ok(calls.incrementAndGet()));
+        Result<Integer> mapped = lazy.map(v -> v + 1).flatMap(v -> ok(v * 2));
+        assertThat(calls.get(), is(0));
+        assertThat(mapped.unwrap(), is(4));
+        assertThat(calls.get(), is(1));
+        assertThat(lazy.isEvaluated(), is(true));
+    }
+
+    @Test
+    void lazyResultComputesAtMostOnce() {
+        var calls = new AtomicInteger();
+        var lazy = Result.lazy(() -> ok(calls.incrementAndGet()));
+        lazy.unwrap();
+        lazy.isOk();
+        assertThat(lazy.unwrap(), is(1));
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    void unusedFallbackBranchIsNeverEvaluated() {
+        var calls = new AtomicInteger();
+        var result = ok(1).or(Result.lazy(() -> ok(calls.incrementAndGet())));
+        assertThat(result.unwrap(), is(1));
+        assertThat(calls.get(), is(0));
+    }
+
+    @Test
+    void lazyResultComputesOnceAcrossThreads() throws Exception {
+        var calls = new AtomicInteger();
+        var lazy = Result.lazy(() -> ok(calls.incrementAndGet()));
+        var pool = Executors.newFixedThreadPool(8);
+        try {
+            var start = new CountDownLatch(1);
+            var futures = new ArrayList<Future<Integer>>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return lazy.unwrap();
+                }));
+            }
+            start.countDown();
+            for (var future : futures) {
+                assertThat(future.get(), is(1));
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    void lazyOptionIsNotEvaluatedUntilObserved() {
+        var calls = new AtomicInteger();
+        var lazy = Option.lazy(() -> some(calls.incrementAndGet()));
+        Option<Integer> filtered = lazy.map(v -> v + 1).filter(v -> v > 5);
+        assertThat(calls.get(), is(0));
+        assertThat(filtered.isNone(), is(true));
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    void unusedOptionFallbackIsNeverEvaluated() {
+        var calls = new AtomicInteger();
+        var option = some(1).or(Option.lazy(() -> some(calls.incrementAndGet())));
+        assertThat(option.unwrap(), is(1));
+        assertThat(calls.get(), is(0));
+    }
+
+    @Test
+    void mapOrElseDoesNotEvaluateDefaultOnSome() {
+        var calls = new AtomicInteger();
+        Option<Integer> option = LazyOption.of(() -> some(1));
+        assertThat(option.mapOrElse(calls::incrementAndGet, v -> v + 1), is(2));
+        assertThat(calls.get(), is(0));
+    }
+
+    @Test
+    void chainedStepsLeaveIntermediateLinksUnevaluated() {
+        var calls = new AtomicInteger();
+        var lazy = LazyResult.of(() -> ok(calls.incrementAndGet()));
+        var first = (LazyResult<Integer>) lazy.map(v -> v + 1);
+        var last = first.map(v -> v * 10).flatMap(v -> ok(v + 1));
+        assertThat(last.unwrap(), is(21));
+        assertThat(first.isEvaluated(), is(false));
+        assertThat(first.unwrap(), is(2));
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    void chainsFromTheSameSourceEvaluateItOnce() {
+        var calls = new AtomicInteger();
+        var lazy = LazyOption.of(() -> some(calls.incrementAndGet()));
+        var doubled = lazy.map(v -> v * 2);
+        var negated = lazy.map(v -> -v);
+        assertThat(doubled.unwrap() + negated.unwrap(), is(1));
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    void lazyEqualsWhatItEvaluatesTo() {
+        assertThat(Result.lazy(() -> ok(1)).map(v -> v + 1), is(ok(2)));
+        assertThat(Result.lazy(() -> ok(2)), is(Result.lazy(() -> ok(2))));
+        assertThat(Option.lazy(() -> some(1)).hashCode(), is(some(1).hashCode()));
+    }
+
+    @Test
+    void lazyEqualityIsSymmetric() {
+        var error = new Exception();
+        assertThat(ok(1).equals(Result.lazy(() -> ok(1))), is(true));
+        assertThat(Result.lazy(() -> ok(1)).equals(ok(1)), is(true));
+        assertThat(err(error).equals(Result.lazy(() -> err(error))), is(true));
+        assertThat(Result.lazy(() -> err(error)).equals(err(error)), is(true));
+        assertThat(ok(1).equals(Result.lazy(() -> ok(2))), is(false));
+        assertThat(some(1).equals(Option.lazy(() -> some(1))), is(true));
+        assertThat(Option.lazy(() -> some(1)).equals(some(1)), is(true));
+        assertThat(none().equals(Option.lazy(Option::none)), is(true));
+        assertThat(Option.lazy(Option::none).equals(none()), is(true));
+        assertThat(none().equals(Option.lazy(() -> some(1))), is(false));
+        assertThat(new HashSet<>(List.of(ok(1))).contains(Result.lazy(() -> ok(1))), is(true));
+        assertThat(new HashSet<>(List.of(Result.lazy(() -> ok(1)))).contains(ok(1)), is(true));
+    }
+}
@@ -0,0 +1,95 @@
+import io.github.luccaflower.option.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static io.github.luccaflower.option.Option.none;
+import static io.github.luccaflower.option.Option.some;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class LookupsTest {
+    @Test
+    void mapLookupIsNoneOnMissingKey() {
+        var map = Map.of("a", 1);
+        assertThat(Lookups.get(map, "a"), is(some(1)));
+        assertThat(Lookups.get(map, "b"), is(none()));
+    }
+
+    @Test
+    void entryTellsNullValueApartFromMissingKey() {
+        var map = new HashMap<String, Integer>();
+        map.put("present", 1);
+        map.put("null", null);
+        assertThat(Lookups.entry(map, "present"), is(some(some(1))));
+        assertThat(Lookups.entry(map, "null"), is(some(none())));
+        assertThat(Lookups.entry(map, "missing"), is(none()));
+    }
+
+    @Test
+    void listAndArrayLookupsAreNoneOutOfBounds() {
+        var list = List.of("a", "b");
+        assertThat(Lookups.get(list, 1), is(some("b")));
+        assertThat(Lookups.get(list, 2), is(none()));
+        assertThat(Lookups.get(list, -1), is(none()));
+        assertThat(Lookups.get(new int[] {4}, 0), is(OptionInt.some(4)));
+        assertThat(Lookups.get(new int[] {4}, 1), is(OptionInt.none()));
+    }
+
+    @Test
+    void optionListViewsFirstAndLast() {
+        var list = OptionList.of(List.of("a", "b"));
+        assertThat(list.first(), is(some("a")));
+        assertThat(list.last(), is(some("b")));
+        assertThat(OptionList.of(List.of()).last(), is(none()));
+        assertThat(list.indexOf("b"), is(OptionInt.some(1)));
+    }
+
+    @Test
+    void optionMapReflectsBackingMap() {
+        var backing = new HashMap<String, Integer>();
+        var map = OptionMap.of(backing);
+        assertThat(map.get("a"), is(none()));
+        backing.put("a", 1);
+        assertThat(map.get("a"), is(some(1)));
+    }
+
+    @Test
+    void getOrComputeDoesNotStoreNone() {
+        var map = OptionMap.of(new HashMap<String, Integer>());
+        assertThat(map.getOrCompute("a", k -> none()), is(none()));
+        assertThat(map.containsKey("a"), is(false));
+        assertThat(map.getOrCompute("a", k -> some(1)), is(some(1)));
+        assertThat(map.getOrCompute("a", k -> some(2)), is(some(1)));
+    }
+
+    @Test
+    void intIntMapAgreesWithHashMap() {
+        var random = new Random(42);
+        var map = new IntIntMap();
+        var reference = new HashMap<Integer, Integer>();
+        for (int i = 0; i < 10_000; i++) {
+            int key = random.nextInt(500) - 250;
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key), is(OptionInt.from(Option.maybe(reference.remove(key)))));
+            } else {
+                assertThat(map.put(key, i), is(OptionInt.from(Option.maybe(reference.put(key, i)))));
+            }
+        }
+        assertThat(map.size(), is(reference.size()));
+        for (int key = -250; key < 250; key++) {
+            assertThat(map.get(key), is(OptionInt.from(Option.maybe(reference.get(key)))));
+        }
+    }
+
+    @Test
+    void longLongMapHandlesZeroKey() {
+        var map = new LongLongMap();
+        assertThat(map.get(0L), is(OptionLong.none()));
+        map.put(0L, 5L);
+        map.addTo(0L, 1L);
+        assertThat(map.get(0L), is(OptionLong.some(6L)));
+        assertThat(map.remove(0L), is(OptionLong.some(6L)));
+        assertThat(map.isEmpty(), is(true));
+    }
+}
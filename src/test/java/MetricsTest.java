@@ -0,0 +1,149 @@
+import io.github.luccaflower.codec.*;
+import io.github.luccaflower.metrics.*;
+import io.github.luccaflower.option.*;
+import io.github.luccaflower.result.*;
+import io.github.luccaflower.store.*;
+import org.junit.jupiter.api.*;
+
+import javax.management.*;
+import javax.management.openmbean.*;
+import java.io.*;
+import java.lang.management.*;
+import java.util.*;
+import java.util.stream.*;
+
+import static io.github.luccaflower.option.Option.none;
+import static io.github.luccaflower.option.Option.some;
+import static io.github.luccaflower.result.Result.err;
+import static io.github.luccaflower.result.Result.ok;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class MetricsTest {
+    @BeforeEach
+    void resetCounters() {
+        assumeTrue(UnionMetrics.ENABLED, "run with -Dunion.metrics=true");
+        UnionMetrics.reset();
+    }
+
+    @Test
+    void countsErrorsByType() {
+        err(new IOException());
+        err(new IOException());
+        err(new IllegalStateException());
+        assertThat(UnionMetrics.errCount(), is(3L));
+        assertThat(UnionMetrics.errCount(IOException.class), is(2L));
+        assertThat(UnionMetrics.snapshot(), hasEntry("err.created.java.lang.IllegalStateException", 1L));
+    }
+
+    @Test
+    void countsPanicsByType() {
+        try {
+            none().unwrap();
+        } catch (UnwrappedNone expected) {
+            // counted
+        }
+        try {
+            err(new Exception()).unwrap();
+        } catch (UnwrappedErrorExpectingOk expected) {
+            // counted
+        }
+        assertThat(UnionMetrics.panicCount(), is(2L));
+        assertThat(UnionMetrics.panicCount(UnwrappedNone.class), is(1L));
+    }
+
+    @Test
+    void countsFallbacks() {
+        err(new Exception()).unwrapOr(1);
+        Result.<Integer>err(new Exception()).or(ok(1));
+        Option.<Integer>none().orElse(() -> some(1));
+        ok(1).unwrapOr(2);
+        assertThat(UnionMetrics.fallbackCount(UnionMetrics.Fallback.UNWRAP_OR), is(1L));
+        assertThat(UnionMetrics.fallbackCount(UnionMetrics.Fallback.OR), is(1L));
+        assertThat(UnionMetrics.fallbackCount(UnionMetrics.Fallback.OR_ELSE), is(1L));
+    }
+
+    @Test
+    void propagatedErrorsAreCountedOnce() {
+        Result<Integer> error = err(new IOException());
+        Result.traverse(List.of(1, 2), v -> error);
+        Result.sequence(List.of(ok(1), error));
+        Stream.of(ok(1), error).collect(Result.andCollector());
+        Stream.of(error).collect(Result.orCollector());
+        ResultPipeline.<Integer>start().map(v -> v + 1).compileForResult().apply(error);
+        ResultArray.of(List.of(error)).get(0);
+        assertThat(UnionMetrics.errCount(), is(1L));
+    }
+
+    @Test
+    void primitiveConversionsOfErrorsAreNotCounted() {
+        var error = new IOException();
+        ResultInt ints = ResultInt.err(error);
+        ResultLong longs = ResultLong.err(error);
+        ResultDouble doubles = ResultDouble.err(error);
+        assertThat(created(ints::boxed), is(0L));
+        assertThat(created(() -> ints.mapToObj(v -> v)), is(0L));
+        assertThat(created(() -> ints.mapToLong(v -> v)), is(0L));
+        assertThat(created(() -> ints.mapToDouble(v -> v)), is(0L));
+        assertThat(created(longs::boxed), is(0L));
+        assertThat(created(() -> longs.mapToObj(v -> v)), is(0L));
+        assertThat(created(() -> longs.mapToInt(v -> (int) v)), is(0L));
+        assertThat(created(() -> longs.mapToDouble(v -> v)), is(0L));
+        assertThat(created(doubles::boxed), is(0L));
+        assertThat(created(() -> doubles.mapToObj(v -> v)), is(0L));
+        assertThat(created(() -> doubles.mapToInt(v -> (int) v)), is(0L));
+        assertThat(created(() -> doubles.mapToLong(v -> (long) v)), is(0L));
+        assertThat(UnionMetrics.errCount(), is(3L));
+    }
+
+    @Test
+    void convertedAndReplayedErrorsAreNotCounted() throws IOException {
+        var error = new IOException();
+        Result<Integer> boxedInt = err(error);
+        Result<Long> boxedLong = err(error);
+        Result<Double> boxedDouble = err(error);
+        ResultInt ints = ResultInt.err(error);
+        ResultLong longs = ResultLong.err(error);
+        ResultDouble doubles = ResultDouble.err(error);
+        assertThat(created(() -> ResultInt.from(boxedInt)), is(0L));
+        assertThat(created(() -> ResultLong.from(boxedLong)), is(0L));
+        assertThat(created(() -> ResultDouble.from(boxedDouble)), is(0L));
+        assertThat(created(() -> Stream.of(ints).collect(ResultInt.andCollector())), is(0L));
+        assertThat(created(() -> Stream.of(longs).collect(ResultLong.andCollector())), is(0L));
+        assertThat(created(() -> Stream.of(doubles).collect(ResultDouble.andCollector())), is(0L));
+        assertThat(created(() -> AsyncResult.completed(boxedInt).flatMap(v -> AsyncResult.completed(ok(v))).join()), is(0L));
+        assertThat(created(() -> ResultArray.of(List.of(boxedInt)).toResult()), is(0L));
+        assertThat(created(() -> ResultIntArray.of(List.of(ints)).toResult()), is(0L));
+        try (var store = OutcomeStore.temporary(ValueCodec.integers())) {
+            store.append(boxedInt);
+            assertThat(created(() -> store.stream().count()), is(0L));
+        }
+    }
+
+    @Test
+    void countsNonesFromFactories() {
+        none();
+        Option.maybe(null);
+        OptionInt.none();
+        assertThat(UnionMetrics.noneCount(), is(3L));
+    }
+
+    @Test
+    void exportsCountersOverJmx() throws Exception {
+        UnionMetrics.registerMBean();
+        err(new Exception());
+        var server = ManagementFactory.getPlatformMBeanServer();
+        var name = new ObjectName(UnionMetrics.OBJECT_NAME);
+        assertThat(server.getAttribute(name, "ErrCount"), is(1L));
+        var counters = (TabularData) server.getAttribute(name, "Counters");
+        assertThat(counters.get(new Object[] {"err.created"}).get("value"), is(1L));
+        assertThat(UnionMetrics.registerMBean().isErr(), is(true));
+    }
+
+    private static long created(Runnable action) {
+        long before = UnionMetrics.errCount();
+        action.run();
+        return UnionMetrics.errCount() - before;
+    }
+}
@@ -1,5 +1,6 @@
 import dummy.*;
 import io.github.luccaflower.option.*;
+import io.github.luccaflower.result.*;
 import org.junit.jupiter.api.*;
 
 import java.util.*;
@@ -11,6 +12,7 @@ import static io.github.luccaflower.option.Option.none;
 import static io.github.luccaflower.option.Option.some;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 
 class OptionTest {
     @Test
@@ -228,4 +230,93 @@ class OptionTest {
     void someAndSomeIsSecondSome() {
         assertThat(some("one").and(some("other")), is(some("other")));
     }
+
+    @Test
+    void expectOnNoneThrowsWithReason() {
+        assertThat(() -> none().expect("reason"), throwsA(UnwrappedNone.class));
+    }
+
+    @Test
+    void someMapOrElseDoesNotEvaluateDefault() {
+        assertThat(
+            some("thing").mapOrElse(() -> { throw new RuntimeException(); }, v -> "other"),
+            is("other")
+        );
+    }
+
+    @Test
+    void forwardingOptionDelegatesToInner() {
+        ForwardingOption<String> forwarding = () -> some("thing");
+        assertThat(forwarding.unwrapOr("default"), is("thing"));
+        assertThat(forwarding.isNone(), is(false));
+    }
+
+    @Test
+    void noneIsShared() {
+        assertThat(none(), is(sameInstance(none())));
+    }
+
+    @Test
+    void smallSomeValuesAreShared() {
+        assertThat(some(false), is(sameInstance(some(false))));
+        assertThat(some(-1), is(sameInstance(some(-1))));
+    }
+
+    @Test
+    void andCollectorKeepsEncounterOrderOnParallelStreams() {
+        List<Integer> expected = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+        assertThat(
+            expected.parallelStream().map(Option::some).collect(Option.andCollector()),
+            is(some(expected))
+        );
+    }
+
+    @Test
+    void orCollectorKeepsEncounterOrderOnParallelStreams() {
+        assertThat(
+            IntStream.range(0, 10_000).parallel()
+                .mapToObj(i -> i % 2 == 0 ? some(i) : Option.<Integer>none())
+                .collect(Option.orCollector()),
+            is(some(IntStream.range(0, 10_000).filter(i -> i % 2 == 0).boxed().collect(Collectors.toList())))
+        );
+    }
+
+    @Test
+    void partitioningCollectorCountsNones() {
+        var partition = IntStream.range(0, 10_000).parallel()
+            .mapToObj(i -> i % 2 == 0 ? some(i) : Option.<Integer>none())
+            .collect(Option.partitioningCollector());
+        assertThat(partition.oks(), is(IntStream.range(0, 10_000).filter(i -> i % 2 == 0).boxed().collect(Collectors.toList())));
+        assertThat(partition.errs(), is(5_000L));
+    }
+
+    @Test
+    void partitioningCollectorFeedsDownstreamCollector() {
+        assertThat(
+            Stream.<Option<Integer>>of(some(1), none(), some(2)).collect(Option.partitioningCollector(Collectors.summingInt(Integer::intValue))),
+            is(Partition.of(3, 1L))
+        );
+    }
+
+    @Test
+    void traverseStopsAtFirstNone() {
+        var visited = new ArrayList<Integer>();
+        Option<List<Integer>> result = Option.traverse(List.of(1, 2, 3), i -> {
+            visited.add(i);
+            return i == 2 ? none() : some(i);
+        });
+        assertThat(result, is(none()));
+        assertThat(visited, is(List.of(1, 2)));
+    }
+
+    @Test
+    void sequenceCollectsEverySome() {
+        assertThat(Option.sequence(List.of(some(1), some(2))), is(some(List.of(1, 2))));
+    }
+
+    @Test
+    void tryFoldIsNoneWhenStepIsNone() {
+        assertThat(Option.tryFold(List.of(1, 2), 0, (sum, i) -> some(sum + i)), is(some(3)));
+        assertThat(Option.tryFold(List.of(1, 2), 0, (sum, i) -> none()), is(none()));
+    }
 }
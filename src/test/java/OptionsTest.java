@@ -0,0 +1,64 @@
+import io.github.luccaflower.option.*;
+import org.junit.jupiter.api.*;
+
+import static io.github.luccaflower.option.Option.none;
+import static io.github.luccaflower.option.Option.some;
+import static matchers.Matchers.throwsA;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class OptionsTest {
+    @Test
+    void mapAppliesFunctionToNonNull() {
+        assertThat(Options.map("abc", String::length), is(3));
+        assertThat(Options.map((String) null, String::length), is(nullValue()));
+    }
+
+    @Test
+    void mapRejectsNullResultLikeOption() {
+        assertThat(() -> Options.map("abc", s -> null), throwsA(NullPointerException.class));
+    }
+
+    @Test
+    void flatMapTreatsNullResultAsNone() {
+        assertThat(Options.flatMap("abc", s -> null), is(nullValue()));
+        assertThat(Options.flatMapOption("abc", s -> some(s.length())), is(3));
+        assertThat(Options.flatMapOption("abc", s -> none()), is(nullValue()));
+    }
+
+    @Test
+    void filterAndUnwrapOrMatchOption() {
+        for (String input : new String[] {null, "a", "abc"}) {
+            assertThat(
+                Options.unwrapOr(Options.filter(input, s -> s.length() > 1), "default"),
+                is(Option.maybe(input).filter(s -> s.length() > 1).unwrapOr("default"))
+            );
+        }
+    }
+
+    @Test
+    void orElseIsOnlyEvaluatedOnNull() {
+        assertThat(Options.orElse("a", () -> { throw new AssertionError(); }), is("a"));
+        assertThat(Options.orElse(null, () -> "b"), is("b"));
+    }
+
+    @Test
+    void xorReturnsTheOnlyPresentValue() {
+        assertThat(Options.xor("a", null), is("a"));
+        assertThat(Options.xor(null, "b"), is("b"));
+        assertThat(Options.xor("a", "b"), is(nullValue()));
+    }
+
+    @Test
+    void unwrappingNullPanics() {
+        assertThat(() -> Options.unwrap(null), throwsA(UnwrappedNone.class));
+    }
+
+    @Test
+    void convertsToAndFromOption() {
+        assertThat(Options.toOption("a"), is(some("a")));
+        assertThat(Options.toOption(null), is(none()));
+        assertThat(Options.fromOption(some("a")), is("a"));
+        assertThat(Options.fromOption(none()), is(nullValue()));
+    }
+}
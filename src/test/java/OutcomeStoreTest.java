@@ -0,0 +1,126 @@
+import io.github.luccaflower.codec.*;
+import io.github.luccaflower.result.*;
+import io.github.luccaflower.store.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.*;
+
+import static io.github.luccaflower.result.Result.err;
+import static io.github.luccaflower.result.Result.ok;
+import static matchers.Matchers.throwsA;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class OutcomeStoreTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsBackWhatWasAppended() throws IOException {
+        try (var store = OutcomeStore.create(directory.resolve("store"), ValueCodec.utf8())) {
+            store.append(ok("a")).append(err(new IllegalStateException("boom"))).append(ok("ü"));
+            assertThat(
+                store.stream().collect(Collectors.toList()),
+                is(List.of(
+                    ok("a"),
+                    err(new DecodedException(IllegalStateException.class.getName(), "boom")),
+                    ok("ü")
+                ))
+            );
+            assertThat(store.okCount(), is(2L));
+            assertThat(store.errCount(), is(1L));
+        }
+    }
+
+    @Test
+    void recordsCrossBufferAndWindowBoundaries() throws IOException {
+        var expected = IntStream.range(0, 5_000)
+            .mapToObj(i -> i % 3 == 0 ? Result.<Integer>err(new DecodedException("E", "#" + i)) : ok(i))
+            .collect(Collectors.toList());
+        try (var store = OutcomeStore.builder(ValueCodec.integers()).bufferSize(16).windowSize(64).temporary()) {
+            store.appendAll(expected.stream());
+            assertThat(store.stream().collect(Collectors.toList()), is(expected));
+            assertThat(store.oks().count(), is(store.okCount()));
+        }
+    }
+
+    @Test
+    void growsBufferForRecordsLargerThanIt() throws IOException {
+        var large = "x".repeat(10_000);
+        try (var store = OutcomeStore.builder(ValueCodec.utf8()).bufferSize(64).windowSize(128).temporary()) {
+            store.appendOk("small").appendOk(large).appendOk("small");
+            assertThat(store.oks().collect(Collectors.toList()), is(List.of("small", large, "small")));
+        }
+    }
+
+    @Test
+    void failedAppendLeavesNoPartialRecord() throws IOException {
+        var failing = ValueCodec.utf8().<String>map(
+            value -> {
+                if (value.equals("bad")) {
+                    throw new IllegalArgumentException("cannot encode");
+                }
+                return value;
+            },
+            value -> value
+        );
+        try (var store = OutcomeStore.create(directory.resolve("store"), failing)) {
+            store.appendOk("a");
+            long bytes = store.sizeInBytes();
+            assertThat(() -> store.appendOk("bad"), throwsA(IllegalArgumentException.class));
+            assertThat(store.sizeInBytes(), is(bytes));
+            store.appendOk("b");
+            assertThat(store.oks().collect(Collectors.toList()), is(List.of("a", "b")));
+            assertThat(store.size(), is(2L));
+        }
+    }
+
+    @Test
+    void firstErrorsStopsAtTheLimit() throws IOException {
+        try (var store = OutcomeStore.temporary(ValueCodec.longs())) {
+            for (long i = 0; i < 100; i++) {
+                store.append(i % 10 == 0 ? err(new Exception("#" + i)) : ok(i));
+            }
+            assertThat(
+                store.firstErrors(2),
+                is(List.of(new DecodedException(Exception.class.getName(), "#0"), new DecodedException(Exception.class.getName(), "#10")))
+            );
+            assertThat(store.errs().count(), is(10L));
+        }
+    }
+
+    @Test
+    void iteratorsSeeOnlyRecordsAppendedBeforeThem() throws IOException {
+        try (var store = OutcomeStore.temporary(ValueCodec.utf8())) {
+            store.appendOk("a");
+            var iterator = store.iterator();
+            store.appendOk("b");
+            assertThat(iterator.next(), is(ok("a")));
+            assertThat(iterator.hasNext(), is(false));
+        }
+    }
+
+    @Test
+    void temporaryStoreDeletesItsFile() throws IOException {
+        var file = directory.resolve("kept");
+        OutcomeStore.create(file, ValueCodec.utf8()).appendOk("a").close();
+        assertThat(Files.size(file), is(greaterThan(0L)));
+        var temporary = OutcomeStore.temporary(ValueCodec.utf8()).appendOk("a");
+        temporary.close();
+        assertThat(Files.exists(temporary.file()), is(false));
+    }
+
+    @Test
+    void derivedCodecsRoundTrip() throws IOException {
+        var uuids = ValueCodec.utf8().map(UUID::toString, UUID::fromString);
+        var id = UUID.randomUUID();
+        try (var store = OutcomeStore.temporary(uuids)) {
+            store.appendOk(id);
+            assertThat(store.oks().findFirst(), is(Optional.of(id)));
+        }
+    }
+}
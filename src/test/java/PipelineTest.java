@@ -0,0 +1,111 @@
+import io.github.luccaflower.option.*;
+import io.github.luccaflower.result.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.function.*;
+
+import static io.github.luccaflower.option.Option.none;
+import static io.github.luccaflower.option.Option.some;
+import static io.github.luccaflower.result.Result.err;
+import static io.github.luccaflower.result.Result.ok;
+import static matchers.Matchers.throwsA;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class PipelineTest {
+    private static final Exception ERROR = new Exception("error");
+
+    private static final Function<String, Result<Integer>> PARSE = s -> {
+        try {
+            return ok(Integer.parseInt(s));
+        } catch (NumberFormatException e) {
+            return err(ERROR);
+        }
+    };
+
+    @Test
+    void resultPipelineMatchesTheEquivalentChain() {
+        var pipeline = ResultPipeline.<String>start()
+            .map(String::trim)
+            .flatMap(PARSE)
+            .map(i -> i * 2)
+            .compile();
+        for (var input : List.of(" 21 ", "x", "0")) {
+            assertThat(pipeline.apply(input), is(ok(input).map(String::trim).flatMap(PARSE).map(i -> i * 2)));
+        }
+    }
+
+    @Test
+    void resultPipelineRecoversWithFlatMapErr() {
+        var pipeline = ResultPipeline.<String>start()
+            .flatMap(PARSE)
+            .mapErr(e -> new IllegalStateException(e))
+            .flatMapErr(e -> e.getCause() == ERROR ? ok(-1) : err(e))
+            .map(i -> i + 1)
+            .compile();
+        assertThat(pipeline.apply("x"), is(ok(0)));
+    }
+
+    @Test
+    void resultPipelineRunsOnErrInput() {
+        var pipeline = ResultPipeline.<Integer>start()
+            .map(i -> i + 1)
+            .mapErr(e -> new IllegalStateException(e))
+            .compileForResult();
+        assertThat(pipeline.apply(ok(1)), is(ok(2)));
+        assertThat(pipeline.apply(err(ERROR)).unwrapErr().getCause(), is(ERROR));
+    }
+
+    @Test
+    void resultPipelineUnwrapsWithDefault() {
+        var pipeline = ResultPipeline.<String>start().flatMap(PARSE).compileUnwrapOr(-1);
+        assertThat(pipeline.apply("7"), is(7));
+        assertThat(pipeline.apply("x"), is(-1));
+    }
+
+    @Test
+    void pipelinesAreImmutable() {
+        var base = ResultPipeline.<Integer>start().map(i -> i + 1);
+        base.map(i -> i * 100);
+        assertThat(base.size(), is(1));
+        assertThat(base.apply(1), is(ok(2)));
+    }
+
+    @Test
+    void optionPipelineMatchesTheEquivalentChain() {
+        var pipeline = OptionPipeline.<Integer>start()
+            .map(i -> i + 1)
+            .filter(i -> i % 2 == 0)
+            .flatMap(i -> i > 10 ? none() : some(i * 10))
+            .compile();
+        assertThat(pipeline.apply(1), is(some(20)));
+        assertThat(pipeline.apply(2), is(none()));
+        assertThat(pipeline.apply(11), is(none()));
+        assertThat(pipeline.apply(null), is(none()));
+    }
+
+    @Test
+    void optionPipelineFallsBackWithOrElse() {
+        var pipeline = OptionPipeline.<Integer>start()
+            .filter(i -> i > 0)
+            .orElse(() -> some(0))
+            .compileForOption();
+        assertThat(pipeline.apply(some(-5)), is(some(0)));
+        assertThat(pipeline.apply(none()), is(some(0)));
+        assertThat(pipeline.apply(some(3)), is(some(3)));
+    }
+
+    @Test
+    void optionPipelineUnwrapsWithDefault() {
+        var pipeline = OptionPipeline.<String>start().map(String::length).compileUnwrapOr(-1);
+        assertThat(pipeline.apply("abc"), is(3));
+        assertThat(pipeline.apply(null), is(-1));
+    }
+
+    @Test
+    void unwrapOrRejectsNullDefaultLikeTheMethods() {
+        assertThat(() -> OptionPipeline.<String>start().compileUnwrapOr(null), throwsA(NullPointerException.class));
+        assertThat(() -> ResultPipeline.<String>start().compileUnwrapOr(null), throwsA(NullPointerException.class));
+    }
+}
@@ -0,0 +1,132 @@
+import io.github.luccaflower.option.*;
+import io.github.luccaflower.result.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.stream.*;
+
+import static matchers.Matchers.throwsA;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class PrimitiveTest {
+    @Test
+    void someIntMapsWithoutBoxing() {
+        assertThat(OptionInt.some(20).map(v -> v + 1).unwrap(), is(21));
+    }
+
+    @Test
+    void noneIntReturnsDefault() {
+        assertThat(OptionInt.none().map(v -> v + 1).unwrapOr(-1), is(-1));
+    }
+
+    @Test
+    void unwrappingNoneLongThrows() {
+        assertThat(OptionLong.none()::unwrap, throwsA(UnwrappedNone.class));
+    }
+
+    @Test
+    void optionIntConvertsToAndFromGenericOption() {
+        assertThat(OptionInt.some(7).boxed(), is(Option.some(7)));
+        assertThat(OptionInt.from(Option.some(7)), is(OptionInt.some(7)));
+        assertThat(OptionInt.from(Option.none()), is(OptionInt.none()));
+    }
+
+    @Test
+    void optionDoubleConvertsToAndFromOptional() {
+        assertThat(OptionDouble.from(OptionalDouble.of(1.5)).toOptional(), is(OptionalDouble.of(1.5)));
+        assertThat(OptionDouble.from(OptionalDouble.empty()), is(OptionDouble.none()));
+    }
+
+    @Test
+    void someIntMapsToOtherPrimitives() {
+        assertThat(OptionInt.some(3).mapToLong(v -> v * 10L), is(OptionLong.some(30L)));
+        assertThat(OptionInt.some(3).mapToDouble(v -> v / 2.0), is(OptionDouble.some(1.5)));
+    }
+
+    @Test
+    void optionIntStreamsItsValue() {
+        assertThat(
+            Stream.of(OptionInt.some(1), OptionInt.none(), OptionInt.some(2))
+                .flatMapToInt(OptionInt::stream)
+                .sum(),
+            is(3)
+        );
+    }
+
+    @Test
+    void okLongMapsWithoutBoxing() {
+        assertThat(ResultLong.ok(41L).map(v -> v + 1).unwrap(), is(42L));
+    }
+
+    @Test
+    void errLongKeepsItsError() {
+        var error = new Exception();
+        assertThat(ResultLong.err(error).map(v -> v + 1).unwrapErr(), is(error));
+    }
+
+    @Test
+    void resultIntConvertsToAndFromGenericResult() {
+        var error = new Exception();
+        assertThat(ResultInt.ok(5).boxed(), is(Result.ok(5)));
+        assertThat(ResultInt.from(Result.ok(5)), is(ResultInt.ok(5)));
+        assertThat(ResultInt.from(Result.err(error)), is(ResultInt.err(error)));
+    }
+
+    @Test
+    void resultIntOkToOptionIsSome() {
+        assertThat(ResultInt.ok(5).okToOption(), is(OptionInt.some(5)));
+    }
+
+    @Test
+    void resultIntAndCollectorCollectsEveryValue() {
+        int[] values = IntStream.range(0, 1000).parallel()
+            .mapToObj(ResultInt::ok)
+            .collect(ResultInt.andCollector())
+            .unwrap();
+        assertThat(values, is(IntStream.range(0, 1000).toArray()));
+    }
+
+    @Test
+    void resultIntAndCollectorReturnsFirstError() {
+        var first = new Exception("first");
+        assertThat(
+            Stream.of(ResultInt.ok(1), ResultInt.err(first), ResultInt.err(new Exception()))
+                .collect(ResultInt.andCollector()),
+            is(Result.err(first))
+        );
+    }
+
+    @Test
+    void optionLongOrCollectorSkipsNones() {
+        long[] values = Stream.of(OptionLong.some(1), OptionLong.none(), OptionLong.some(3))
+            .collect(OptionLong.orCollector())
+            .unwrap();
+        assertThat(values, is(new long[] {1, 3}));
+    }
+
+    @Test
+    void optionLongAndCollectorIsNoneWithSingleNone() {
+        assertThat(
+            Stream.of(OptionLong.some(1), OptionLong.none())
+                .collect(OptionLong.andCollector()),
+            is(Option.none())
+        );
+    }
+
+    @Test
+    void someIntMatchesRejectsNullResultLikeSome() {
+        assertThat(() -> OptionInt.some(1).matches(v -> null, () -> "none"), throwsA(NullPointerException.class));
+    }
+
+    @Test
+    void primitiveResultMatchesRejectsNullResultLikeResult() {
+        var error = new Exception();
+        assertThat(() -> ResultInt.ok(1).matches(v -> null, e -> "err"), throwsA(NullPointerException.class));
+        assertThat(() -> ResultInt.err(error).matches(v -> "ok", e -> null), throwsA(NullPointerException.class));
+        assertThat(() -> ResultLong.ok(1).matches(v -> null, e -> "err"), throwsA(NullPointerException.class));
+        assertThat(() -> ResultLong.err(error).matches(v -> "ok", e -> null), throwsA(NullPointerException.class));
+        assertThat(() -> ResultDouble.ok(1).matches(v -> null, e -> "err"), throwsA(NullPointerException.class));
+        assertThat(() -> ResultDouble.err(error).matches(v -> "ok", e -> null), throwsA(NullPointerException.class));
+    }
+}
@@ -2,6 +2,7 @@ import dummy.*;
 import io.github.luccaflower.result.*;
 import org.junit.jupiter.api.*;
 
+import java.net.*;
 import java.util.*;
 import java.util.stream.*;
 
@@ -9,6 +10,7 @@ import static matchers.Matchers.throwsAn;
 import static io.github.luccaflower.option.Option.none;
 import static io.github.luccaflower.option.Option.some;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static io.github.luccaflower.result.Result.err;
 import static io.github.luccaflower.result.Result.ok;
@@ -184,4 +186,167 @@ class ResultTest {
             is(ok(1))
         );
     }
+
+    @Test
+    void expectOnErrorThrowsWithReason() {
+        assertThat(
+            () -> err().expect("reason"),
+            throwsAn(UnwrappedErrorExpectingOk.class)
+        );
+    }
+
+    @Test
+    void expectErrOnOkThrowsWithMessage() {
+        assertThat(
+            () -> ok().expectErr("message"),
+            throwsAn(UnwrappedOkExpectingError.class)
+        );
+    }
+
+    @Test
+    void forwardingResultDelegatesToInner() {
+        ForwardingResult<String> forwarding = () -> err();
+        assertThat(forwarding.unwrapOr("default"), is("default"));
+        assertThat(forwarding.isErr(), is(true));
+    }
+
+    @Test
+    void errPropagatesItselfThroughFlatMap() {
+        Result<Integer> error = err();
+        assertThat(error.flatMap(Result::ok), is(sameInstance(error)));
+    }
+
+    @Test
+    void smallOkValuesAreShared() {
+        assertThat(ok(), is(sameInstance(ok())));
+        assertThat(ok(true), is(sameInstance(ok(true))));
+        assertThat(ok(42), is(sameInstance(ok(42))));
+    }
+
+    @Test
+    void extremeCacheRangesAreClamped() throws Exception {
+        System.setProperty("union.cache.low", String.valueOf(Integer.MIN_VALUE));
+        System.setProperty("union.cache.high", String.valueOf(Integer.MAX_VALUE));
+        var classes = new URL[] {ValueCache.class.getProtectionDomain().getCodeSource().getLocation()};
+        try (var loader = new URLClassLoader(classes, null)) {
+            var cache = loader.loadClass(ValueCache.class.getName());
+            assertThat(cache.getMethod("size").invoke(null), is(ValueCache.MAX_SIZE));
+            assertThat(cache.getMethod("low").invoke(null), is(Integer.MIN_VALUE));
+            assertThat(cache.getMethod("high").invoke(null), is(Integer.MIN_VALUE + ValueCache.MAX_SIZE - 1));
+        } finally {
+            System.clearProperty("union.cache.low");
+            System.clearProperty("union.cache.high");
+        }
+    }
+
+    @Test
+    void andCollectorKeepsEncounterOrderOnParallelStreams() {
+        List<Integer> expected = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+        assertThat(
+            expected.parallelStream().map(Result::ok).collect(Result.andCollector()),
+            is(ok(expected))
+        );
+    }
+
+    @Test
+    void andCollectorReturnsFirstError() {
+        var first = new Exception("first");
+        assertThat(
+            Stream.<Result<Integer>>of(ok(1), err(first), ok(2), err(new Exception("second")))
+                .parallel()
+                .collect(Result.andCollector()),
+            is(err(first))
+        );
+    }
+
+    @Test
+    void orCollectorReturnsLastErrorUnwrapped() {
+        var last = new Exception("last");
+        assertThat(
+            Stream.<Result<Integer>>of(err(new Exception("first")), err(last))
+                .collect(Result.orCollector()),
+            is(err(last))
+        );
+    }
+
+    @Test
+    void collectorsAreOrdered() {
+        assertThat(
+            Result.andCollector().characteristics().contains(Collector.Characteristics.UNORDERED),
+            is(false)
+        );
+        assertThat(
+            Result.orCollector().characteristics().contains(Collector.Characteristics.UNORDERED),
+            is(false)
+        );
+    }
+
+    @Test
+    void traverseStopsAtFirstError() {
+        var visited = new ArrayList<Integer>();
+        Result<List<Integer>> result = Result.traverse(List.of(1, 2, 3, 4), i -> {
+            visited.add(i);
+            return i == 2 ? err() : ok(i);
+        });
+        assertThat(result.isErr(), is(true));
+        assertThat(visited, is(List.of(1, 2)));
+    }
+
+    @Test
+    void traverseCollectsEveryOk() {
+        assertThat(Result.traverse(List.of(1, 2, 3), i -> ok(i * 2)), is(ok(List.of(2, 4, 6))));
+    }
+
+    @Test
+    void sequenceLeavesIteratorAfterFirstError() {
+        Iterator<Result<Integer>> results = List.<Result<Integer>>of(ok(1), err(), ok(3)).iterator();
+        assertThat(Result.sequence(results).isErr(), is(true));
+        assertThat(results.next(), is(ok(3)));
+    }
+
+    @Test
+    void sequenceOverSpliteratorCollectsEveryOk() {
+        assertThat(
+            Result.sequence(Stream.of(ok(1), ok(2)).spliterator()),
+            is(ok(List.of(1, 2)))
+        );
+    }
+
+    @Test
+    void tryFoldAccumulatesUntilError() {
+        assertThat(Result.tryFold(List.of(1, 2, 3), 0, (sum, i) -> ok(sum + i)), is(ok(6)));
+        assertThat(
+            Result.tryFold(List.of(1, 2, 3), 0, (sum, i) -> i == 3 ? err() : ok(sum + i)),
+            is(err())
+        );
+    }
+
+    @Test
+    void tryForEachFillsCallerAccumulator() {
+        var seen = new StringBuilder();
+        assertThat(
+            Result.tryForEach(List.of("a", "b"), seen, (acc, s) -> ok(acc.append(s))).map(Object::toString),
+            is(ok("ab"))
+        );
+    }
+
+    @Test
+    void partitioningCollectorKeepsEncounterOrderOnParallelStreams() {
+        var error = new Exception();
+        var partition = IntStream.range(0, 10_000).parallel()
+            .mapToObj(i -> i % 3 == 0 ? Result.<Integer>err(error) : ok(i))
+            .collect(Result.partitioningCollector());
+        assertThat(partition.oks(), is(IntStream.range(0, 10_000).filter(i -> i % 3 != 0).boxed().collect(Collectors.toList())));
+        assertThat(partition.errs().size(), is(3334));
+    }
+
+    @Test
+    void partitioningCollectorFeedsDownstreamCollectors() {
+        var partition = Stream.of(ok("a"), Result.<String>err(new IllegalStateException()), ok("b"), Result.<String>err(new IllegalArgumentException()))
+            .collect(Result.partitioningCollector(
+                Collectors.joining(),
+                Collectors.mapping(e -> e.getClass().getSimpleName(), Collectors.toList())
+            ));
+        assertThat(partition, is(Partition.of("ab", List.of("IllegalStateException", "IllegalArgumentException"))));
+    }
 }
@@ -0,0 +1,80 @@
+import io.github.luccaflower.option.*;
+import io.github.luccaflower.result.*;
+import io.github.luccaflower.trace.*;
+import org.junit.jupiter.api.*;
+
+import static io.github.luccaflower.option.Option.none;
+import static io.github.luccaflower.result.Result.err;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class StackTracePolicyTest {
+    @AfterEach
+    void resetPolicy() {
+        StackTracePolicy.reset();
+        StackTracePolicy.setDebug(false);
+    }
+
+    @Test
+    void capturesStackTracesByDefault() {
+        assertThat(new UnwrappedNone().getStackTrace().length, is(greaterThan(0)));
+    }
+
+    @Test
+    void neverPolicyLeavesStackTraceEmpty() {
+        StackTracePolicy.setDefault(StackTracePolicy.never());
+        assertThat(new UnwrappedNone("reason").getStackTrace().length, is(0));
+        assertThat(err().unwrapErr().getStackTrace().length, is(0));
+    }
+
+    @Test
+    void perTypePolicyOverridesDefault() {
+        StackTracePolicy.set(UnwrappedErrorExpectingOk.class, StackTracePolicy.never());
+        assertThat(
+            new UnwrappedErrorExpectingOk(new Exception()).getStackTrace().length,
+            is(0)
+        );
+        assertThat(new UnwrappedNone().getStackTrace().length, is(greaterThan(0)));
+    }
+
+    @Test
+    void debugOnlyPolicyFollowsDebugMode() {
+        StackTracePolicy.setDefault(StackTracePolicy.debugOnly());
+        assertThat(new UnwrappedOkExpectingError().getStackTrace().length, is(0));
+        StackTracePolicy.setDebug(true);
+        assertThat(new UnwrappedOkExpectingError().getStackTrace().length, is(greaterThan(0)));
+    }
+
+    @Test
+    void sampledOneInOneAlwaysCaptures() {
+        StackTracePolicy.setDefault(StackTracePolicy.sampled(1));
+        assertThat(new UnwrappedNone().getStackTrace().length, is(greaterThan(0)));
+    }
+
+    @Test
+    void stacklessPanicsAreShared() {
+        StackTracePolicy.setDefault(StackTracePolicy.never());
+        assertThat(panicOf(none()), is(sameInstance(panicOf(none()))));
+        assertThat(
+            err().unwrapErr(),
+            is(sameInstance(err().unwrapErr()))
+        );
+    }
+
+    @Test
+    void sharedPanicsCannotBeMutated() {
+        StackTracePolicy.setDefault(StackTracePolicy.never());
+        var shared = err().unwrapErr();
+        shared.addSuppressed(new Exception());
+        assertThat(shared.getSuppressed().length, is(0));
+    }
+
+    private static RuntimeException panicOf(Option<?> option) {
+        try {
+            option.unwrap();
+            throw new AssertionError("expected a panic");
+        } catch (UnwrappedNone e) {
+            return e;
+        }
+    }
+}
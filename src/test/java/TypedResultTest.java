@@ -0,0 +1,78 @@
+import io.github.luccaflower.result.*;
+import io.github.luccaflower.result.typed.Result;
+import org.junit.jupiter.api.*;
+
+import static io.github.luccaflower.result.typed.Result.err;
+import static io.github.luccaflower.result.typed.Result.ok;
+import static matchers.Matchers.throwsA;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class TypedResultTest {
+    enum LookupError { NOT_FOUND, RATE_LIMITED }
+
+    @Test
+    void errorCanBeAnyType() {
+        Result<Integer, LookupError> result = err(LookupError.NOT_FOUND);
+        assertThat(result.unwrapErr(), is(LookupError.NOT_FOUND));
+        assertThat(result.map(v -> v + 1).unwrapOr(0), is(0));
+    }
+
+    @Test
+    void mapErrChangesErrorType() {
+        Result<Integer, String> result = Result.<Integer, LookupError>err(LookupError.RATE_LIMITED)
+            .mapErr(LookupError::name);
+        assertThat(result, is(err("RATE_LIMITED")));
+    }
+
+    @Test
+    void okIgnoresMapErr() {
+        Result<Integer, String> result = Result.<Integer, LookupError>ok(1).mapErr(LookupError::name);
+        assertThat(result, is(ok(1)));
+    }
+
+    @Test
+    void flatMapChainsOks() {
+        Result<Integer, LookupError> result = Result.<Integer, LookupError>ok(1)
+            .flatMap(v -> ok(v + 1))
+            .flatMap(v -> err(LookupError.NOT_FOUND));
+        assertThat(result, is(err(LookupError.NOT_FOUND)));
+    }
+
+    @Test
+    void orFallsBackOnError() {
+        Result<Integer, String> result = Result.<Integer, LookupError>err(LookupError.NOT_FOUND)
+            .or(ok(2));
+        assertThat(result.unwrap(), is(2));
+    }
+
+    @Test
+    void unwrappingErrorPanics() {
+        Result<Integer, LookupError> result = err(LookupError.NOT_FOUND);
+        assertThat(result::unwrap, throwsA(UnwrappedErrorExpectingOk.class));
+    }
+
+    @Test
+    void convertsFromExceptionResult() {
+        var error = new Exception();
+        assertThat(Result.from(io.github.luccaflower.result.Result.ok(1)), is(ok(1)));
+        assertThat(Result.from(io.github.luccaflower.result.Result.err(error)), is(err(error)));
+    }
+
+    @Test
+    void convertsToExceptionResult() {
+        Result<Integer, LookupError> result = err(LookupError.NOT_FOUND);
+        var converted = result.toResult(e -> new IllegalStateException(e.name()));
+        assertThat(converted.unwrapErr().getMessage(), is("NOT_FOUND"));
+        assertThat(
+            Result.<Integer, LookupError>ok(1).toResult(e -> new Exception()),
+            is(io.github.luccaflower.result.Result.ok(1))
+        );
+    }
+
+    @Test
+    void matchesDispatchesOnVariant() {
+        Result<Integer, LookupError> result = err(LookupError.RATE_LIMITED);
+        assertThat(result.matches(v -> "ok", e -> e.name()), is("RATE_LIMITED"));
+    }
+}
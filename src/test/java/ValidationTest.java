@@ -0,0 +1,111 @@
+import io.github.luccaflower.result.*;
+import io.github.luccaflower.validation.*;
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import static io.github.luccaflower.validation.Validation.invalid;
+import static io.github.luccaflower.validation.Validation.valid;
+import static matchers.Matchers.throwsA;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class ValidationTest {
+    private static final Exception FIRST = new Exception("first");
+    private static final Exception SECOND = new Exception("second");
+
+    @Test
+    void andAccumulatesErrorsInOrder() {
+        var result = Validation.<Integer>invalid(FIRST).and(valid(2)).and(invalid(SECOND));
+        assertThat(result.errors().toList(), contains(FIRST, SECOND));
+    }
+
+    @Test
+    void combineAppliesFunctionWhenBothValid() {
+        assertThat(valid(1).combine(valid(2), Integer::sum), is(valid(3)));
+    }
+
+    @Test
+    void combineCollectsBothErrors() {
+        Validation<Integer> result = Validation.<Integer>invalid(FIRST)
+            .combine(Validation.<Integer>invalid(SECOND), Integer::sum);
+        assertThat(result.errors().size(), is(2));
+    }
+
+    @Test
+    void validateRunsEveryRule() {
+        List<Function<String, Validation<?>>> rules = List.of(
+            s -> s.isEmpty() ? invalid(FIRST) : valid(s),
+            s -> s.length() < 3 ? invalid(SECOND) : valid(s)
+        );
+        assertThat(Validation.validate("", rules).errors().toList(), contains(FIRST, SECOND));
+        assertThat(Validation.validate("valid", rules), is(valid("valid")));
+    }
+
+    @Test
+    void collectorGathersEveryError() {
+        var result = Stream.of(valid(1), Validation.<Integer>invalid(FIRST), valid(2), Validation.<Integer>invalid(SECOND))
+            .parallel()
+            .collect(Validation.collector());
+        assertThat(result.errors().toList(), contains(FIRST, SECOND));
+    }
+
+    @Test
+    void collectorReturnsEveryValueWhenValid() {
+        var result = IntStream.range(0, 100).boxed()
+            .map(Validation::valid)
+            .collect(Validation.collector());
+        assertThat(result.unwrap().size(), is(100));
+    }
+
+    @Test
+    void convertsToResultWithAllErrors() {
+        var result = Validation.<Integer>invalid(FIRST).and(invalid(SECOND)).toResult();
+        var exception = (ValidationException) result.unwrapErr();
+        assertThat(exception.errors().toList(), contains(FIRST, SECOND));
+        assertThat(exception.getMessage(), is("2 validation errors: java.lang.Exception: first, java.lang.Exception: second"));
+    }
+
+    @Test
+    void convertsFromResult() {
+        assertThat(Validation.from(Result.ok(1)), is(valid(1)));
+        assertThat(Validation.from(Result.err(FIRST)), is(invalid(FIRST)));
+        var roundTrip = Validation.<Integer>invalid(FIRST).and(invalid(SECOND));
+        assertThat(Validation.from(roundTrip.toResult()), is(roundTrip));
+    }
+
+    @Test
+    void unwrappingInvalidPanics() {
+        assertThat(Validation.invalid(FIRST)::unwrap, throwsA(UnwrappedErrorExpectingOk.class));
+    }
+
+    @Test
+    void deeplyConcatenatedErrorListsIterateWithoutRecursion() {
+        var errors = ErrorList.empty();
+        for (int i = 0; i < 1_000_000; i++) {
+            errors = errors.concat(ErrorList.of(FIRST));
+        }
+        assertThat(errors.size(), is(1_000_000));
+        assertThat(errors.stream().count(), is(1_000_000L));
+    }
+
+    @Test
+    void validationExceptionsSerializeWithTheirErrors() throws Exception {
+        var errors = ErrorList.empty();
+        for (int i = 0; i < 100_000; i++) {
+            errors = errors.concat(ErrorList.of(FIRST));
+        }
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(new ValidationException(errors));
+        }
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            var copy = (ValidationException) in.readObject();
+            assertThat(copy.errors().size(), is(100_000));
+            assertThat(copy.errors().toList().get(0).getMessage(), is("first"));
+        }
+    }
+}
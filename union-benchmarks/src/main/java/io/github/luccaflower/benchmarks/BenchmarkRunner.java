@@ -0,0 +1,32 @@
+package io.github.luccaflower.benchmarks;
+
+import org.openjdk.jmh.*;
+import org.openjdk.jmh.profile.*;
+import org.openjdk.jmh.results.format.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Entry point of the benchmark jar. Accepts the same arguments as the JMH
+ * command line, but attaches the GC profiler and writes machine-readable JSON
+ * results to {@code target/jmh-result.json} unless told otherwise, so runs
+ * can be compared between releases.
+ */
+public final class BenchmarkRunner {
+    private BenchmarkRunner() {}
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        if (cli.shouldHelp() || cli.shouldList()) {
+            Main.main(args);
+            return;
+        }
+        Options options = new OptionsBuilder()
+            .parent(cli)
+            .addProfiler(GCProfiler.class)
+            .resultFormat(cli.getResultFormat().orElse(ResultFormatType.JSON))
+            .result(cli.getResult().orElse("target/jmh-result.json"))
+            .build();
+        new Runner(options).run();
+    }
+}
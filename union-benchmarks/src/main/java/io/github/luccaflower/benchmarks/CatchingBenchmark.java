@@ -0,0 +1,60 @@
+package io.github.luccaflower.benchmarks;
+
+import io.github.luccaflower.result.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * {@link Result#of(Result.CheckedSupplier)}, {@link Catching} and
+ * {@link Result#mapChecked(Result.CheckedFunction)} compared with the
+ * hand-written try/catch they replace, on input that parses and on input
+ * that throws.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CatchingBenchmark {
+    private static final Catching NUMBERS = Catching.only(NumberFormatException.class);
+
+    @Param({"42", "forty-two"})
+    public String input;
+
+    @Benchmark
+    public Result<Integer> tryCatch() {
+        try {
+            return Result.ok(Integer.parseInt(input));
+        } catch (NumberFormatException e) {
+            return Result.err(e);
+        }
+    }
+
+    @Benchmark
+    public Result<Integer> resultOf() {
+        return Result.of(() -> Integer.parseInt(input));
+    }
+
+    @Benchmark
+    public Result<Integer> catchingOnly() {
+        return NUMBERS.of(() -> Integer.parseInt(input));
+    }
+
+    @Benchmark
+    public Result<Integer> mapTryCatch() {
+        return Result.ok(input).flatMap(s -> {
+            try {
+                return Result.ok(Integer.parseInt(s));
+            } catch (NumberFormatException e) {
+                return Result.err(e);
+            }
+        });
+    }
+
+    @Benchmark
+    public Result<Integer> mapChecked() {
+        return Result.ok(input).mapChecked(NUMBERS, Integer::parseInt);
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.luccaflower.benchmarks;
+
+import io.github.luccaflower.option.*;
+import io.github.luccaflower.result.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+/**
+ * The Result and Option collectors over batches of 10 to 10^7 elements,
+ * on sequential and parallel streams. Every batch is all-Ok except for the
+ * last element when {@code failing} is set.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@State(Scope.Benchmark)
+public class CollectorBenchmark {
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    @Param({"false", "true"})
+    public boolean failing;
+
+    private List<Result<Integer>> results;
+    private List<Option<Integer>> options;
+
+    @Setup
+    public void setUp() {
+        results = IntStream.range(0, size)
+            .mapToObj(i -> failing && i == size - 1
+                ? Result.<Integer>err(new Exception("failed"))
+                : Result.ok(i))
+            .collect(Collectors.toList());
+        options = IntStream.range(0, size)
+            .mapToObj(i -> failing && i == size - 1
+                ? Option.<Integer>none()
+                : Option.some(i))
+            .collect(Collectors.toList());
+    }
+
+    @TearDown
+    public void tearDown() {
+        results = null;
+        options = null;
+    }
+
+    @Benchmark
+    public Result<List<Integer>> resultAndCollector() {
+        return stream(results).collect(Result.andCollector());
+    }
+
+    @Benchmark
+    public Result<List<Integer>> resultOrCollector() {
+        return stream(results).collect(Result.orCollector());
+    }
+
+    @Benchmark
+    public Option<List<Integer>> optionAndCollector() {
+        return stream(options).collect(Option.andCollector());
+    }
+
+    @Benchmark
+    public Option<List<Integer>> optionOrCollector() {
+        return stream(options).collect(Option.orCollector());
+    }
+
+    @Benchmark
+    public Partition<List<Integer>, List<Exception>> resultPartitioningCollector() {
+        return stream(results).collect(Result.partitioningCollector());
+    }
+
+    @Benchmark
+    public Map<Boolean, List<Result<Integer>>> resultPartitioningBy() {
+        return stream(results).collect(Collectors.partitioningBy(Result::isOk));
+    }
+
+    @Benchmark
+    public Partition<List<Integer>, Long> optionPartitioningCollector() {
+        return stream(options).collect(Option.partitioningCollector());
+    }
+
+    @Benchmark
+    public List<Integer> plainToList() {
+        return stream(results).map(Result::unwrap).collect(Collectors.toList());
+    }
+
+    private <T> Stream<T> stream(List<T> list) {
+        return parallel ? list.parallelStream() : list.stream();
+    }
+}
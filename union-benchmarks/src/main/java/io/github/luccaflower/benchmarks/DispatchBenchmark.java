@@ -0,0 +1,63 @@
+package io.github.luccaflower.benchmarks;
+
+import io.github.luccaflower.option.*;
+import io.github.luccaflower.result.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Dispatching over the variants with {@code matches} compared with type
+ * patterns on the sealed hierarchy of the Java 17 layer. When built on Java 21
+ * the module also contains {@code SwitchDispatchBenchmark}, which does the same
+ * with an exhaustive switch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DispatchBenchmark {
+    @Param({"ok", "err"})
+    public String variant;
+
+    private Result<Integer> result;
+    private Option<Integer> option;
+
+    @Setup
+    public void setUp() {
+        result = variant.equals("ok") ? Result.ok(1024) : Result.err(new Exception("failed"));
+        option = result.okToOption();
+    }
+
+    @Benchmark
+    public int resultMatches() {
+        return result.matches(v -> v + 1, e -> -1);
+    }
+
+    @Benchmark
+    public int resultTypePattern() {
+        if (result instanceof Ok<Integer> ok) {
+            return ok.value() + 1;
+        } else if (result instanceof Err<Integer>) {
+            return -1;
+        }
+        return result.matches(v -> v + 1, e -> -1);
+    }
+
+    @Benchmark
+    public int optionMatches() {
+        return option.matches(v -> v + 1, () -> -1);
+    }
+
+    @Benchmark
+    public int optionTypePattern() {
+        if (option instanceof Some<Integer> some) {
+            return some.value() + 1;
+        } else if (option instanceof None<Integer>) {
+            return -1;
+        }
+        return option.matches(v -> v + 1, () -> -1);
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.luccaflower.benchmarks;
+
+import io.github.luccaflower.option.*;
+import io.github.luccaflower.result.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Every combinator of {@link Option} on both a Some and a None input.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OptionBenchmark {
+    @Param({"some", "none"})
+    public String variant;
+
+    private Option<Integer> option;
+    private Option<Integer> other;
+    private final Integer fallback = 4096;
+    private final Exception error = new Exception("missing");
+
+    @Setup
+    public void setUp() {
+        option = variant.equals("some") ? Option.some(1024) : Option.none();
+        other = Option.some(2048);
+    }
+
+    @Benchmark
+    public Option<Integer> none() {
+        return Option.none();
+    }
+
+    @Benchmark
+    public Integer unwrapOr() {
+        return option.unwrapOr(fallback);
+    }
+
+    @Benchmark
+    public Integer unwrapOrElse() {
+        return option.unwrapOrElse(() -> fallback);
+    }
+
+    @Benchmark
+    public boolean isSome() {
+        return option.isSome();
+    }
+
+    @Benchmark
+    public boolean isNone() {
+        return option.isNone();
+    }
+
+    @Benchmark
+    public boolean isSomeAnd() {
+        return option.isSomeAnd(v -> v > 0);
+    }
+
+    @Benchmark
+    public Option<Integer> map() {
+        return option.map(v -> v + 1);
+    }
+
+    @Benchmark
+    public Option<Integer> flatMap() {
+        return option.flatMap(v -> other);
+    }
+
+    @Benchmark
+    public Option<Integer> filter() {
+        return option.filter(v -> v > 0);
+    }
+
+    @Benchmark
+    public Integer mapOr() {
+        return option.mapOr(fallback, v -> v + 1);
+    }
+
+    @Benchmark
+    public Integer mapOrElse() {
+        return option.mapOrElse(() -> fallback, v -> v + 1);
+    }
+
+    @Benchmark
+    public Integer matches() {
+        return option.matches(v -> v + 1, () -> fallback);
+    }
+
+    @Benchmark
+    public Option<Integer> and() {
+        return option.and(other);
+    }
+
+    @Benchmark
+    public Option<Integer> or() {
+        return option.or(other);
+    }
+
+    @Benchmark
+    public Option<Integer> orElse() {
+        return option.orElse(() -> other);
+    }
+
+    @Benchmark
+    public Option<Integer> xor() {
+        return option.xor(other);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return option.contains(fallback);
+    }
+
+    @Benchmark
+    public Result<Integer> okOr() {
+        return option.okOr(error);
+    }
+
+    @Benchmark
+    public Option<Integer> ifSome() {
+        return option.ifSome(v -> {});
+    }
+
+    @Benchmark
+    public long stream() {
+        return option.stream().count();
+    }
+
+    @Benchmark
+    public Object expectOrCatch() {
+        try {
+            return option.expect("expected some");
+        } catch (UnwrappedNone e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package io.github.luccaflower.benchmarks;
+
+import io.github.luccaflower.option.*;
+import io.github.luccaflower.result.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * A ten-step chain of combinators over a parsed input, compared with the same
+ * logic compiled into a {@link ResultPipeline} or {@link OptionPipeline}, written
+ * against {@link Optional} and with plain try/catch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PipelineBenchmark {
+    @Param({"valid", "invalid"})
+    public String input;
+
+    private static final Function<String, Integer> RESULT_PIPELINE = ResultPipeline.<String>start()
+        .flatMap(PipelineBenchmark::parseResult)
+        .map(v -> v * 2)
+        .flatMap(v -> v > 0 ? Result.ok(v) : Result.<Integer>err(new IllegalArgumentException()))
+        .map(v -> v + 1)
+        .map(v -> v ^ 0x5f)
+        .flatMap(v -> Result.ok(v - 3))
+        .mapErr(IllegalStateException::new)
+        .map(v -> v / 2)
+        .map(v -> v + 7)
+        .map(v -> v * 3)
+        .compileUnwrapOr(-1);
+
+    private static final Function<String, Integer> OPTION_PIPELINE = OptionPipeline.<String>start()
+        .flatMap(PipelineBenchmark::parseOption)
+        .map(v -> v * 2)
+        .filter(v -> v > 0)
+        .map(v -> v + 1)
+        .map(v -> v ^ 0x5f)
+        .flatMap(v -> Option.some(v - 3))
+        .map(v -> v / 2)
+        .map(v -> v + 7)
+        .map(v -> v * 3)
+        .compileUnwrapOr(-1);
+
+    private String raw;
+
+    @Setup
+    public void setUp() {
+        raw = input.equals("valid") ? "1024" : "not a number";
+    }
+
+    @Benchmark
+    public int result() {
+        return parseResult(raw)
+            .map(v -> v * 2)
+            .flatMap(v -> v > 0 ? Result.ok(v) : Result.err(new IllegalArgumentException()))
+            .map(v -> v + 1)
+            .map(v -> v ^ 0x5f)
+            .flatMap(v -> Result.ok(v - 3))
+            .mapErr(IllegalStateException::new)
+            .map(v -> v / 2)
+            .map(v -> v + 7)
+            .map(v -> v * 3)
+            .unwrapOr(-1);
+    }
+
+    @Benchmark
+    public int resultPipeline() {
+        return RESULT_PIPELINE.apply(raw);
+    }
+
+    @Benchmark
+    public int option() {
+        return parseOption(raw)
+            .map(v -> v * 2)
+            .filter(v -> v > 0)
+            .map(v -> v + 1)
+            .map(v -> v ^ 0x5f)
+            .flatMap(v -> Option.some(v - 3))
+            .map(v -> v / 2)
+            .map(v -> v + 7)
+            .map(v -> v * 3)
+            .unwrapOr(-1);
+    }
+
+    @Benchmark
+    public int optionPipeline() {
+        return OPTION_PIPELINE.apply(raw);
+    }
+
+    @Benchmark
+    public int optional() {
+        return parseOptional(raw)
+            .map(v -> v * 2)
+            .filter(v -> v > 0)
+            .map(v -> v + 1)
+            .map(v -> v ^ 0x5f)
+            .flatMap(v -> Optional.of(v - 3))
+            .map(v -> v / 2)
+            .map(v -> v + 7)
+            .map(v -> v * 3)
+            .orElse(-1);
+    }
+
+    @Benchmark
+    public int tryCatch() {
+        try {
+            int v = Integer.parseInt(raw) * 2;
+            if (v <= 0) {
+                throw new IllegalArgumentException();
+            }
+            v = ((v + 1) ^ 0x5f) - 3;
+            return (v / 2 + 7) * 3;
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    private static Result<Integer> parseResult(String raw) {
+        try {
+            return Result.ok(Integer.parseInt(raw));
+        } catch (NumberFormatException e) {
+            return Result.err(e);
+        }
+    }
+
+    private static Option<Integer> parseOption(String raw) {
+        try {
+            return Option.some(Integer.parseInt(raw));
+        } catch (NumberFormatException e) {
+            return Option.none();
+        }
+    }
+
+    private static Optional<Integer> parseOptional(String raw) {
+        try {
+            return Optional.of(Integer.parseInt(raw));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.luccaflower.benchmarks;
+
+import io.github.luccaflower.option.*;
+import io.github.luccaflower.result.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * A numeric map chain on the boxed Option and Result compared with their
+ * primitive-specialized counterparts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveBenchmark {
+    private final Option<Long> boxedOption = Option.some(100_000L);
+    private final OptionLong primitiveOption = OptionLong.some(100_000L);
+    private final Result<Long> boxedResult = Result.ok(100_000L);
+    private final ResultLong primitiveResult = ResultLong.ok(100_000L);
+
+    @Benchmark
+    public long boxedOption() {
+        return boxedOption.map(v -> v * 3).map(v -> v + 7).filter(v -> v > 0).unwrapOr(-1L);
+    }
+
+    @Benchmark
+    public long primitiveOption() {
+        return primitiveOption.map(v -> v * 3).map(v -> v + 7).filter(v -> v > 0).unwrapOr(-1L);
+    }
+
+    @Benchmark
+    public long boxedResult() {
+        return boxedResult.map(v -> v * 3).map(v -> v + 7).unwrapOr(-1L);
+    }
+
+    @Benchmark
+    public long primitiveResult() {
+        return primitiveResult.map(v -> v * 3).map(v -> v + 7).unwrapOr(-1L);
+    }
+}
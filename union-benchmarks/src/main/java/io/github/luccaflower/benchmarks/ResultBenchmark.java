@@ -0,0 +1,147 @@
+package io.github.luccaflower.benchmarks;
+
+import io.github.luccaflower.option.*;
+import io.github.luccaflower.result.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Every combinator of {@link Result} on both an Ok and an Err input.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultBenchmark {
+    @Param({"ok", "err"})
+    public String variant;
+
+    private Result<Integer> result;
+    private Result<Integer> other;
+    private final Integer fallback = 4096;
+
+    @Setup
+    public void setUp() {
+        result = variant.equals("ok")
+            ? Result.ok(1024)
+            : Result.err(new Exception("failed"));
+        other = Result.ok(2048);
+    }
+
+    @Benchmark
+    public Integer unwrapOr() {
+        return result.unwrapOr(fallback);
+    }
+
+    @Benchmark
+    public Integer unwrapOrElse() {
+        return result.unwrapOrElse(() -> fallback);
+    }
+
+    @Benchmark
+    public boolean isOk() {
+        return result.isOk();
+    }
+
+    @Benchmark
+    public boolean isErr() {
+        return result.isErr();
+    }
+
+    @Benchmark
+    public boolean isOkAnd() {
+        return result.isOkAnd(v -> v > 0);
+    }
+
+    @Benchmark
+    public boolean isErrAnd() {
+        return result.isErrAnd(e -> e.getMessage() != null);
+    }
+
+    @Benchmark
+    public Result<Integer> map() {
+        return result.map(v -> v + 1);
+    }
+
+    @Benchmark
+    public Result<Integer> mapErr() {
+        return result.mapErr(IllegalStateException::new);
+    }
+
+    @Benchmark
+    public Result<Integer> flatMap() {
+        return result.flatMap(v -> other);
+    }
+
+    @Benchmark
+    public Result<Integer> flatMapErr() {
+        return result.flatMapErr(e -> other);
+    }
+
+    @Benchmark
+    public Integer mapOr() {
+        return result.mapOr(fallback, v -> v + 1);
+    }
+
+    @Benchmark
+    public Integer mapOrElse() {
+        return result.mapOrElse(e -> fallback, v -> v + 1);
+    }
+
+    @Benchmark
+    public Integer matches() {
+        return result.matches(v -> v + 1, e -> fallback);
+    }
+
+    @Benchmark
+    public Result<Integer> and() {
+        return result.and(other);
+    }
+
+    @Benchmark
+    public Result<Integer> or() {
+        return result.or(other);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return result.contains(fallback);
+    }
+
+    @Benchmark
+    public Option<Integer> okToOption() {
+        return result.okToOption();
+    }
+
+    @Benchmark
+    public Option<Exception> errToOption() {
+        return result.errToOption();
+    }
+
+    @Benchmark
+    public Result<Integer> ifOk() {
+        return result.ifOk(v -> {});
+    }
+
+    @Benchmark
+    public Result<Integer> ifErr() {
+        return result.ifErr(e -> {});
+    }
+
+    @Benchmark
+    public long stream() {
+        return result.stream().count();
+    }
+
+    @Benchmark
+    public Object expectOrCatch() {
+        try {
+            return result.expect("expected ok");
+        } catch (UnwrappedErrorExpectingOk e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.luccaflower.benchmarks;
+
+import io.github.luccaflower.codec.*;
+import io.github.luccaflower.option.*;
+import io.github.luccaflower.result.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.*;
+import java.util.concurrent.*;
+
+/**
+ * Round trips of a Result and an Option through {@link ResultCodec} and
+ * {@link OptionCodec}, into a reused direct buffer and into a fresh byte
+ * array, compared with Java serialization of the same values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+    private static final ResultCodec<String> RESULTS = ResultCodec.of(ValueCodec.utf8());
+    private static final OptionCodec<Long> OPTIONS = OptionCodec.of(ValueCodec.longs());
+
+    private final Result<String> result = Result.ok("reconciled-0001");
+    private final Option<Long> option = Option.some(42L);
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+
+    @Benchmark
+    public Result<String> resultCodecBuffer() {
+        buffer.clear();
+        RESULTS.write(result, buffer);
+        buffer.flip();
+        return RESULTS.read(buffer);
+    }
+
+    @Benchmark
+    public Result<String> resultCodecBytes() {
+        return RESULTS.decode(RESULTS.encode(result));
+    }
+
+    @Benchmark
+    public Object resultJavaSerialization() throws IOException, ClassNotFoundException {
+        return roundTrip(result);
+    }
+
+    @Benchmark
+    public Option<Long> optionCodecBuffer() {
+        buffer.clear();
+        OPTIONS.write(option, buffer);
+        buffer.flip();
+        return OPTIONS.read(buffer);
+    }
+
+    @Benchmark
+    public Object optionJavaSerialization() throws IOException, ClassNotFoundException {
+        return roundTrip(option);
+    }
+
+    private static Object roundTrip(Object value) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return in.readObject();
+        }
+    }
+}
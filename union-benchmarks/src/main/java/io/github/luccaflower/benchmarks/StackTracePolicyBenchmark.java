@@ -0,0 +1,81 @@
+package io.github.luccaflower.benchmarks;
+
+import io.github.luccaflower.option.*;
+import io.github.luccaflower.result.*;
+import io.github.luccaflower.trace.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * The cost of the Err and panic paths under each {@link StackTracePolicy}.
+ * The {@code debug} policy is measured with debug mode switched off.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StackTracePolicyBenchmark {
+    @Param({"always", "never", "sampled", "debug"})
+    public String policy;
+
+    private final Option<Integer> none = Option.none();
+    private final Result<Integer> err = Result.err(new Exception("failed"));
+
+    @Setup
+    public void setUp() {
+        StackTracePolicy.setDebug(false);
+        switch (policy) {
+            case "never":
+                StackTracePolicy.setDefault(StackTracePolicy.never());
+                break;
+            case "sampled":
+                StackTracePolicy.setDefault(StackTracePolicy.sampled(100));
+                break;
+            case "debug":
+                StackTracePolicy.setDefault(StackTracePolicy.debugOnly());
+                break;
+            default:
+                StackTracePolicy.setDefault(StackTracePolicy.always());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        StackTracePolicy.reset();
+    }
+
+    @Benchmark
+    public Result<Integer> defaultErr() {
+        return Result.err();
+    }
+
+    @Benchmark
+    public Object unwrapNone() {
+        try {
+            return none.unwrap();
+        } catch (UnwrappedNone e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object expectNone() {
+        try {
+            return none.expect("expected some");
+        } catch (UnwrappedNone e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object unwrapErr() {
+        try {
+            return err.unwrap();
+        } catch (UnwrappedErrorExpectingOk e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.luccaflower.benchmarks;
+
+import io.github.luccaflower.option.*;
+import io.github.luccaflower.result.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Exhaustive switch dispatch over the sealed Result and Option hierarchies,
+ * compared with {@code matches}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SwitchDispatchBenchmark {
+    @Param({"ok", "err"})
+    public String variant;
+
+    private Result<Integer> result;
+    private Option<Integer> option;
+
+    @Setup
+    public void setUp() {
+        result = variant.equals("ok") ? Result.ok(1024) : Result.err(new Exception("failed"));
+        option = result.okToOption();
+    }
+
+    @Benchmark
+    public int resultMatches() {
+        return result.matches(v -> v + 1, e -> -1);
+    }
+
+    @Benchmark
+    public int resultSwitch() {
+        return dispatch(result);
+    }
+
+    @Benchmark
+    public int optionMatches() {
+        return option.matches(v -> v + 1, () -> -1);
+    }
+
+    @Benchmark
+    public int optionSwitch() {
+        return dispatch(option);
+    }
+
+    private static int dispatch(Result<Integer> result) {
+        return switch (result) {
+            case Ok<Integer> ok -> ok.value() + 1;
+            case Err<Integer> err -> -1;
+            case ForwardingResult<Integer> forwarding -> dispatch(forwarding.inner());
+        };
+    }
+
+    private static int dispatch(Option<Integer> option) {
+        return switch (option) {
+            case Some<Integer> some -> some.value() + 1;
+            case None<Integer> none -> -1;
+            case ForwardingOption<Integer> forwarding -> dispatch(forwarding.inner());
+        };
+    }
+}